@@ -0,0 +1,19 @@
+package com.app.moviecatalog.v1.common.bulk;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchResult {
+
+    private long batch;
+    private int received;
+    private long inserted;
+    private List<RowError> rejected;
+    private String error;   // set when the whole batch failed to write
+}
@@ -0,0 +1,39 @@
+package com.app.moviecatalog.v1.common.bulk;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkIngestReport {
+
+    private long received;
+    private long inserted;
+    private long rejected;
+    private long failedBatches;
+    private long elapsedMillis;
+    private double rowsPerSecond;
+    private List<BatchResult> batches;
+
+    public static BulkIngestReport of(List<BatchResult> batches, long elapsedNanos) {
+        long received = 0;
+        long inserted = 0;
+        long rejected = 0;
+        long failed = 0;
+        for (BatchResult batch : batches) {
+            received += batch.getReceived();
+            inserted += batch.getInserted();
+            rejected += batch.getRejected().size();
+            if (batch.getError() != null) {
+                failed++;
+            }
+        }
+        final double seconds = Math.max(elapsedNanos, 1) / 1_000_000_000d;
+        return new BulkIngestReport(received, inserted, rejected, failed,
+            elapsedNanos / 1_000_000, inserted / seconds, batches);
+    }
+}
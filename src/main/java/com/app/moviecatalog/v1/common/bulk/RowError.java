@@ -0,0 +1,14 @@
+package com.app.moviecatalog.v1.common.bulk;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RowError {
+
+    private long row;       // 0-based position in the uploaded stream
+    private String reason;
+}
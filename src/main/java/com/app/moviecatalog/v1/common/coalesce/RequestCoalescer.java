@@ -0,0 +1,84 @@
+package com.app.moviecatalog.v1.common.coalesce;
+
+import com.app.moviecatalog.v1.common.version.CatalogVersion;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight for read queries: while a query for a key is in flight,
+ * identical requests subscribe to it instead of starting their own.
+ * Late joiners get every element from the start (the shared query is
+ * replayed), the entry is dropped as soon as the query terminates, and
+ * the query is cancelled only when every subscriber has cancelled.
+ * Nothing is cached past completion, and a request only joins a query
+ * started under the same {@link CatalogVersion}: writes bump the version
+ * after they commit, so a caller that has seen its write succeed never
+ * joins a query that could have started before it.
+ * <p>
+ * The replay keeps every element until the query ends, so only bounded
+ * results belong here; streamed responses read the repository directly.
+ * <p>
+ * Publishes catalog.coalesce.requests and catalog.coalesce.collapsed,
+ * tagged by query name; collapsed / requests is the share of database
+ * round trips saved.
+ */
+@Component
+@RequiredArgsConstructor
+public class RequestCoalescer {
+
+    private final MeterRegistry meterRegistry;
+    private final CatalogVersion catalogVersion;
+
+    private final Map<Key, Flux<?>> inFlight = new ConcurrentHashMap<>();
+
+    private record Key(String query, Object args, long version) {
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> Flux<T> flux(String query, Object args, Supplier<Flux<T>> loader) {
+        return Flux.defer(() -> {
+            final Key key = new Key(query, args, catalogVersion.current());
+            final Flux<?>[] created = new Flux<?>[1];
+
+            final Flux<T> shared = (Flux<T>) inFlight.computeIfAbsent(key, k -> {
+                final Flux<?>[] self = new Flux<?>[1];
+                final Runnable release = () -> inFlight.remove(k, self[0]);
+                // Released before the terminal signal reaches subscribers, so
+                // anyone who saw completion and asks again gets a new query
+                self[0] = Flux.defer(loader)
+                    .doOnTerminate(release)
+                    .doOnCancel(release)
+                    .replay()
+                    .refCount();
+                created[0] = self[0];
+                return self[0];
+            });
+
+            counter("catalog.coalesce.requests", query).increment();
+            if (created[0] == null) {
+                counter("catalog.coalesce.collapsed", query).increment();
+            }
+            return shared;
+        });
+    }
+
+    public <T> Mono<T> mono(String query, Object args, Supplier<Mono<T>> loader) {
+        return flux(query, args, () -> loader.get().flux()).singleOrEmpty();
+    }
+
+    public int inFlight() {
+        return inFlight.size();
+    }
+
+    private Counter counter(String name, String query) {
+        return meterRegistry.counter(name, "query", query);
+    }
+}
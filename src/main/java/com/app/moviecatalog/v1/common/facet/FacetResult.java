@@ -0,0 +1,23 @@
+package com.app.moviecatalog.v1.common.facet;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Filtered items plus, for every facet, the count per value.
+ * Counts for a facet ignore that facet's own filter so clients can
+ * show the alternatives next to the current selection.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FacetResult<T> {
+
+    private List<T> items;
+    private int total;
+    private Map<String, Map<String, Integer>> facets;
+}
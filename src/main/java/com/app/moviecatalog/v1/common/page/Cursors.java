@@ -0,0 +1,48 @@
+package com.app.moviecatalog.v1.common.page;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Encodes keyset positions as opaque, URL-safe continuation tokens.
+ */
+public final class Cursors {
+
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 500;
+
+    private static final String SEPARATOR = "|";
+
+    private Cursors() {
+    }
+
+    public static String encode(String... keys) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(
+            String.join(SEPARATOR, keys).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String[] decode(String cursor, int expectedKeys) {
+        final String[] keys;
+        try {
+            keys = new String(Base64.getUrlDecoder().decode(cursor),
+                StandardCharsets.UTF_8).split("\\" + SEPARATOR, -1);
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        if (keys.length != expectedKeys) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        return keys;
+    }
+
+    public static int limit(String limit) {
+        if (limit == null) {
+            return DEFAULT_LIMIT;
+        }
+        final int value = Integer.parseInt(limit);
+        if (value < 1) {
+            throw new IllegalArgumentException("limit must be positive");
+        }
+        return Math.min(value, MAX_LIMIT);
+    }
+}
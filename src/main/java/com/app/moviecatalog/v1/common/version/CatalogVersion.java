@@ -0,0 +1,29 @@
+package com.app.moviecatalog.v1.common.version;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Monotonic version of the whole catalog, bumped by every movie, screen,
+ * seat and show write. Seeded from the wall clock so a restarted instance
+ * does not hand out versions (and ETags) it already used.
+ */
+@Component
+public class CatalogVersion {
+
+    private final AtomicLong version = new AtomicLong(System.currentTimeMillis());
+
+    public long current() {
+        return version.get();
+    }
+
+    public long bump() {
+        return version.incrementAndGet();
+    }
+
+    // Weak: JSON and NDJSON renderings of one version are equivalent, not byte-identical
+    public String etag() {
+        return "W/\"" + Long.toString(current(), 36) + "\"";
+    }
+}
@@ -30,9 +30,14 @@ public class SecurityConfig {
             .csrf(ServerHttpSecurity.CsrfSpec::disable)
             .authorizeExchange(exchange -> exchange
                 .pathMatchers(HttpMethod.GET, "/movies/**").permitAll()
+                .pathMatchers(HttpMethod.GET, "/shows/search").permitAll()
+                .pathMatchers(HttpMethod.GET, "/shows/now-showing").permitAll()
                 .pathMatchers(HttpMethod.POST, "/movies/admin").hasRole("ADMIN")
+                .pathMatchers(HttpMethod.POST, "/movies/admin/bulk").hasRole("ADMIN")
+                .pathMatchers(HttpMethod.POST, "/theatres/admin").hasRole("ADMIN")
                 .pathMatchers(HttpMethod.POST, "/screens/admin").hasRole("ADMIN")
                 .pathMatchers(HttpMethod.POST, "/shows/admin").hasRole("ADMIN")
+                .pathMatchers(HttpMethod.POST, "/shows/admin/schedule").hasRole("ADMIN")
                 .anyExchange().authenticated()
             )
             .oauth2ResourceServer(oauth2 ->
@@ -1,6 +1,7 @@
 package com.app.moviecatalog.v1.domain;
 
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -29,6 +30,16 @@ public class Movie implements Persistable<UUID> {
     private LocalDate releaseDate;
     private Boolean active;
 
+    // Folded title, language and release date under the unique constraint;
+    // derived from the fields above, never part of the API
+    @JsonIgnore
+    private String naturalKey;
+
+    public Movie(UUID id, String title, String language, String genre,
+                 Integer durationMinutes, LocalDate releaseDate, Boolean active) {
+        this(id, title, language, genre, durationMinutes, releaseDate, active, null);
+    }
+
     @Override
     public boolean isNew() {
         return true;
@@ -0,0 +1,29 @@
+package com.app.moviecatalog.v1.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("outbox_events")
+@Builder
+public class OutboxEvent {
+
+    @Id
+    private Long id;
+
+    private String topic;
+    private String eventKey;
+    // Event as JSON, exactly what goes on the wire
+    private String payload;
+    private LocalDateTime createdAt;
+    private int attempts;
+    private LocalDateTime nextAttemptAt;
+}
@@ -0,0 +1,120 @@
+package com.app.moviecatalog.v1.eventsream.bus;
+
+import org.apache.kafka.common.utils.Utils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-memory transport for running without a broker, on a laptop, in CI
+ * or in benchmarks. Each topic has a fixed number of partitions and each
+ * partition is a ring buffer of the most recent records. Keyed records
+ * are partitioned with Kafka's default murmur2 hash, so a key lands on the
+ * partition number it would in a topic with as many partitions; records
+ * without a key go round-robin. Offsets grow per partition in publish
+ * order. Once a partition holds capacity records the oldest is dropped,
+ * the way retention drops old segments: a reader that falls that far
+ * behind resumes at the oldest record still held.
+ */
+@Component
+@ConditionalOnProperty(name = "catalog.events.transport", havingValue = "embedded")
+public class EmbeddedEventBus implements EventBus {
+
+    private final int partitions;
+    private final int capacity;
+    private final Map<String, Partition[]> topics = new ConcurrentHashMap<>();
+    private final AtomicInteger unkeyed = new AtomicInteger();
+
+    public EmbeddedEventBus(@Value("${catalog.events.embedded.partitions:3}") int partitions,
+                            @Value("${catalog.events.embedded.capacity:65536}") int capacity) {
+        if (partitions < 1 || capacity < 1) {
+            throw new IllegalArgumentException("partitions and capacity must be positive");
+        }
+        this.partitions = partitions;
+        this.capacity = capacity;
+    }
+
+    @Override
+    public Mono<EventReceipt> publish(String topic, String key, Object value) {
+        return Mono.fromSupplier(() -> {
+            final int partition = partitionFor(key);
+            final long offset = partitions(topic)[partition].append(topic, key, value);
+            return new EventReceipt(topic, partition, offset);
+        });
+    }
+
+    /**
+     * Up to max records of the partition from offset on, in offset order.
+     */
+    public List<EventRecord> poll(String topic, int partition, long offset, int max) {
+        return partitions(topic)[partition].read(offset, max);
+    }
+
+    /**
+     * Offset the next record of the partition will get.
+     */
+    public long endOffset(String topic, int partition) {
+        return partitions(topic)[partition].end();
+    }
+
+    public int partitions() {
+        return partitions;
+    }
+
+    int partitionFor(String key) {
+        if (key == null) {
+            return Utils.toPositive(unkeyed.getAndIncrement()) % partitions;
+        }
+        return Utils.toPositive(Utils.murmur2(key.getBytes(StandardCharsets.UTF_8))) % partitions;
+    }
+
+    private Partition[] partitions(String topic) {
+        return topics.computeIfAbsent(topic, k -> {
+            final Partition[] created = new Partition[partitions];
+            for (int i = 0; i < partitions; i++) {
+                created[i] = new Partition(i, capacity);
+            }
+            return created;
+        });
+    }
+
+    private static final class Partition {
+        private final int number;
+        private final EventRecord[] ring;
+        private long end;
+
+        Partition(int number, int capacity) {
+            this.number = number;
+            this.ring = new EventRecord[capacity];
+        }
+
+        synchronized long append(String topic, String key, Object value) {
+            final long offset = end++;
+            ring[(int) (offset % ring.length)] =
+                new EventRecord(topic, number, offset, key, value, System.currentTimeMillis());
+            return offset;
+        }
+
+        synchronized List<EventRecord> read(long offset, int max) {
+            final long from = Math.max(offset, end - ring.length);
+            final int count = (int) Math.max(0, Math.min(max, end - from));
+            final List<EventRecord> records = new ArrayList<>(count);
+            for (long at = from; at < from + count; at++) {
+                records.add(ring[(int) (at % ring.length)]);
+            }
+            return records;
+        }
+
+        synchronized long end() {
+            return end;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.app.moviecatalog.v1.eventsream.bus;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Where events leave the service. Records with the same key land on the
+ * same partition of their topic and keep their send order there, whatever
+ * the transport. Selected by catalog.events.transport: kafka (default)
+ * or embedded.
+ */
+public interface EventBus {
+
+    /**
+     * Completes once the transport has stored the record.
+     */
+    Mono<EventReceipt> publish(String topic, String key, Object value);
+}
@@ -0,0 +1,7 @@
+package com.app.moviecatalog.v1.eventsream.bus;
+
+/**
+ * Where a published record was stored.
+ */
+public record EventReceipt(String topic, int partition, long offset) {
+}
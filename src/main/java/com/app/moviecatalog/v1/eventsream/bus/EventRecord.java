@@ -0,0 +1,8 @@
+package com.app.moviecatalog.v1.eventsream.bus;
+
+/**
+ * A record read back from the embedded transport.
+ */
+public record EventRecord(String topic, int partition, long offset, String key, Object value,
+                          long timestamp) {
+}
@@ -0,0 +1,106 @@
+package com.app.moviecatalog.v1.eventsream.codec;
+
+import com.app.moviecatalog.v1.eventsream.model.ShowCreatedEvent;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+/**
+ * Fixed-width binary form of {@link ShowCreatedEvent}, 82 bytes against
+ * 244 for the JSON. Layout, big-endian:
+ * <pre>
+ * version   1 byte   schema version, 2
+ * present   1 byte   bit 0 showId, 1 movieId, 2 screenId, 3 showTime, 4 eventId
+ * showId   16 bytes  most then least significant bits
+ * movieId  16 bytes
+ * screenId 16 bytes
+ * showTime  8 bytes  epoch millis of the local date-time read as UTC
+ * -- version 2 --
+ * eventId  16 bytes
+ * sequence  8 bytes
+ * </pre>
+ * Absent fields are zero-filled so every field keeps its offset.
+ * Later versions may only append fields: a reader decodes the fields of
+ * the versions it knows and ignores the rest, so producers can move to a
+ * new version before every consumer has.
+ */
+public final class ShowCreatedEventCodec {
+
+    public static final byte VERSION = 2;
+
+    static final int V1_SIZE = 1 + 1 + 3 * 16 + 8;
+    static final int V2_SIZE = V1_SIZE + 16 + 8;
+
+    private static final int SHOW_ID = 1;
+    private static final int MOVIE_ID = 1 << 1;
+    private static final int SCREEN_ID = 1 << 2;
+    private static final int SHOW_TIME = 1 << 3;
+    private static final int EVENT_ID = 1 << 4;
+
+    private ShowCreatedEventCodec() {
+    }
+
+    public static byte[] encode(ShowCreatedEvent event) {
+        final ByteBuffer buffer = ByteBuffer.allocate(V2_SIZE);
+        final int present = (event.getShowId() != null ? SHOW_ID : 0)
+            | (event.getMovieId() != null ? MOVIE_ID : 0)
+            | (event.getScreenId() != null ? SCREEN_ID : 0)
+            | (event.getShowTime() != null ? SHOW_TIME : 0)
+            | (event.getEventId() != null ? EVENT_ID : 0);
+
+        buffer.put(VERSION).put((byte) present);
+        putId(buffer, event.getShowId());
+        putId(buffer, event.getMovieId());
+        putId(buffer, event.getScreenId());
+        buffer.putLong(event.getShowTime() == null ? 0L
+            : event.getShowTime().toInstant(ZoneOffset.UTC).toEpochMilli());
+        putId(buffer, event.getEventId());
+        buffer.putLong(event.getSequence());
+        return buffer.array();
+    }
+
+    public static ShowCreatedEvent decode(byte[] data) {
+        if (data.length < 1 || data[0] < 1) {
+            throw new IllegalArgumentException("Not a binary show event");
+        }
+        final int size = data[0] == 1 ? V1_SIZE : V2_SIZE;
+        if (data.length < size) {
+            throw new IllegalArgumentException(
+                "Show event version " + data[0] + " truncated at " + data.length + " bytes");
+        }
+
+        final ByteBuffer buffer = ByteBuffer.wrap(data, 1, size - 1);
+        final int present = buffer.get();
+        final UUID showId = getId(buffer, (present & SHOW_ID) != 0);
+        final UUID movieId = getId(buffer, (present & MOVIE_ID) != 0);
+        final UUID screenId = getId(buffer, (present & SCREEN_ID) != 0);
+        final long millis = buffer.getLong();
+
+        final ShowCreatedEvent event = ShowCreatedEvent.builder()
+            .showId(showId)
+            .movieId(movieId)
+            .screenId(screenId)
+            .showTime((present & SHOW_TIME) == 0 ? null
+                : LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneOffset.UTC))
+            .build();
+        if (size == V2_SIZE) {
+            event.setEventId(getId(buffer, (present & EVENT_ID) != 0));
+            event.setSequence(buffer.getLong());
+        }
+        return event;
+    }
+
+    private static void putId(ByteBuffer buffer, UUID id) {
+        buffer.putLong(id == null ? 0L : id.getMostSignificantBits());
+        buffer.putLong(id == null ? 0L : id.getLeastSignificantBits());
+    }
+
+    private static UUID getId(ByteBuffer buffer, boolean present) {
+        final long most = buffer.getLong();
+        final long least = buffer.getLong();
+        return present ? new UUID(most, least) : null;
+    }
+}
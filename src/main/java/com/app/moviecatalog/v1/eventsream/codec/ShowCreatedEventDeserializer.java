@@ -0,0 +1,33 @@
+package com.app.moviecatalog.v1.eventsream.codec;
+
+import com.app.moviecatalog.v1.eventsream.model.ShowCreatedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.springframework.kafka.support.JacksonUtils;
+
+import java.io.IOException;
+
+/**
+ * Kafka value deserializer for show.created. Reads the binary form and
+ * also the JSON one, which starts with '{' and never with a version byte,
+ * so consumers can switch before the topic does.
+ */
+public class ShowCreatedEventDeserializer implements Deserializer<ShowCreatedEvent> {
+
+    private final ObjectMapper objectMapper = JacksonUtils.enhancedObjectMapper();
+
+    @Override
+    public ShowCreatedEvent deserialize(String topic, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        try {
+            return data.length > 0 && data[0] == '{'
+                ? objectMapper.readValue(data, ShowCreatedEvent.class)
+                : ShowCreatedEventCodec.decode(data);
+        } catch (IOException | IllegalArgumentException ex) {
+            throw new SerializationException("Could not read show event from " + topic, ex);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.app.moviecatalog.v1.eventsream.codec;
+
+import com.app.moviecatalog.v1.eventsream.model.ShowCreatedEvent;
+import org.apache.kafka.common.serialization.Serializer;
+
+/**
+ * Kafka value serializer writing {@link ShowCreatedEventCodec} records.
+ */
+public class ShowCreatedEventSerializer implements Serializer<ShowCreatedEvent> {
+
+    @Override
+    public byte[] serialize(String topic, ShowCreatedEvent event) {
+        return event == null ? null : ShowCreatedEventCodec.encode(event);
+    }
+}
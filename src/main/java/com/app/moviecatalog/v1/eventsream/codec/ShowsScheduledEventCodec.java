@@ -0,0 +1,128 @@
+package com.app.moviecatalog.v1.eventsream.codec;
+
+import com.app.moviecatalog.v1.eventsream.model.ShowsScheduledEvent;
+import com.app.moviecatalog.v1.eventsream.model.ShowsScheduledEvent.ScheduledShow;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Binary form of {@link ShowsScheduledEvent}. The date is written once and
+ * each movie once, so a show costs 21 bytes. Version 1 layout, big-endian:
+ * <pre>
+ * version   1 byte   schema version, 1
+ * present   1 byte   bit 0 eventId
+ * eventId  16 bytes  zero-filled when absent
+ * sequence  8 bytes
+ * screenId 16 bytes
+ * date      4 bytes  epoch day
+ * movies    1 byte   number of distinct movies, m
+ * movieIds 16 bytes  m times
+ * count     2 bytes  number of shows, unsigned
+ * per show:
+ *   showId  16 bytes
+ *   movie    1 byte  index into movieIds
+ *   time     4 bytes second of the day
+ * </pre>
+ * As with {@link ShowCreatedEventCodec}, later versions may only append:
+ * a reader decodes what it knows and ignores trailing bytes.
+ */
+public final class ShowsScheduledEventCodec {
+
+    public static final byte VERSION = 1;
+
+    static final int HEADER_SIZE = 1 + 1 + 16 + 8 + 16 + 4 + 1 + 2;
+    static final int SHOW_SIZE = 16 + 1 + 4;
+
+    private static final int EVENT_ID = 1;
+
+    private ShowsScheduledEventCodec() {
+    }
+
+    public static byte[] encode(ShowsScheduledEvent event) {
+        if (event.getScreenId() == null || event.getDate() == null || event.getShows() == null) {
+            throw new IllegalArgumentException("Scheduled shows need a screen, a date and shows");
+        }
+        final List<ScheduledShow> shows = event.getShows();
+        if (shows.size() > 0xFFFF) {
+            throw new IllegalArgumentException(shows.size() + " shows do not fit one record");
+        }
+
+        final Map<UUID, Integer> movies = new LinkedHashMap<>();
+        for (ScheduledShow show : shows) {
+            if (show.getShowId() == null || show.getMovieId() == null || show.getShowTime() == null
+                || !show.getShowTime().toLocalDate().equals(event.getDate())) {
+                throw new IllegalArgumentException("Incomplete show or show on another day: " + show);
+            }
+            movies.putIfAbsent(show.getMovieId(), movies.size());
+        }
+        if (movies.size() > 0xFF) {
+            throw new IllegalArgumentException(movies.size() + " movies do not fit one record");
+        }
+
+        final ByteBuffer buffer = ByteBuffer.allocate(
+            HEADER_SIZE + 16 * movies.size() + SHOW_SIZE * shows.size());
+        buffer.put(VERSION).put((byte) (event.getEventId() != null ? EVENT_ID : 0));
+        putId(buffer, event.getEventId());
+        buffer.putLong(event.getSequence());
+        putId(buffer, event.getScreenId());
+        buffer.putInt((int) event.getDate().toEpochDay());
+        buffer.put((byte) movies.size());
+        movies.keySet().forEach(movie -> putId(buffer, movie));
+        buffer.putShort((short) shows.size());
+        for (ScheduledShow show : shows) {
+            putId(buffer, show.getShowId());
+            buffer.put((byte) (int) movies.get(show.getMovieId()));
+            buffer.putInt(show.getShowTime().toLocalTime().toSecondOfDay());
+        }
+        return buffer.array();
+    }
+
+    public static ShowsScheduledEvent decode(byte[] data) {
+        if (data.length < 1 || data[0] < 1) {
+            throw new IllegalArgumentException("Not a binary scheduled shows event");
+        }
+        try {
+            final ByteBuffer buffer = ByteBuffer.wrap(data, 1, data.length - 1);
+            final int present = buffer.get();
+            final UUID eventId = getId(buffer);
+            final long sequence = buffer.getLong();
+            final UUID screenId = getId(buffer);
+            final LocalDate date = LocalDate.ofEpochDay(buffer.getInt());
+
+            final UUID[] movies = new UUID[Byte.toUnsignedInt(buffer.get())];
+            for (int i = 0; i < movies.length; i++) {
+                movies[i] = getId(buffer);
+            }
+            final int count = Short.toUnsignedInt(buffer.getShort());
+            final List<ScheduledShow> shows = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                final UUID showId = getId(buffer);
+                final UUID movieId = movies[Byte.toUnsignedInt(buffer.get())];
+                shows.add(new ScheduledShow(showId, movieId,
+                    date.atStartOfDay().plusSeconds(buffer.getInt())));
+            }
+
+            return new ShowsScheduledEvent((present & EVENT_ID) != 0 ? eventId : null,
+                sequence, screenId, date, shows);
+        } catch (BufferUnderflowException | ArrayIndexOutOfBoundsException ex) {
+            throw new IllegalArgumentException(
+                "Scheduled shows version " + data[0] + " truncated or corrupt at " + data.length + " bytes", ex);
+        }
+    }
+
+    private static void putId(ByteBuffer buffer, UUID id) {
+        buffer.putLong(id == null ? 0L : id.getMostSignificantBits());
+        buffer.putLong(id == null ? 0L : id.getLeastSignificantBits());
+    }
+
+    private static UUID getId(ByteBuffer buffer) {
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
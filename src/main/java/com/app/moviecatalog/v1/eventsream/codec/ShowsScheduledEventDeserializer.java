@@ -0,0 +1,32 @@
+package com.app.moviecatalog.v1.eventsream.codec;
+
+import com.app.moviecatalog.v1.eventsream.model.ShowsScheduledEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.springframework.kafka.support.JacksonUtils;
+
+import java.io.IOException;
+
+/**
+ * Kafka value deserializer for show.scheduled, reading the binary and the
+ * JSON form like {@link ShowCreatedEventDeserializer}.
+ */
+public class ShowsScheduledEventDeserializer implements Deserializer<ShowsScheduledEvent> {
+
+    private final ObjectMapper objectMapper = JacksonUtils.enhancedObjectMapper();
+
+    @Override
+    public ShowsScheduledEvent deserialize(String topic, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        try {
+            return data.length > 0 && data[0] == '{'
+                ? objectMapper.readValue(data, ShowsScheduledEvent.class)
+                : ShowsScheduledEventCodec.decode(data);
+        } catch (IOException | IllegalArgumentException ex) {
+            throw new SerializationException("Could not read scheduled shows from " + topic, ex);
+        }
+    }
+}
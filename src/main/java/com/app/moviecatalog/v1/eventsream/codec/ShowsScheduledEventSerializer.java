@@ -0,0 +1,15 @@
+package com.app.moviecatalog.v1.eventsream.codec;
+
+import com.app.moviecatalog.v1.eventsream.model.ShowsScheduledEvent;
+import org.apache.kafka.common.serialization.Serializer;
+
+/**
+ * Kafka value serializer writing {@link ShowsScheduledEventCodec} records.
+ */
+public class ShowsScheduledEventSerializer implements Serializer<ShowsScheduledEvent> {
+
+    @Override
+    public byte[] serialize(String topic, ShowsScheduledEvent event) {
+        return event == null ? null : ShowsScheduledEventCodec.encode(event);
+    }
+}
@@ -0,0 +1,17 @@
+package com.app.moviecatalog.v1.eventsream.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.List;
+
+/**
+ * catalog.events.binary-topics, bound as a list so that both a YAML
+ * sequence and a comma-separated value work.
+ */
+@ConfigurationProperties("catalog.events")
+public record EventEncodingProperties(List<String> binaryTopics) {
+
+    public EventEncodingProperties {
+        binaryTopics = binaryTopics == null ? List.of() : List.copyOf(binaryTopics);
+    }
+}
@@ -0,0 +1,60 @@
+package com.app.moviecatalog.v1.eventsream.config;
+
+import com.app.moviecatalog.v1.eventsream.codec.ShowCreatedEventSerializer;
+import com.app.moviecatalog.v1.eventsream.codec.ShowsScheduledEventSerializer;
+import com.app.moviecatalog.v1.eventsream.publisher.ShowEventPublisher;
+import org.apache.kafka.common.serialization.Serializer;
+import org.springframework.boot.autoconfigure.kafka.DefaultKafkaProducerFactoryCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.support.serializer.DelegatingByTopicSerializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Value encoding per topic. Topics listed in catalog.events.binary-topics
+ * that have a binary codec get it; everything else stays JSON.
+ */
+@Configuration
+@EnableConfigurationProperties(EventEncodingProperties.class)
+public class KafkaSerializationConfig {
+
+    private static final Map<String, Serializer<?>> BINARY = Map.of(
+        ShowEventPublisher.TOPIC, new ShowCreatedEventSerializer(),
+        ShowEventPublisher.SCHEDULED_TOPIC, new ShowsScheduledEventSerializer());
+
+    @Bean
+    public DefaultKafkaProducerFactoryCustomizer valueSerializerByTopic(
+        EventEncodingProperties encoding) {
+
+        final Map<Pattern, Serializer<?>> delegates = new LinkedHashMap<>();
+        for (String topic : encoding.binaryTopics()) {
+            final Serializer<?> serializer = BINARY.get(topic);
+            if (serializer == null) {
+                throw new IllegalArgumentException("No binary encoding for topic " + topic);
+            }
+            delegates.put(Pattern.compile(Pattern.quote(topic)), serializer);
+        }
+
+        return factory -> {
+            if (delegates.isEmpty()) {
+                return;
+            }
+            // Same JSON as the spring.kafka.producer settings: no type headers
+            final JsonSerializer<Object> json = new JsonSerializer<>();
+            json.setAddTypeInfo(false);
+            setValueSerializer(factory, new DelegatingByTopicSerializer(delegates, json));
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> void setValueSerializer(DefaultKafkaProducerFactory<?, V> factory,
+                                               Serializer<?> serializer) {
+        factory.setValueSerializer((Serializer<V>) serializer);
+    }
+}
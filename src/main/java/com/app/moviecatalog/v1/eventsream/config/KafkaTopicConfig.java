@@ -1,5 +1,7 @@
 package com.app.moviecatalog.v1.eventsream.config;
 
+import com.app.moviecatalog.v1.eventsream.publisher.CatalogChangePublisher;
+import com.app.moviecatalog.v1.eventsream.publisher.ShowEventPublisher;
 import org.apache.kafka.clients.admin.NewTopic;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -15,4 +17,26 @@ public class KafkaTopicConfig {
                 (short) 1  // replication factor
         );
     }
+
+    // Keyed by screen: one record holds a screen's shows for a day
+    @Bean
+    public NewTopic showScheduledTopic() {
+        return new NewTopic(ShowEventPublisher.SCHEDULED_TOPIC, 3, (short) 1);
+    }
+
+    @Bean
+    public NewTopic catalogMoviesTopic() {
+        return new NewTopic(CatalogChangePublisher.MOVIES_TOPIC, 3, (short) 1);
+    }
+
+    @Bean
+    public NewTopic catalogTheatresTopic() {
+        return new NewTopic(CatalogChangePublisher.THEATRES_TOPIC, 3, (short) 1);
+    }
+
+    // Screens and their seats share a key, so this topic must not be compacted
+    @Bean
+    public NewTopic catalogScreensTopic() {
+        return new NewTopic(CatalogChangePublisher.SCREENS_TOPIC, 3, (short) 1);
+    }
 }
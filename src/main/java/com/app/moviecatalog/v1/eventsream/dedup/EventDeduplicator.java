@@ -0,0 +1,198 @@
+package com.app.moviecatalog.v1.eventsream.dedup;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Consumer-side replay filter for events keyed by a UUID and carrying
+ * their key's sequence, numbered 1, 2, 3, ... per topic and key as every
+ * event of this service is. Events of a key can arrive out of sequence
+ * order (two transactions commit in the opposite order, or a redelivery),
+ * so per key it keeps the highest sequence seen and a bitmap of which of
+ * the span sequences below it were seen. Within the span the answer is
+ * exact: a late event is accepted once, however many later ones came
+ * first. A sequence further below the highest is rejected: sequences are
+ * dense per key, so it is older than the key's last span events, which
+ * only a redelivery brings back. Each check costs one hash probe and at
+ * most span bit operations when the highest sequence jumps.
+ * <p>
+ * Keys live in two open-addressing tables of primitive arrays with no
+ * object per key; each slot takes 26 + span / 8 bytes, and a table
+ * has two to four slots per key of maxKeys. When the current
+ * table holds maxKeys, it becomes the previous one and the table before
+ * it is cleared and reused, so memory stays bounded and the keys that go
+ * are the ones not seen for the longest. A key found only in the previous
+ * table is carried over on its next event.
+ * <p>
+ * Not shared between consumers: use one per partition or consumer thread.
+ */
+public final class EventDeduplicator {
+
+    private final int maxKeys;
+    private final int words;
+
+    private Table current;
+    private Table previous;
+
+    /**
+     * @param span sequences tracked exactly below each key's highest,
+     *             rounded up to a multiple of 64
+     */
+    public EventDeduplicator(int maxKeys, int span) {
+        if (maxKeys < 1 || span < 1) {
+            throw new IllegalArgumentException("maxKeys and span must be positive");
+        }
+        this.maxKeys = maxKeys;
+        this.words = (span + Long.SIZE - 1) / Long.SIZE;
+        this.current = new Table(maxKeys, words);
+        this.previous = new Table(maxKeys, words);
+    }
+
+    /**
+     * Records the event and returns true the first time (key, sequence) is
+     * seen, false for a replay.
+     */
+    public synchronized boolean firstSeen(UUID key, long sequence) {
+        final long most = key.getMostSignificantBits();
+        final long least = key.getLeastSignificantBits();
+
+        int slot = current.find(most, least);
+        if (slot < 0) {
+            if (current.size == maxKeys) {
+                rotate();
+            }
+            slot = current.insert(most, least);
+            final int carried = previous.find(most, least);
+            if (carried >= 0) {
+                current.copy(slot, previous, carried);
+            }
+        }
+        return current.accept(slot, sequence);
+    }
+
+    public synchronized int size() {
+        return current.size;
+    }
+
+    private void rotate() {
+        final Table spare = previous;
+        spare.clear();
+        previous = current;
+        current = spare;
+    }
+
+    private static final class Table {
+
+        private final int mask;
+        private final int words;
+        private final long span;
+        private final boolean[] used;
+        private final long[] most;
+        private final long[] least;
+        private final boolean[] seen;
+        private final long[] highest;
+        // words per slot: a ring with one bit per sequence, bit s % span
+        private final long[] bits;
+        private int size;
+
+        Table(int maxKeys, int words) {
+            // At most half full, so probe runs stay short
+            final int capacity = Integer.highestOneBit(Math.max(2, maxKeys) * 2 - 1) << 1;
+            this.mask = capacity - 1;
+            this.words = words;
+            this.span = (long) words * Long.SIZE;
+            this.used = new boolean[capacity];
+            this.most = new long[capacity];
+            this.least = new long[capacity];
+            this.seen = new boolean[capacity];
+            this.highest = new long[capacity];
+            this.bits = new long[capacity * words];
+        }
+
+        int find(long hi, long lo) {
+            for (int i = index(hi, lo); used[i]; i = (i + 1) & mask) {
+                if (most[i] == hi && least[i] == lo) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        int insert(long hi, long lo) {
+            int i = index(hi, lo);
+            while (used[i]) {
+                i = (i + 1) & mask;
+            }
+            used[i] = true;
+            most[i] = hi;
+            least[i] = lo;
+            seen[i] = false;
+            size++;
+            return i;
+        }
+
+        void copy(int slot, Table from, int fromSlot) {
+            seen[slot] = from.seen[fromSlot];
+            highest[slot] = from.highest[fromSlot];
+            System.arraycopy(from.bits, fromSlot * words, bits, slot * words, words);
+        }
+
+        boolean accept(int slot, long sequence) {
+            final int base = slot * words;
+            if (!seen[slot]) {
+                Arrays.fill(bits, base, base + words, 0L);
+                seen[slot] = true;
+                highest[slot] = sequence;
+                set(base, sequence);
+                return true;
+            }
+            final long high = highest[slot];
+            if (sequence > high) {
+                // Bits of the sequences the ring moves past describe older ones
+                if (sequence - high >= span) {
+                    Arrays.fill(bits, base, base + words, 0L);
+                } else {
+                    for (long s = high + 1; s < sequence; s++) {
+                        clear(base, s);
+                    }
+                }
+                highest[slot] = sequence;
+                set(base, sequence);
+                return true;
+            }
+            if (high - sequence >= span) {
+                return false;
+            }
+            if (isSet(base, sequence)) {
+                return false;
+            }
+            set(base, sequence);
+            return true;
+        }
+
+        void clear() {
+            Arrays.fill(used, false);
+            size = 0;
+        }
+
+        private void set(int base, long sequence) {
+            final long bit = Math.floorMod(sequence, span);
+            bits[base + (int) (bit >>> 6)] |= 1L << bit;
+        }
+
+        private void clear(int base, long sequence) {
+            final long bit = Math.floorMod(sequence, span);
+            bits[base + (int) (bit >>> 6)] &= ~(1L << bit);
+        }
+
+        private boolean isSet(int base, long sequence) {
+            final long bit = Math.floorMod(sequence, span);
+            return (bits[base + (int) (bit >>> 6)] & (1L << bit)) != 0;
+        }
+
+        private int index(long hi, long lo) {
+            final long h = (hi ^ lo) * 0x9E3779B97F4A7C15L;
+            return (int) (h >>> 32) & mask;
+        }
+    }
+}
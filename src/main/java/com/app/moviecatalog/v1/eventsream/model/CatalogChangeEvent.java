@@ -0,0 +1,37 @@
+package com.app.moviecatalog.v1.eventsream.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A committed write to a catalog aggregate, carrying the full new state so
+ * consumers can upsert it into their own cache. Versions come from the
+ * sequence of the record key: an aggregate's versions only ever increase,
+ * so a consumer keeps the highest version it has seen per aggregateId and
+ * discards anything older arriving late. The version is also the event's
+ * sequence under its record key for {@code EventDeduplicator}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CatalogChangeEvent {
+
+    public enum AggregateType { MOVIE, THEATRE, SCREEN, SCREEN_SEAT }
+
+    public enum ChangeType { CREATED }
+
+    private UUID eventId;
+    private AggregateType aggregateType;
+    private UUID aggregateId;
+    private long version;
+    private ChangeType changeType;
+    private LocalDateTime occurredAt;
+    // Movie, Theatre, Screen or ScreenSeat as returned by the API
+    private Object state;
+}
@@ -14,6 +14,10 @@ import java.util.UUID;
 @AllArgsConstructor
 public class ShowCreatedEvent {
 
+    // Assigned once when the event enters the outbox, so a redelivery
+    // carries the same id and sequence as the original
+    private UUID eventId;
+    private long sequence;
     private UUID showId;
     private UUID movieId;
     private UUID screenId;
@@ -0,0 +1,40 @@
+package com.app.moviecatalog.v1.eventsream.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The shows created for one screen on one day, as a single record keyed by
+ * the screen. Sent on show.scheduled instead of one {@link ShowCreatedEvent}
+ * per show when catalog.events.batch-by-screen-day is on.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ShowsScheduledEvent {
+
+    private UUID eventId;
+    private long sequence;
+    private UUID screenId;
+    private LocalDate date;
+    private List<ScheduledShow> shows;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ScheduledShow {
+
+        private UUID showId;
+        private UUID movieId;
+        private LocalDateTime showTime;
+    }
+}
@@ -0,0 +1,102 @@
+package com.app.moviecatalog.v1.eventsream.publisher;
+
+import com.app.moviecatalog.v1.domain.Movie;
+import com.app.moviecatalog.v1.domain.OutboxEvent;
+import com.app.moviecatalog.v1.domain.Screen;
+import com.app.moviecatalog.v1.domain.ScreenSeat;
+import com.app.moviecatalog.v1.domain.Theatre;
+import com.app.moviecatalog.v1.eventsream.model.CatalogChangeEvent;
+import com.app.moviecatalog.v1.eventsream.model.CatalogChangeEvent.AggregateType;
+import com.app.moviecatalog.v1.eventsream.model.CatalogChangeEvent.ChangeType;
+import com.app.moviecatalog.v1.repository.OutboxRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Writes catalog change events to the outbox, like {@link ShowEventPublisher}:
+ * subscribe inside the transaction that saves the rows. Each aggregate
+ * family has its own topic keyed by aggregate id, except seats, which go
+ * to the screens topic keyed by their screen so that a screen and its
+ * seat layout share a partition. The relay keeps a key's events in
+ * outbox order across retries, but events written by concurrent
+ * transactions can commit, and so be relayed, out of write order.
+ */
+@Component
+@RequiredArgsConstructor
+public class CatalogChangePublisher {
+
+    public static final String MOVIES_TOPIC = "catalog.movies";
+    public static final String THEATRES_TOPIC = "catalog.theatres";
+    public static final String SCREENS_TOPIC = "catalog.screens";
+
+    private final OutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+
+    public Mono<Void> moviesCreated(List<Movie> movies) {
+        return enqueue(MOVIES_TOPIC, AggregateType.MOVIE, movies, Movie::getId, Movie::getId);
+    }
+
+    public Mono<Void> theatreCreated(Theatre theatre) {
+        return enqueue(THEATRES_TOPIC, AggregateType.THEATRE, List.of(theatre),
+            Theatre::getId, Theatre::getId);
+    }
+
+    public Mono<Void> screenCreated(Screen screen) {
+        return enqueue(SCREENS_TOPIC, AggregateType.SCREEN, List.of(screen),
+            Screen::getId, Screen::getId);
+    }
+
+    public Mono<Void> seatCreated(ScreenSeat seat) {
+        return enqueue(SCREENS_TOPIC, AggregateType.SCREEN_SEAT, List.of(seat),
+            ScreenSeat::getId, ScreenSeat::getScreenId);
+    }
+
+    private <T> Mono<Void> enqueue(String topic, AggregateType type, List<T> states,
+                                   Function<T, UUID> id, Function<T, UUID> key) {
+        if (states.isEmpty()) {
+            return Mono.empty();
+        }
+        final List<String> keys = states.stream().map(state -> key.apply(state).toString()).toList();
+        return outboxRepository.nextSequences(topic, keys)
+            .flatMap(sequences -> {
+                final LocalDateTime now = LocalDateTime.now();
+                final List<OutboxEvent> rows = new ArrayList<>(states.size());
+                for (int i = 0; i < states.size(); i++) {
+                    final T state = states.get(i);
+                    rows.add(OutboxEvent.builder()
+                        .topic(topic)
+                        .eventKey(keys.get(i))
+                        .payload(toJson(CatalogChangeEvent.builder()
+                            .eventId(UUID.randomUUID())
+                            .aggregateType(type)
+                            .aggregateId(id.apply(state))
+                            .version(sequences.get(i))
+                            .changeType(ChangeType.CREATED)
+                            .occurredAt(now)
+                            .state(state)
+                            .build()))
+                        .createdAt(now)
+                        .build());
+                }
+                return outboxRepository.append(rows);
+            })
+            .then();
+    }
+
+    private String toJson(CatalogChangeEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not serialize " + event, ex);
+        }
+    }
+}
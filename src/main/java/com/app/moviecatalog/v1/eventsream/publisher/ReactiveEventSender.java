@@ -0,0 +1,216 @@
+package com.app.moviecatalog.v1.eventsream.publisher;
+
+import com.app.moviecatalog.v1.eventsream.bus.EventBus;
+import com.app.moviecatalog.v1.eventsream.bus.EventReceipt;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.errors.RetriableException;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Kafka transport of the {@link EventBus}, a reactive front for
+ * {@link KafkaTemplate}: {@link #send} completes with the broker's
+ * {@link SendResult} instead of dropping it.
+ * <p>
+ * At most max-in-flight records are handed to the producer at a time;
+ * further sends wait in a queue without holding a thread and start as
+ * acks come back. Callers that send a stream with a bounded flatMap
+ * therefore stop requesting when the producer falls behind; a send that
+ * finds max-queued records already waiting fails at once with an
+ * overflow error instead of growing the queue. The producer
+ * call itself can block (metadata fetch, full buffer up to max.block.ms),
+ * so it runs on a dedicated thread, never on a Reactor thread. One thread
+ * also hands records to the producer in the order they were sent, which
+ * is what keeps records of a key in order on their partition.
+ * Retriable broker errors reported by the producer are retried with
+ * backoff. An ack timeout is not: the record may still be written by the
+ * producer's own retries, so a resend here would duplicate it and let it
+ * overtake later records of its key. send-timeout is therefore checked
+ * at startup against the producer's delivery.timeout.ms (Kafka's default
+ * of two minutes when unset) and must be no shorter.
+ * <p>
+ * Metrics: catalog.events.send timer tagged by topic and outcome,
+ * catalog.events.send.retries and catalog.events.send.rejected counters,
+ * catalog.events.in-flight and catalog.events.queued gauges.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "catalog.events.transport", havingValue = "kafka", matchIfMissing = true)
+public class ReactiveEventSender implements EventBus {
+
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final MeterRegistry meterRegistry;
+    private final int maxQueued;
+    private final Duration sendTimeout;
+    private final int maxRetries;
+    private final Duration retryBackoff;
+    private final Scheduler scheduler;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicReference<FluxSink<Job>> queue = new AtomicReference<>();
+    private final Disposable worker;
+
+    @Autowired
+    public ReactiveEventSender(KafkaTemplate<String, Object> kafkaTemplate,
+                               MeterRegistry meterRegistry,
+                               @Value("${catalog.events.max-in-flight:1000}") int maxInFlight,
+                               @Value("${catalog.events.max-queued:10000}") int maxQueued,
+                               @Value("${catalog.events.send-timeout:130s}") Duration sendTimeout,
+                               @Value("${spring.kafka.producer.properties.delivery.timeout.ms:120000}")
+                               long deliveryTimeoutMs,
+                               @Value("${catalog.events.max-retries:3}") int maxRetries,
+                               @Value("${catalog.events.retry-backoff:100ms}") Duration retryBackoff) {
+        this(kafkaTemplate, meterRegistry, maxInFlight, maxQueued,
+            outlastingDelivery(sendTimeout, Duration.ofMillis(deliveryTimeoutMs)), maxRetries, retryBackoff,
+            Schedulers.newSingle("event-sender", true));
+    }
+
+    // An expired send is not resent, so it must not expire while the producer still retries
+    static Duration outlastingDelivery(Duration sendTimeout, Duration deliveryTimeout) {
+        if (sendTimeout.compareTo(deliveryTimeout) < 0) {
+            throw new IllegalArgumentException("catalog.events.send-timeout " + sendTimeout
+                + " is shorter than the producer's delivery.timeout.ms " + deliveryTimeout);
+        }
+        return sendTimeout;
+    }
+
+    ReactiveEventSender(KafkaTemplate<String, Object> kafkaTemplate, MeterRegistry meterRegistry,
+                        int maxInFlight, int maxQueued, Duration sendTimeout, int maxRetries,
+                        Duration retryBackoff, Scheduler scheduler) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.meterRegistry = meterRegistry;
+        this.maxQueued = maxQueued;
+        this.sendTimeout = sendTimeout;
+        this.maxRetries = maxRetries;
+        this.retryBackoff = retryBackoff;
+        this.scheduler = scheduler;
+
+        Gauge.builder("catalog.events.in-flight", inFlight, AtomicInteger::get).register(meterRegistry);
+        Gauge.builder("catalog.events.queued", queued, AtomicInteger::get).register(meterRegistry);
+
+        // flatMap's concurrency is the in-flight cap; FluxSink serializes
+        // concurrent submitters, and send bounds what it buffers
+        worker = Flux.<Job>create(queue::set)
+            .flatMap(Job::run, maxInFlight)
+            .subscribe();
+    }
+
+    @PreDestroy
+    public void stop() {
+        worker.dispose();
+        scheduler.dispose();
+    }
+
+    public Mono<SendResult<String, Object>> send(String topic, String key, Object value) {
+        return Mono.defer(() -> {
+            if (queued.incrementAndGet() > maxQueued) {
+                queued.decrementAndGet();
+                meterRegistry.counter("catalog.events.send.rejected", "topic", topic).increment();
+                return Mono.error(Exceptions.failWithOverflow(
+                    "Event send queue is full (" + maxQueued + " records)"));
+            }
+            final Job job = new Job(topic, key, value);
+            queue.get().next(job);
+            return job.result.asMono()
+                .doOnCancel(() -> job.cancelled.set(true));
+        });
+    }
+
+    @Override
+    public Mono<EventReceipt> publish(String topic, String key, Object value) {
+        return send(topic, key, value)
+            .map(sent -> new EventReceipt(topic,
+                sent.getRecordMetadata().partition(), sent.getRecordMetadata().offset()));
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    private Mono<SendResult<String, Object>> attempt(Job job) {
+        return Mono.fromFuture(() -> kafkaTemplate.send(job.topic, job.key, job.value))
+            .subscribeOn(scheduler)
+            .timeout(sendTimeout);
+    }
+
+    private static boolean retriable(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            // The producer's delivery timeout, itself an ack timeout
+            if (cause instanceof TimeoutException) {
+                return false;
+            }
+            if (cause instanceof RetriableException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private final class Job {
+        final String topic;
+        final String key;
+        final Object value;
+        final Sinks.One<SendResult<String, Object>> result = Sinks.one();
+        final AtomicBoolean cancelled = new AtomicBoolean();
+
+        Job(String topic, String key, Object value) {
+            this.topic = topic;
+            this.key = key;
+            this.value = value;
+        }
+
+        // Always completes, so a failed send frees its slot
+        Mono<Void> run() {
+            queued.decrementAndGet();
+            if (cancelled.get()) {
+                return Mono.empty();
+            }
+            inFlight.incrementAndGet();
+            final Timer.Sample sample = Timer.start(meterRegistry);
+
+            return attempt(this)
+                .retryWhen(Retry.backoff(maxRetries, retryBackoff)
+                    .filter(ReactiveEventSender::retriable)
+                    .doBeforeRetry(signal -> meterRegistry
+                        .counter("catalog.events.send.retries", "topic", topic).increment())
+                    .onRetryExhaustedThrow((spec, signal) -> signal.failure()))
+                .doOnNext(sent -> {
+                    sample.stop(meterRegistry.timer("catalog.events.send",
+                        "topic", topic, "outcome", "success"));
+                    result.tryEmitValue(sent);
+                })
+                .doOnError(error -> {
+                    sample.stop(meterRegistry.timer("catalog.events.send",
+                        "topic", topic, "outcome", "error"));
+                    result.tryEmitError(error);
+                })
+                .onErrorResume(error -> Mono.empty())
+                .doFinally(signal -> inFlight.decrementAndGet())
+                .then();
+        }
+    }
+}
@@ -1,24 +1,138 @@
 package com.app.moviecatalog.v1.eventsream.publisher;
 
+import com.app.moviecatalog.v1.domain.OutboxEvent;
 import com.app.moviecatalog.v1.eventsream.model.ShowCreatedEvent;
-import lombok.RequiredArgsConstructor;
-import org.springframework.kafka.core.KafkaTemplate;
+import com.app.moviecatalog.v1.eventsream.model.ShowsScheduledEvent;
+import com.app.moviecatalog.v1.eventsream.model.ShowsScheduledEvent.ScheduledShow;
+import com.app.moviecatalog.v1.repository.OutboxRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Writes show events to the outbox instead of sending them. Subscribe
+ * inside the transaction that saves the shows: the events then exist
+ * exactly when the shows do, and {@code OutboxRelay} delivers them to
+ * Kafka off the request path. Each event is stamped here with its event
+ * id and its key's next sequence, which every redelivery repeats.
+ * <p>
+ * With catalog.events.batch-by-screen-day on, shows go out on
+ * {@link #SCHEDULED_TOPIC} instead: one {@link ShowsScheduledEvent} per
+ * screen and day, keyed by the screen so its shows share a partition.
+ * Records are grouped per call, so a bulk load saves records and a single
+ * createShow writes a one-show record.
+ */
 @Component
-@RequiredArgsConstructor
 public class ShowEventPublisher {
 
-    private final KafkaTemplate<String, Object> kafkaTemplate;
+    public static final String TOPIC = "show.created";
+    public static final String SCHEDULED_TOPIC = "show.scheduled";
+
+    private final OutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+    private final boolean batchByScreenDay;
+
+    public ShowEventPublisher(OutboxRepository outboxRepository,
+                              ObjectMapper objectMapper,
+                              @Value("${catalog.events.batch-by-screen-day:false}") boolean batchByScreenDay) {
+        this.outboxRepository = outboxRepository;
+        this.objectMapper = objectMapper;
+        this.batchByScreenDay = batchByScreenDay;
+    }
+
+    public Mono<Void> enqueue(List<ShowCreatedEvent> events) {
+        return Mono.defer(() -> {
+            if (events.isEmpty()) {
+                return Mono.empty();
+            }
+            return batchByScreenDay ? enqueueScheduled(events) : enqueueEach(events);
+        });
+    }
 
-    private static final String TOPIC = "show.created";
+    private Mono<Void> enqueueEach(List<ShowCreatedEvent> events) {
+        final List<String> keys = events.stream().map(event -> event.getShowId().toString()).toList();
+        return outboxRepository.nextSequences(TOPIC, keys)
+            .flatMap(sequences -> {
+                final LocalDateTime now = LocalDateTime.now();
+                final List<OutboxEvent> rows = new ArrayList<>(events.size());
+                for (int i = 0; i < events.size(); i++) {
+                    final ShowCreatedEvent event = events.get(i);
+                    event.setEventId(UUID.randomUUID());
+                    event.setSequence(sequences.get(i));
+                    rows.add(row(TOPIC, event.getShowId(), event, now));
+                }
+                return outboxRepository.append(rows);
+            })
+            .then();
+    }
 
-    public void publish(ShowCreatedEvent event) {
+    private Mono<Void> enqueueScheduled(List<ShowCreatedEvent> events) {
+        final List<ShowsScheduledEvent> batches = byScreenDay(events);
+        final List<String> keys = batches.stream().map(batch -> batch.getScreenId().toString()).toList();
+        return outboxRepository.nextSequences(SCHEDULED_TOPIC, keys)
+            .flatMap(sequences -> {
+                final LocalDateTime now = LocalDateTime.now();
+                final List<OutboxEvent> rows = new ArrayList<>(batches.size());
+                for (int i = 0; i < batches.size(); i++) {
+                    final ShowsScheduledEvent batch = batches.get(i);
+                    batch.setEventId(UUID.randomUUID());
+                    batch.setSequence(sequences.get(i));
+                    rows.add(row(SCHEDULED_TOPIC, batch.getScreenId(), batch, now));
+                }
+                return outboxRepository.append(rows);
+            })
+            .then();
+    }
+
+    /**
+     * Groups the shows by screen and calendar day in the order they were
+     * given, one record per group.
+     */
+    public static List<ShowsScheduledEvent> byScreenDay(List<ShowCreatedEvent> events) {
+        final Map<ScreenDay, List<ScheduledShow>> groups = new LinkedHashMap<>();
+        for (ShowCreatedEvent event : events) {
+            groups.computeIfAbsent(
+                    new ScreenDay(event.getScreenId(), event.getShowTime().toLocalDate()),
+                    key -> new ArrayList<>())
+                .add(new ScheduledShow(event.getShowId(), event.getMovieId(), event.getShowTime()));
+        }
+
+        final List<ShowsScheduledEvent> batches = new ArrayList<>(groups.size());
+        groups.forEach((key, shows) -> batches.add(ShowsScheduledEvent.builder()
+            .screenId(key.screenId())
+            .date(key.date())
+            .shows(List.copyOf(shows))
+            .build()));
+        return batches;
+    }
+
+    private record ScreenDay(UUID screenId, LocalDate date) {
+    }
+
+    private OutboxEvent row(String topic, UUID key, Object event, LocalDateTime now) {
+        return OutboxEvent.builder()
+            .topic(topic)
+            .eventKey(key.toString())
+            .payload(toJson(event))
+            .createdAt(now)
+            .build();
+    }
 
-        kafkaTemplate.send(
-                TOPIC,
-                event.getShowId().toString(),
-                event
-        );
+    private String toJson(Object event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not serialize " + event, ex);
+        }
     }
 }
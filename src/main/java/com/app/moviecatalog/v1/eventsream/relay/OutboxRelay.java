@@ -0,0 +1,397 @@
+package com.app.moviecatalog.v1.eventsream.relay;
+
+import com.app.moviecatalog.v1.domain.OutboxEvent;
+import com.app.moviecatalog.v1.eventsream.bus.EventBus;
+import com.app.moviecatalog.v1.eventsream.model.ShowCreatedEvent;
+import com.app.moviecatalog.v1.eventsream.model.ShowsScheduledEvent;
+import com.app.moviecatalog.v1.eventsream.publisher.ShowEventPublisher;
+import com.app.moviecatalog.v1.eventsream.spill.SpillLog;
+import com.app.moviecatalog.v1.repository.OutboxRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drains the outbox to the {@link EventBus}. Every poll takes up to
+ * batch-size due events in insertion order and publishes them all at
+ * once, which the Kafka transport pipelines up to its in-flight cap;
+ * acked rows are deleted and the rest are retried after an exponential
+ * backoff. A full batch is followed immediately by the next one, so a
+ * backlog drains at transport speed.
+ * <p>
+ * Delivery is at least once: a crash between the ack and the delete, or a
+ * second instance polling the same rows, sends an event again. Events of
+ * one topic and key go out one at a time in outbox order; the first one
+ * not acked holds back the rest of its key, in the batch and, while it
+ * backs off, in later polls, so a retry never overtakes them. After
+ * max-attempts failed sends an event moves to outbox_dead_letters, so one
+ * the broker rejects for good stops holding back its key.
+ * <p>
+ * With a {@link SpillLog} (off by default), events the transport did not
+ * ack move there instead of backing off in the table, and while it holds
+ * any, newly polled events are appended behind them without a send
+ * attempt. Each drain replays the spill log first, in order, and consumes
+ * it only up to the first event not acked (later ones of that batch go
+ * again), so an outage costs one failed batch per poll rather than a
+ * retry per row. Only when the spill log is full, or for an event larger
+ * than a segment, do events fall back to the table's backoff. The event
+ * at the head of the log is dead-lettered after max-attempts failed
+ * replays, so it blocks the log for at most that many polls.
+ * <p>
+ * Metrics: catalog.outbox.pending and catalog.outbox.lag (age of the
+ * oldest pending event, seconds) as gauges; catalog.outbox.published,
+ * catalog.outbox.failed and catalog.outbox.dead-lettered as counters. Set catalog.outbox.relay-enabled to
+ * false to leave the outbox to another instance.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "catalog.outbox.relay-enabled", matchIfMissing = true)
+public class OutboxRelay {
+
+    private static final Map<String, Class<?>> PAYLOAD_TYPES = Map.of(
+        ShowEventPublisher.TOPIC, ShowCreatedEvent.class,
+        ShowEventPublisher.SCHEDULED_TOPIC, ShowsScheduledEvent.class);
+
+    private final OutboxRepository outboxRepository;
+    private final EventBus eventBus;
+    private final ObjectMapper objectMapper;
+    // Null when catalog.outbox.spill.enabled is false
+    private final SpillLog spillLog;
+    private final int batchSize;
+    private final Duration pollInterval;
+    private final Duration retryBackoff;
+    private final Duration maxBackoff;
+    private final int maxAttempts;
+
+    private final AtomicLong pending = new AtomicLong();
+    // Epoch millis of the oldest pending event, 0 when there is none
+    private final AtomicLong oldest = new AtomicLong();
+    private final Counter published;
+    private final Counter failed;
+    private final Counter deadLettered;
+    // Failed replays of the event at the head of the spill log
+    private final AtomicInteger headAttempts = new AtomicInteger();
+
+    private volatile Disposable loop;
+
+    public OutboxRelay(OutboxRepository outboxRepository,
+                       EventBus eventBus,
+                       Optional<SpillLog> spillLog,
+                       ObjectMapper objectMapper,
+                       MeterRegistry meterRegistry,
+                       @Value("${catalog.outbox.batch-size:200}") int batchSize,
+                       @Value("${catalog.outbox.poll-interval:500ms}") Duration pollInterval,
+                       @Value("${catalog.outbox.retry-backoff:1s}") Duration retryBackoff,
+                       @Value("${catalog.outbox.max-backoff:5m}") Duration maxBackoff,
+                       @Value("${catalog.outbox.max-attempts:10}") int maxAttempts) {
+        this.outboxRepository = outboxRepository;
+        this.eventBus = eventBus;
+        this.spillLog = spillLog.orElse(null);
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        this.pollInterval = pollInterval;
+        this.retryBackoff = retryBackoff;
+        this.maxBackoff = maxBackoff;
+        this.maxAttempts = maxAttempts;
+
+        Gauge.builder("catalog.outbox.pending", pending, AtomicLong::get)
+            .register(meterRegistry);
+        Gauge.builder("catalog.outbox.lag", oldest, OutboxRelay::lagSeconds)
+            .baseUnit("seconds")
+            .register(meterRegistry);
+        published = meterRegistry.counter("catalog.outbox.published");
+        failed = meterRegistry.counter("catalog.outbox.failed");
+        deadLettered = meterRegistry.counter("catalog.outbox.dead-lettered");
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        // A tick that arrives while a drain is running is dropped, not queued
+        loop = Flux.interval(pollInterval)
+            .onBackpressureDrop()
+            .concatMap(tick -> drain()
+                .onErrorResume(error -> {
+                    log.warn("Outbox relay poll failed, retrying next tick", error);
+                    return Mono.empty();
+                }), 1)
+            .subscribe();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (loop != null) {
+            loop.dispose();
+        }
+    }
+
+    /**
+     * Replays the spill log, then relays batches until one comes back
+     * short, then refreshes the backlog gauges. Emits the number of
+     * events acked.
+     */
+    public Mono<Long> drain() {
+        return replaySpilled()
+            .flatMap(replayed -> relayBatch(LocalDateTime.now())
+                .expand(sent -> sent.polled() == batchSize
+                    ? relayBatch(LocalDateTime.now())
+                    : Mono.empty())
+                .map(Batch::acked)
+                .reduce(replayed, Long::sum))
+            .flatMap(acked -> refreshBacklog().thenReturn(acked));
+    }
+
+    Mono<Batch> relayBatch(LocalDateTime now) {
+        return outboxRepository.findDue(now, batchSize)
+            .collectList()
+            .flatMap(events -> {
+                if (events.isEmpty()) {
+                    return Mono.just(new Batch(0, 0));
+                }
+                // Behind a spilled backlog, new events queue up instead of overtaking it
+                if (spilling()) {
+                    final Delivery[] held = new Delivery[events.size()];
+                    Arrays.fill(held, Delivery.HELD);
+                    return settle(events, held, now);
+                }
+                return send(events).flatMap(delivered -> settle(events, delivered, now));
+            });
+    }
+
+    private boolean spilling() {
+        return spillLog != null && !spillLog.isEmpty();
+    }
+
+    /**
+     * Publishes spilled events a batch at a time, consuming each batch up
+     * to its first event not acked, until the log is empty or a batch
+     * comes back short. Emits the number acked.
+     */
+    Mono<Long> replaySpilled() {
+        if (!spilling()) {
+            return Mono.just(0L);
+        }
+        return replayBatch()
+            .expand(consumed -> consumed == batchSize && spilling() ? replayBatch() : Mono.empty())
+            .reduce(0L, Long::sum);
+    }
+
+    private Mono<Long> replayBatch() {
+        return Mono.fromCallable(() -> spillLog.read(batchSize))
+            .subscribeOn(Schedulers.boundedElastic())
+            .flatMap(entries -> {
+                final List<OutboxEvent> events = entries.stream()
+                    .map(entry -> OutboxEvent.builder()
+                        .topic(entry.topic())
+                        .eventKey(entry.key())
+                        .payload(entry.payload())
+                        .createdAt(LocalDateTime.now())
+                        .build())
+                    .toList();
+                return send(events).flatMap(delivered -> consume(events, delivered));
+            });
+    }
+
+    // Advances past the acked prefix, and past the first event not acked
+    // too once it has failed max-attempts replays
+    private Mono<Long> consume(List<OutboxEvent> events, Delivery[] delivered) {
+        int prefix = 0;
+        while (prefix < delivered.length && delivered[prefix] == Delivery.ACKED) {
+            prefix++;
+        }
+        final long acked = prefix;
+        published.increment(acked);
+        failed.increment(count(delivered, Delivery.FAILED));
+        if (prefix == delivered.length) {
+            headAttempts.set(0);
+            return advance(prefix).thenReturn(acked);
+        }
+
+        // An acked prefix means the failed event is new at the head
+        final int attempts = prefix > 0 ? 1 : headAttempts.incrementAndGet();
+        headAttempts.set(attempts);
+        if (attempts < maxAttempts) {
+            return advance(prefix).thenReturn(acked);
+        }
+        final OutboxEvent poison = events.get(prefix);
+        poison.setAttempts(attempts);
+        headAttempts.set(0);
+        deadLettered.increment();
+        log.error("Giving up on spilled event {} on {} after {} attempts",
+            poison.getEventKey(), poison.getTopic(), attempts);
+        return outboxRepository.deadLetter(List.of(poison), LocalDateTime.now())
+            .then(advance(prefix + 1))
+            .thenReturn(acked);
+    }
+
+    private Mono<Void> advance(int count) {
+        return Mono.<Void>fromRunnable(() -> spillLog.advance(count))
+            .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private static long count(Delivery[] delivered, Delivery outcome) {
+        return Arrays.stream(delivered).filter(outcome::equals).count();
+    }
+
+    // Completes with the outcome of each event. Keys are sent concurrently,
+    // each key's events one at a time, stopping at the first not acked
+    private Mono<Delivery[]> send(List<OutboxEvent> events) {
+        final Delivery[] delivered = new Delivery[events.size()];
+        Arrays.fill(delivered, Delivery.HELD);
+        final Map<List<String>, List<Integer>> byKey = new LinkedHashMap<>();
+        for (int i = 0; i < events.size(); i++) {
+            byKey.computeIfAbsent(List.of(events.get(i).getTopic(), events.get(i).getEventKey()),
+                key -> new ArrayList<>()).add(i);
+        }
+        return Flux.fromIterable(byKey.values())
+            .flatMap(indexes -> Flux.fromIterable(indexes)
+                .concatMap(i -> Mono.fromCallable(() -> value(events.get(i)))
+                    .flatMap(value -> eventBus.publish(events.get(i).getTopic(), events.get(i).getEventKey(), value))
+                    .doOnSuccess(result -> delivered[i] = Delivery.ACKED)
+                    .doOnError(error -> {
+                        delivered[i] = Delivery.FAILED;
+                        log.warn("Event {} on {} not acked", events.get(i).getEventKey(),
+                            events.get(i).getTopic(), error);
+                    }))
+                .onErrorResume(error -> Mono.empty()), byKey.size())
+            .then(Mono.fromSupplier(() -> delivered));
+    }
+
+    // Typed events go out as their class so the topic's serializer, JSON or
+    // binary, sees what it expects; other payloads are sent as stored
+    private Object value(OutboxEvent event) throws IOException {
+        final Class<?> type = PAYLOAD_TYPES.get(event.getTopic());
+        return type == null
+            ? objectMapper.readTree(event.getPayload())
+            : objectMapper.readValue(event.getPayload(), type);
+    }
+
+    // Deletes acked rows and spilled ones; failed ones back off in the
+    // table, and held ones stay due behind them
+    private Mono<Batch> settle(List<OutboxEvent> events, Delivery[] delivered, LocalDateTime now) {
+        final List<Long> done = new ArrayList<>(events.size());
+        final List<OutboxEvent> unsent = new ArrayList<>();
+        final Set<Long> failures = new HashSet<>();
+        for (int i = 0; i < events.size(); i++) {
+            if (delivered[i] == Delivery.ACKED) {
+                done.add(events.get(i).getId());
+            } else {
+                unsent.add(events.get(i));
+                if (delivered[i] == Delivery.FAILED) {
+                    failures.add(events.get(i).getId());
+                }
+            }
+        }
+        final int sent = done.size();
+        published.increment(sent);
+        failed.increment(failures.size());
+
+        return spill(unsent)
+            .flatMap(spilled -> {
+                unsent.subList(0, spilled).forEach(event -> done.add(event.getId()));
+                final List<OutboxEvent> retry = new ArrayList<>();
+                final List<OutboxEvent> dead = new ArrayList<>();
+                for (OutboxEvent event : unsent.subList(spilled, unsent.size())) {
+                    if (failures.contains(event.getId())) {
+                        event.setAttempts(event.getAttempts() + 1);
+                        (event.getAttempts() < maxAttempts ? retry : dead).add(event);
+                    }
+                }
+                dead.forEach(event -> log.error("Giving up on event {} on {} after {} attempts",
+                    event.getEventKey(), event.getTopic(), event.getAttempts()));
+                deadLettered.increment(dead.size());
+                return outboxRepository.delete(done)
+                    .then(outboxRepository.deadLetter(dead, now))
+                    .thenMany(Flux.fromIterable(retry)
+                        .concatMap(event -> outboxRepository.retryLater(event.getId(),
+                            event.getAttempts(), now.plus(backoff(event.getAttempts())))))
+                    .then();
+            })
+            .then(Mono.just(new Batch(events.size(), sent)));
+    }
+
+    // Appends events to the spill log in order until it is full, forces
+    // them to disk and emits how many made it; their rows may then go
+    private Mono<Integer> spill(List<OutboxEvent> events) {
+        if (spillLog == null || events.isEmpty()) {
+            return Mono.just(0);
+        }
+        return Mono.fromCallable(() -> {
+                int spilled = 0;
+                try {
+                    while (spilled < events.size() && spillLog.append(events.get(spilled).getTopic(),
+                            events.get(spilled).getEventKey(), events.get(spilled).getPayload())) {
+                        spilled++;
+                    }
+                } catch (IllegalArgumentException ex) {
+                    // Larger than a segment: it and the rest back off in the table
+                    log.warn("Event {} on {} does not fit the spill log", events.get(spilled).getEventKey(),
+                        events.get(spilled).getTopic(), ex);
+                }
+                if (spilled > 0) {
+                    spillLog.flush();
+                }
+                return spilled;
+            })
+            .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    // retry-backoff, doubled per failed attempt, capped at max-backoff
+    Duration backoff(int attempts) {
+        final int doublings = Math.min(attempts - 1, 30);
+        final Duration delay = retryBackoff.multipliedBy(1L << doublings);
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private Mono<Void> refreshBacklog() {
+        return outboxRepository.backlog()
+            .doOnNext(backlog -> {
+                pending.set(backlog.pending());
+                oldest.set(backlog.oldest() == null ? 0L
+                    : backlog.oldest().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+            })
+            .then();
+    }
+
+    private static double lagSeconds(AtomicLong oldest) {
+        final long since = oldest.get();
+        return since == 0L ? 0.0 : Math.max(0L, System.currentTimeMillis() - since) / 1000.0;
+    }
+
+    record Batch(int polled, long acked) {
+    }
+
+    private enum Delivery {
+        ACKED,
+        FAILED,
+        // Not attempted: an earlier event of its key was not acked, or it
+        // queued behind the spill log
+        HELD
+    }
+}
@@ -0,0 +1,435 @@
+package com.app.moviecatalog.v1.eventsream.spill;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Local, append-only log of events the broker would not take, kept in
+ * memory-mapped segment files so an outage neither grows the heap nor
+ * loses events. {@code OutboxRelay} moves unsent events here in order and
+ * replays them, oldest first, once the broker answers again.
+ * <p>
+ * Each segment is a fixed-size file named after its sequence number,
+ * holding records of
+ * <pre>
+ * length   4 bytes  body length, 0 where the written part ends
+ * crc      4 bytes  CRC32 of the body
+ * body     topic (2-byte length + UTF-8), key (2-byte length, -1 for
+ *          null, + UTF-8), payload (4-byte length + UTF-8)
+ * </pre>
+ * A record that does not fit starts the next segment; at max-segments the
+ * log is full and {@link #append} refuses, so disk use never exceeds
+ * segment-size * max-segments. The read position lives in its own mapped
+ * file with a checksum and is forced on every {@link #advance}: after a
+ * crash replay resumes there, resending at most the records of the batch
+ * in flight. On open, the tail segment is scanned and a torn last record
+ * is cut off.
+ * <p>
+ * Metrics: catalog.spill.depth (records waiting) and catalog.spill.segments
+ * as gauges; catalog.spill.spilled, catalog.spill.replayed and
+ * catalog.spill.rejected as counters. One process per directory, enforced
+ * with a file lock.
+ * <p>
+ * Off unless catalog.outbox.spill.enabled is true. Spilled events exist
+ * nowhere else, so catalog.outbox.spill.dir has no default and may not be
+ * under java.io.tmpdir: it has to be a volume that outlives the pod.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "catalog.outbox.spill.enabled", havingValue = "true")
+public class SpillLog {
+
+    static final int HEADER = 8;
+    private static final String SUFFIX = ".spill";
+    private static final int OFFSET_SIZE = 16;
+
+    private final Path dir;
+    private final int segmentSize;
+    private final int maxSegments;
+
+    private final FileChannel lockChannel;
+    private final FileLock lock;
+    private final MappedByteBuffer offset;
+    private final TreeMap<Long, MappedByteBuffer> segments = new TreeMap<>();
+
+    private long readSegment;
+    private int readPosition;
+    private long writeSegment;
+    private int writePosition;
+
+    private final MeterRegistry meterRegistry;
+    private final AtomicLong depth = new AtomicLong();
+    private final Counter spilled;
+    private final Counter replayed;
+    private final Counter rejected;
+
+    /**
+     * An event read back from the log.
+     */
+    public record Entry(String topic, String key, String payload) {
+    }
+
+    public SpillLog(@Value("${catalog.outbox.spill.dir}") Path dir,
+                    @Value("${catalog.outbox.spill.segment-size:16MB}") DataSize segmentSize,
+                    @Value("${catalog.outbox.spill.max-segments:8}") int maxSegments,
+                    MeterRegistry meterRegistry) {
+        final Path tmp = Path.of(System.getProperty("java.io.tmpdir")).toAbsolutePath().normalize();
+        if (dir.toAbsolutePath().normalize().startsWith(tmp)) {
+            throw new IllegalArgumentException("Spill directory " + dir
+                + " is under java.io.tmpdir; spilled events must survive a restart");
+        }
+        if (segmentSize.toBytes() < 1024 || segmentSize.toBytes() > Integer.MAX_VALUE || maxSegments < 1) {
+            throw new IllegalArgumentException("Spill segments must be 1KB to 2GB, at least one of them");
+        }
+        this.dir = dir;
+        this.segmentSize = (int) segmentSize.toBytes();
+        this.maxSegments = maxSegments;
+        this.meterRegistry = meterRegistry;
+
+        try {
+            Files.createDirectories(dir);
+            lockChannel = FileChannel.open(dir.resolve("lock"),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            lock = lockChannel.tryLock();
+            if (lock == null) {
+                lockChannel.close();
+                throw new IllegalStateException("Spill directory " + dir + " is in use by another process");
+            }
+            offset = map(dir.resolve("offset"), OFFSET_SIZE);
+            recover();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not open spill log in " + dir, ex);
+        }
+
+        spilled = meterRegistry.counter("catalog.spill.spilled");
+        replayed = meterRegistry.counter("catalog.spill.replayed");
+        rejected = meterRegistry.counter("catalog.spill.rejected");
+    }
+
+    // Not in the constructor: the segments gauge holds on to this
+    @PostConstruct
+    public void registerGauges() {
+        Gauge.builder("catalog.spill.depth", depth, AtomicLong::get).register(meterRegistry);
+        Gauge.builder("catalog.spill.segments", this, SpillLog::segmentCount).register(meterRegistry);
+    }
+
+    /**
+     * Appends one event behind the others. Returns false, writing nothing,
+     * when the log is full. Call {@link #flush} before dropping the
+     * event's other copy.
+     */
+    public synchronized boolean append(String topic, String key, String payload) {
+        final byte[] body = encode(topic, key, payload);
+        final int size = HEADER + body.length;
+        if (size > segmentSize) {
+            throw new IllegalArgumentException("Event of " + size + " bytes exceeds the spill segment size");
+        }
+
+        if (writePosition + size > segmentSize) {
+            if (segments.size() == maxSegments) {
+                rejected.increment();
+                return false;
+            }
+            segments.get(writeSegment).force();
+            writeSegment++;
+            writePosition = 0;
+            segments.put(writeSegment, openSegment(writeSegment));
+        }
+
+        final CRC32 crc = new CRC32();
+        crc.update(body);
+        final MappedByteBuffer segment = segments.get(writeSegment);
+        // Body and checksum first, the length that makes the record visible last
+        segment.put(writePosition + HEADER, body);
+        segment.putInt(writePosition + 4, (int) crc.getValue());
+        segment.putInt(writePosition, body.length);
+        writePosition += size;
+
+        depth.incrementAndGet();
+        spilled.increment();
+        return true;
+    }
+
+    /**
+     * Forces appended records to disk.
+     */
+    public synchronized void flush() {
+        segments.get(writeSegment).force();
+    }
+
+    /**
+     * Up to max records from the read position, oldest first, without
+     * consuming them.
+     */
+    public synchronized List<Entry> read(int max) {
+        final List<Entry> entries = new ArrayList<>(Math.min(max, 256));
+        long segmentId = readSegment;
+        int position = readPosition;
+        while (entries.size() < max) {
+            final MappedByteBuffer segment = segments.get(segmentId);
+            final int length = lengthAt(segment, position);
+            if (length == 0) {
+                if (segmentId == writeSegment) {
+                    break;
+                }
+                segmentId++;
+                position = 0;
+                continue;
+            }
+            entries.add(decode(segment, position + HEADER, length));
+            position += HEADER + length;
+        }
+        return entries;
+    }
+
+    /**
+     * Consumes the next count records, deleting segments left behind, and
+     * persists the new read position.
+     */
+    public synchronized void advance(int count) {
+        int remaining = count;
+        while (remaining > 0) {
+            final int length = lengthAt(segments.get(readSegment), readPosition);
+            if (length == 0) {
+                if (readSegment == writeSegment) {
+                    throw new IllegalStateException("Advanced past the end of the spill log");
+                }
+                deleteSegment(readSegment);
+                readSegment++;
+                readPosition = 0;
+                continue;
+            }
+            readPosition += HEADER + length;
+            remaining--;
+        }
+        // Step over the end of a finished segment now, so it goes at once
+        while (readSegment < writeSegment && lengthAt(segments.get(readSegment), readPosition) == 0) {
+            deleteSegment(readSegment);
+            readSegment++;
+            readPosition = 0;
+        }
+        if (readSegment == writeSegment && readPosition == writePosition) {
+            // Drained: reuse the tail segment from its start
+            clearSegment(segments.get(writeSegment), 0, writePosition);
+            readPosition = 0;
+            writePosition = 0;
+        }
+        writeOffset();
+        depth.addAndGet(-count);
+        replayed.increment(count);
+    }
+
+    public boolean isEmpty() {
+        return depth.get() == 0;
+    }
+
+    public long depth() {
+        return depth.get();
+    }
+
+    public synchronized int segmentCount() {
+        return segments.size();
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        try {
+            flush();
+            offset.force();
+            lock.release();
+            lockChannel.close();
+        } catch (IOException ex) {
+            log.warn("Could not release spill log lock in {}", dir, ex);
+        }
+    }
+
+    private void recover() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            files.filter(file -> file.getFileName().toString().endsWith(SUFFIX))
+                .forEach(file -> {
+                    final String name = file.getFileName().toString();
+                    final long id = Long.parseLong(name.substring(0, name.length() - SUFFIX.length()));
+                    segments.put(id, openSegment(id));
+                });
+        }
+        if (segments.isEmpty()) {
+            segments.put(0L, openSegment(0L));
+        }
+
+        readSegment = segments.firstKey();
+        readPosition = 0;
+        final long savedSegment = offset.getLong(0);
+        final int savedPosition = offset.getInt(8);
+        if (offset.getInt(12) == offsetChecksum(savedSegment, savedPosition)
+            && segments.containsKey(savedSegment) && savedPosition <= segmentSize) {
+            readSegment = savedSegment;
+            readPosition = savedPosition;
+        }
+        for (Long id : List.copyOf(segments.headMap(readSegment).keySet())) {
+            deleteSegment(id);
+        }
+
+        // Count what is left to replay; the tail's first bad record ends the log
+        writeSegment = segments.lastKey();
+        long records = 0;
+        for (Map.Entry<Long, MappedByteBuffer> segment : segments.entrySet()) {
+            int position = segment.getKey() == readSegment ? readPosition : 0;
+            while (true) {
+                final int length = lengthAt(segment.getValue(), position);
+                if (length == 0) {
+                    break;
+                }
+                if (segment.getKey() == writeSegment && !intact(segment.getValue(), position, length)) {
+                    log.warn("Cutting a torn record off spill segment {} at {}", segment.getKey(), position);
+                    break;
+                }
+                position += HEADER + length;
+                records++;
+            }
+            if (segment.getKey() == writeSegment) {
+                writePosition = position;
+                // Appends rely on zeros past the end; a crash may have left
+                // a torn record, or a later one that reached disk first
+                if (!clean(segment.getValue(), position)) {
+                    clearSegment(segment.getValue(), position, segmentSize);
+                }
+            }
+        }
+        depth.set(records);
+        writeOffset();
+        if (records > 0) {
+            log.info("Spill log in {} holds {} events to replay", dir, records);
+        }
+    }
+
+    private int lengthAt(MappedByteBuffer segment, int position) {
+        if (position + HEADER > segmentSize) {
+            return 0;
+        }
+        final int length = segment.getInt(position);
+        return length > 0 && position + HEADER + length <= segmentSize ? length : 0;
+    }
+
+    private boolean intact(MappedByteBuffer segment, int position, int length) {
+        final byte[] body = new byte[length];
+        segment.get(position + HEADER, body);
+        final CRC32 crc = new CRC32();
+        crc.update(body);
+        return segment.getInt(position + 4) == (int) crc.getValue();
+    }
+
+    private void clearSegment(MappedByteBuffer segment, int from, int to) {
+        int position = from;
+        for (; position + 8 <= to; position += 8) {
+            segment.putLong(position, 0L);
+        }
+        for (; position < to; position++) {
+            segment.put(position, (byte) 0);
+        }
+        segment.force();
+    }
+
+    private boolean clean(MappedByteBuffer segment, int from) {
+        for (int position = from; position < segmentSize; position++) {
+            if (segment.get(position) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void writeOffset() {
+        offset.putLong(0, readSegment);
+        offset.putInt(8, readPosition);
+        offset.putInt(12, offsetChecksum(readSegment, readPosition));
+        offset.force();
+    }
+
+    private static int offsetChecksum(long segment, int position) {
+        final CRC32 crc = new CRC32();
+        crc.update(ByteBuffer.allocate(12).putLong(segment).putInt(position).array());
+        return (int) crc.getValue();
+    }
+
+    private MappedByteBuffer openSegment(long id) {
+        try {
+            return map(dir.resolve(String.format("%019d%s", id, SUFFIX)), segmentSize);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not map spill segment " + id, ex);
+        }
+    }
+
+    private void deleteSegment(long id) {
+        segments.remove(id);
+        try {
+            Files.deleteIfExists(dir.resolve(String.format("%019d%s", id, SUFFIX)));
+        } catch (IOException ex) {
+            log.warn("Could not delete replayed spill segment {}", id, ex);
+        }
+    }
+
+    // The mapping outlives the channel, so the channel is closed right away
+    private static MappedByteBuffer map(Path file, int size) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        }
+    }
+
+    private static byte[] encode(String topic, String key, String payload) {
+        final byte[] topicBytes = topic.getBytes(StandardCharsets.UTF_8);
+        final byte[] keyBytes = key == null ? null : key.getBytes(StandardCharsets.UTF_8);
+        final byte[] payloadBytes = payload.getBytes(StandardCharsets.UTF_8);
+        final ByteBuffer body = ByteBuffer.allocate(2 + topicBytes.length
+            + 2 + (keyBytes == null ? 0 : keyBytes.length) + 4 + payloadBytes.length);
+        body.putShort((short) topicBytes.length).put(topicBytes);
+        if (keyBytes == null) {
+            body.putShort((short) -1);
+        } else {
+            body.putShort((short) keyBytes.length).put(keyBytes);
+        }
+        body.putInt(payloadBytes.length).put(payloadBytes);
+        return body.array();
+    }
+
+    private static Entry decode(MappedByteBuffer segment, int position, int length) {
+        final ByteBuffer body = segment.slice(position, length);
+        final String topic = string(body, body.getShort());
+        final short keyLength = body.getShort();
+        final String key = keyLength < 0 ? null : string(body, keyLength);
+        final String payload = string(body, body.getInt());
+        return new Entry(topic, key, payload);
+    }
+
+    private static String string(ByteBuffer body, int length) {
+        final byte[] bytes = new byte[length];
+        body.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
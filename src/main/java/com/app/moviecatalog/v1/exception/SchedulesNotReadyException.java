@@ -0,0 +1,8 @@
+package com.app.moviecatalog.v1.exception;
+
+public class SchedulesNotReadyException extends RuntimeException {
+
+    public SchedulesNotReadyException(String message) {
+        super(message);
+    }
+}
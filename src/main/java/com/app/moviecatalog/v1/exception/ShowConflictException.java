@@ -0,0 +1,8 @@
+package com.app.moviecatalog.v1.exception;
+
+public class ShowConflictException extends RuntimeException {
+
+    public ShowConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,32 @@
+package com.app.moviecatalog.v1.http.handler;
+
+import org.springframework.http.CacheControl;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.util.function.Function;
+
+/**
+ * If-None-Match handling for catalog reads. The ETag is taken before the
+ * body is produced, so a matching request is answered with 304 without
+ * touching the database or serializing anything.
+ */
+final class ConditionalGet {
+
+    // Clients may keep the body but must revalidate before every use
+    private static final CacheControl CACHE_CONTROL = CacheControl.noCache().cachePublic();
+
+    private ConditionalGet() {
+    }
+
+    static Mono<ServerResponse> ifNoneMatch(
+        ServerRequest request,
+        String etag,
+        Function<ServerResponse.BodyBuilder, Mono<ServerResponse>> body) {
+
+        return request.checkNotModified(etag)
+            .switchIfEmpty(Mono.defer(() -> body.apply(
+                ServerResponse.ok().eTag(etag).cacheControl(CACHE_CONTROL))));
+    }
+}
@@ -1,43 +1,167 @@
 package com.app.moviecatalog.v1.http.handler;
 
+import com.app.moviecatalog.v1.common.error.ErrorResponse;
+import com.app.moviecatalog.v1.common.facet.FacetResult;
+import com.app.moviecatalog.v1.common.page.Cursors;
+import com.app.moviecatalog.v1.common.version.CatalogVersion;
 import com.app.moviecatalog.v1.domain.Movie;
+import com.app.moviecatalog.v1.exception.DuplicateMovieException;
+import com.app.moviecatalog.v1.exception.MovieNotFoundException;
+import com.app.moviecatalog.v1.service.movie.MovieFacetIndex;
+import com.app.moviecatalog.v1.service.movie.MovieJsonCache;
 import com.app.moviecatalog.v1.service.movie.MovieService;
+import com.app.moviecatalog.v1.service.movie.MovieTitleSuggester;
+import com.app.moviecatalog.v1.service.movie.TitleSuggestion;
 import com.app.moviecatalog.v1.service.show.ShowService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ReactiveHttpOutputMessage;
 import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.BodyInserter;
 import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.reactive.function.server.ServerResponse;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Component
 @RequiredArgsConstructor
 public class MovieHandler {
 
+    private static final int DEFAULT_FUZZY_RESULTS = 10;
+    private static final int MAX_FUZZY_RESULTS = 100;
+
+    private static final List<String> FACETS = List.of(
+        MovieFacetIndex.GENRE, MovieFacetIndex.LANGUAGE, MovieFacetIndex.YEAR);
+
     private final MovieService movieService;
     private final ShowService showService;
+    private final CatalogVersion catalogVersion;
+    private final MovieJsonCache jsonCache;
 
     public Mono<ServerResponse> getAllMovies(ServerRequest request) {
-        return ServerResponse.ok()
-                .body(movieService.getAllActiveMovies(), Object.class);
+        return badRequestOnInvalidParams(request, ConditionalGet.ifNoneMatch(
+            request, catalogVersion.etag(), ok -> listMovies(request, ok)));
+    }
+
+    private Mono<ServerResponse> listMovies(ServerRequest request, ServerResponse.BodyBuilder ok) {
+
+        // Streaming: one JSON document per row, written as R2DBC emits them
+        if (request.headers().accept().contains(MediaType.APPLICATION_NDJSON)) {
+            return ok.contentType(MediaType.APPLICATION_NDJSON)
+                .body(movieService.getAllActiveMovies(), Movie.class);
+        }
+
+        final Map<String, String> filters = new HashMap<>();
+        FACETS.forEach(facet ->
+            request.queryParam(facet).ifPresent(value -> filters.put(facet, value)));
+
+        if (!filters.isEmpty()) {
+            return ok.body(movieService.facetMovies(filters), FacetResult.class);
+        }
+
+        final var cursor = request.queryParam("cursor");
+        final var limit = request.queryParam("limit");
+
+        if (cursor.isPresent() || limit.isPresent()) {
+            // Resolved before the body is written, so a bad cursor can still be a 400
+            return movieService.getActiveMoviesPage(
+                    cursor.orElse(null),
+                    Cursors.limit(limit.orElse(null)))
+                .flatMap(ok::bodyValue);
+        }
+
+        return jsonCache.activeMovies(movieService::getAllActiveMovies)
+            .flatMap(json -> writeJson(ok, json));
     }
 
     public Mono<ServerResponse> searchMovies(ServerRequest request) {
+        return badRequestOnInvalidParams(request, Mono.defer(() -> search(request)));
+    }
+
+    private Mono<ServerResponse> search(ServerRequest request) {
 
         final String title = request.queryParam("title").orElse("");
 
+        if (request.queryParam("fuzzy").map(Boolean::parseBoolean).orElse(false)) {
+            final int limit = request.queryParam("limit")
+                .map(Integer::parseInt)
+                .map(value -> Math.min(Math.max(value, 1), MAX_FUZZY_RESULTS))
+                .orElse(DEFAULT_FUZZY_RESULTS);
+
+            return ServerResponse.ok()
+                .body(movieService.fuzzySearchMovies(title, limit), Movie.class);
+        }
+
         return ServerResponse.ok()
                 .body(movieService.searchMovies(title), Movie.class);
     }
 
+    public Mono<ServerResponse> suggest(ServerRequest request) {
+        return badRequestOnInvalidParams(request, Mono.defer(() -> suggestions(request)));
+    }
+
+    private Mono<ServerResponse> suggestions(ServerRequest request) {
+
+        final String prefix = request.queryParam("prefix").orElse("");
+        final int limit = request.queryParam("limit")
+            .map(Integer::parseInt)
+            .map(value -> Math.min(Math.max(value, 1), MovieTitleSuggester.MAX_SUGGESTIONS))
+            .orElse(MovieTitleSuggester.MAX_SUGGESTIONS);
+
+        return ServerResponse.ok()
+                .body(movieService.suggestTitles(prefix, limit), TitleSuggestion.class);
+    }
+
+    // Malformed cursor, limit or number: the caller's mistake, not ours
+    private Mono<ServerResponse> badRequestOnInvalidParams(
+        ServerRequest request, Mono<ServerResponse> response) {
+
+        // NumberFormatException is an IllegalArgumentException
+        return response.onErrorResume(IllegalArgumentException.class,
+            ex -> error(request, HttpStatus.BAD_REQUEST, ex));
+    }
+
+    private static Mono<ServerResponse> error(ServerRequest request, HttpStatus status, Throwable ex) {
+        return ServerResponse.status(status).bodyValue(new ErrorResponse(
+            LocalDateTime.now(),
+            status.value(),
+            status.getReasonPhrase(),
+            ex.getMessage(),
+            request.path()));
+    }
+
+    /**
+     * Writes the bytes as-is; the buffer factory wraps rather than copies
+     * and nothing holds a reference to release, so the array can be shared.
+     */
+    static Mono<ServerResponse> writeJson(ServerResponse.BodyBuilder ok, byte[] json) {
+        final BodyInserter<byte[], ReactiveHttpOutputMessage> body =
+            (message, context) -> message.writeWith(
+                Mono.fromSupplier(() -> message.bufferFactory().wrap(json)));
+        return ok.contentType(MediaType.APPLICATION_JSON)
+            .contentLength(json.length)
+            .body(body);
+    }
+
     public Mono<ServerResponse> getMovie(ServerRequest request) {
 
         final UUID id = UUID.fromString(request.pathVariable("id"));
 
-        return movieService.getMovieById(id)
-                .flatMap(movie ->
-                        ServerResponse.ok().bodyValue(movie));
+        // The catalog-wide ETag says nothing about this id, so the movie is
+        // looked up (normally a cache hit) before a 304; the tag is taken
+        // first so a body loaded after a write never carries the new version
+        final String etag = catalogVersion.etag();
+        return jsonCache.movie(id, movieService::getMovieById)
+            .flatMap(json -> ConditionalGet.ifNoneMatch(request, etag,
+                ok -> writeJson(ok, json)))
+            .onErrorResume(MovieNotFoundException.class,
+                ex -> error(request, HttpStatus.NOT_FOUND, ex));
     }
 
 
@@ -45,6 +169,14 @@ public class MovieHandler {
     public Mono<ServerResponse> create(ServerRequest request) {
         return request.bodyToMono(Movie.class)
             .flatMap(movieService::createMovie)
-            .flatMap(movie -> ServerResponse.ok().bodyValue(movie));
+            .flatMap(movie -> ServerResponse.ok().bodyValue(movie))
+            .onErrorResume(DuplicateMovieException.class,
+                ex -> error(request, HttpStatus.CONFLICT, ex));
+    }
+
+    //ADMIN only, body is a stream of movies (NDJSON or a JSON array)
+    public Mono<ServerResponse> bulkCreate(ServerRequest request) {
+        return movieService.bulkCreateMovies(request.bodyToFlux(Movie.class))
+            .flatMap(report -> ServerResponse.ok().bodyValue(report));
     }
 }
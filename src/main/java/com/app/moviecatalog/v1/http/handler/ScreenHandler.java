@@ -1,5 +1,6 @@
 package com.app.moviecatalog.v1.http.handler;
 
+import com.app.moviecatalog.v1.common.version.CatalogVersion;
 import com.app.moviecatalog.v1.domain.Screen;
 import com.app.moviecatalog.v1.service.screen.ScreenService;
 import lombok.RequiredArgsConstructor;
@@ -15,6 +16,7 @@ import java.util.UUID;
 public class ScreenHandler {
 
     private final ScreenService screenService;
+    private final CatalogVersion catalogVersion;
 
     // ADMIN
     public Mono<ServerResponse> create(ServerRequest request) {
@@ -30,8 +32,8 @@ public class ScreenHandler {
         UUID theatreId = UUID.fromString(
                 request.pathVariable("theatreId"));
 
-        return ServerResponse.ok()
-                .body(screenService.getByTheatre(theatreId),
-                        Screen.class);
+        return ConditionalGet.ifNoneMatch(request, catalogVersion.etag(),
+                ok -> ok.body(screenService.getByTheatre(theatreId),
+                        Screen.class));
     }
 }
@@ -1,5 +1,6 @@
 package com.app.moviecatalog.v1.http.handler;
 
+import com.app.moviecatalog.v1.common.version.CatalogVersion;
 import com.app.moviecatalog.v1.domain.ScreenSeat;
 import com.app.moviecatalog.v1.service.screen_seat.ScreentSeatService;
 import lombok.RequiredArgsConstructor;
@@ -15,6 +16,7 @@ import java.util.UUID;
 public class ScreenSeatTemplateHandler {
 
     private final ScreentSeatService seatService;
+    private final CatalogVersion catalogVersion;
 
     // ADMIN
     public Mono<ServerResponse> create(ServerRequest request) {
@@ -31,8 +33,8 @@ public class ScreenSeatTemplateHandler {
         UUID screenId = UUID.fromString(
                 request.pathVariable("screenId"));
 
-        return ServerResponse.ok()
-                .body(seatService.getByScreen(screenId),
-                        ScreenSeat.class);
+        return ConditionalGet.ifNoneMatch(request, catalogVersion.etag(),
+                ok -> ok.body(seatService.getByScreen(screenId),
+                        ScreenSeat.class));
     }
 }
@@ -1,14 +1,27 @@
 package com.app.moviecatalog.v1.http.handler;
 
-import com.app.moviecatalog.v1.domain.Movie;
+import com.app.moviecatalog.v1.common.error.ErrorResponse;
+import com.app.moviecatalog.v1.common.page.CursorPage;
+import com.app.moviecatalog.v1.common.page.Cursors;
+import com.app.moviecatalog.v1.common.version.CatalogVersion;
 import com.app.moviecatalog.v1.domain.Show;
+import com.app.moviecatalog.v1.exception.MovieNotFoundException;
+import com.app.moviecatalog.v1.exception.SchedulesNotReadyException;
+import com.app.moviecatalog.v1.exception.ShowConflictException;
+import com.app.moviecatalog.v1.service.show.NowShowing;
+import com.app.moviecatalog.v1.service.show.ShowScheduleTemplate;
 import com.app.moviecatalog.v1.service.show.ShowService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.reactive.function.server.ServerResponse;
 import reactor.core.publisher.Mono;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.UUID;
 
 
@@ -16,25 +29,137 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class ShowHandler {
     private final ShowService showService;
+    private final CatalogVersion catalogVersion;
 
+    // GET /movies/{movieId}/shows?city=&from=&to=[&cursor=&limit=]
     public Mono<ServerResponse> getShows(ServerRequest request) {
+        return badRequestOnInvalidParams(request, Mono.defer(() -> listShows(request)));
+    }
+
+    // GET /shows/search?city=&from=&to=&minPrice=&maxPrice=&limit=
+    public Mono<ServerResponse> search(ServerRequest request) {
+        return badRequestOnInvalidParams(request, Mono.defer(() -> searchShows(request)));
+    }
+
+    // GET /shows/now-showing?city=
+    public Mono<ServerResponse> nowShowing(ServerRequest request) {
+        return badRequestOnInvalidParams(request, Mono.defer(() -> {
+            final String city = request.queryParam("city")
+                .orElseThrow(() ->
+                    new IllegalArgumentException("City is required"));
+
+            // No ETag: the snapshot changes as shows start, not only on writes
+            return ServerResponse.ok()
+                .body(showService.nowShowing(city), NowShowing.class);
+        }));
+    }
+
+    private Mono<ServerResponse> listShows(ServerRequest request) {
 
         final UUID movieId = UUID.fromString(
             request.pathVariable("movieId"));
 
         final String city = request.queryParam("city")
             .orElseThrow(() ->
-                new RuntimeException("City is required"));
+                new IllegalArgumentException("City is required"));
+
+        // ISO-8601 local date-times; from is inclusive, to exclusive
+        final LocalDateTime from = request.queryParam("from")
+            .map(LocalDateTime::parse).orElse(null);
+        final LocalDateTime to = request.queryParam("to")
+            .map(LocalDateTime::parse).orElse(null);
+
+        final var cursor = request.queryParam("cursor");
+        final var limit = request.queryParam("limit");
+
+        if (cursor.isPresent() || limit.isPresent()) {
+            final Mono<CursorPage<Show>> page = showService.getShowsPage(
+                movieId, city, from, to,
+                cursor.orElse(null), Cursors.limit(limit.orElse(null)));
+            return ConditionalGet.ifNoneMatch(request, catalogVersion.etag(),
+                ok -> ok.body(page, CursorPage.class));
+        }
+
+        // Streaming: one JSON document per show, in showTime order
+        final MediaType type = request.headers().accept().contains(MediaType.APPLICATION_NDJSON)
+            ? MediaType.APPLICATION_NDJSON : MediaType.APPLICATION_JSON;
+
+        return ConditionalGet.ifNoneMatch(request, catalogVersion.etag(),
+            ok -> ok.contentType(type)
+                .body(showService.getShows(movieId, city, from, to), Show.class));
+    }
+
+    private Mono<ServerResponse> searchShows(ServerRequest request) {
+
+        final String city = request.queryParam("city")
+            .orElseThrow(() ->
+                new IllegalArgumentException("City is required"));
+
+        // Upcoming shows unless the caller asks for another window
+        final boolean upcoming = request.queryParam("from").isEmpty();
+        final LocalDateTime from = request.queryParam("from")
+            .map(LocalDateTime::parse).orElseGet(LocalDateTime::now);
+        final LocalDateTime to = request.queryParam("to")
+            .map(LocalDateTime::parse).orElse(null);
+        final BigDecimal minPrice = request.queryParam("minPrice")
+            .map(BigDecimal::new).orElse(null);
+        final BigDecimal maxPrice = request.queryParam("maxPrice")
+            .map(BigDecimal::new).orElse(null);
+        final int limit = Cursors.limit(request.queryParam("limit").orElse(null));
+
+        // No ETag for "from now": started shows drop out without any write
+        if (upcoming) {
+            return ServerResponse.ok()
+                .body(showService.searchShows(city, from, to, minPrice, maxPrice, limit), Show.class);
+        }
+        return ConditionalGet.ifNoneMatch(request, catalogVersion.etag(),
+            ok -> ok.body(showService.searchShows(city, from, to, minPrice, maxPrice, limit),
+                Show.class));
+    }
+
+    private Mono<ServerResponse> badRequestOnInvalidParams(
+        ServerRequest request, Mono<ServerResponse> response) {
 
-        return ServerResponse.ok()
-            .body(showService.getShows(movieId, city), Object.class);
+        // NumberFormatException is an IllegalArgumentException
+        return response.onErrorResume(ex -> ex instanceof IllegalArgumentException
+                || ex instanceof DateTimeParseException,
+            ex -> error(request, HttpStatus.BAD_REQUEST, ex));
+    }
+
+    private Mono<ServerResponse> onWriteErrors(
+        ServerRequest request, Mono<ServerResponse> response) {
+
+        return badRequestOnInvalidParams(request, response
+            .onErrorResume(ShowConflictException.class,
+                ex -> error(request, HttpStatus.CONFLICT, ex))
+            .onErrorResume(MovieNotFoundException.class,
+                ex -> error(request, HttpStatus.NOT_FOUND, ex))
+            // Screen schedules still warming up
+            .onErrorResume(SchedulesNotReadyException.class,
+                ex -> error(request, HttpStatus.SERVICE_UNAVAILABLE, ex)));
+    }
+
+    private static Mono<ServerResponse> error(ServerRequest request, HttpStatus status, Throwable ex) {
+        return ServerResponse.status(status).bodyValue(new ErrorResponse(
+            LocalDateTime.now(),
+            status.value(),
+            status.getReasonPhrase(),
+            ex.getMessage(),
+            request.path()));
     }
 
     //ADMIN only
     public Mono<ServerResponse> create(ServerRequest request) {
-        return request.bodyToMono(Show.class)
+        return onWriteErrors(request, request.bodyToMono(Show.class)
             .flatMap(showService::createShow)
-            .flatMap(show -> ServerResponse.ok().bodyValue(show));
+            .flatMap(show -> ServerResponse.ok().bodyValue(show)));
+    }
+
+    //ADMIN only, expands a schedule template into every show it describes
+    public Mono<ServerResponse> schedule(ServerRequest request) {
+        return onWriteErrors(request, request.bodyToMono(ShowScheduleTemplate.class)
+            .flatMap(template -> showService.scheduleShows(template).collectList())
+            .flatMap(shows -> ServerResponse.ok().bodyValue(shows)));
     }
 
 }
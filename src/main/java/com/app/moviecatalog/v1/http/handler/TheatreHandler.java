@@ -0,0 +1,24 @@
+package com.app.moviecatalog.v1.http.handler;
+
+import com.app.moviecatalog.v1.domain.Theatre;
+import com.app.moviecatalog.v1.service.theatre.TheatreService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+@Component
+@RequiredArgsConstructor
+public class TheatreHandler {
+
+    private final TheatreService theatreService;
+
+    // ADMIN
+    public Mono<ServerResponse> create(ServerRequest request) {
+        return request.bodyToMono(Theatre.class)
+                .flatMap(theatreService::create)
+                .flatMap(saved ->
+                        ServerResponse.ok().bodyValue(saved));
+    }
+}
@@ -2,6 +2,7 @@ package com.app.moviecatalog.v1.http.router;
 
 
 import com.app.moviecatalog.v1.http.handler.MovieHandler;
+import com.app.moviecatalog.v1.http.handler.ShowHandler;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.reactive.function.server.RouterFunction;
@@ -12,16 +13,19 @@ import org.springframework.web.reactive.function.server.ServerResponse;
 public class MovieRouter {
 
     @Bean
-    public RouterFunction<ServerResponse> routes(MovieHandler handler) {
+    public RouterFunction<ServerResponse> routes(MovieHandler handler, ShowHandler showHandler) {
 
         return RouterFunctions.route()
 
             .GET("/movies", handler::getAllMovies)
             .GET("/movies/search", handler::searchMovies)
+            .GET("/movies/suggest", handler::suggest)
             .GET("/movies/{id}", handler::getMovie)
+            .GET("/movies/{movieId}/shows", showHandler::getShows)
 
             // Admin endpoint
             .POST("/movies/admin", handler::create)
+            .POST("/movies/admin/bulk", handler::bulkCreate)
 
             .build();
     }
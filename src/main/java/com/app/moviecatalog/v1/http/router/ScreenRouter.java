@@ -3,6 +3,7 @@ package com.app.moviecatalog.v1.http.router;
 import com.app.moviecatalog.v1.http.handler.ScreenHandler;
 import com.app.moviecatalog.v1.http.handler.ScreenSeatTemplateHandler;
 import com.app.moviecatalog.v1.http.handler.ShowHandler;
+import com.app.moviecatalog.v1.http.handler.TheatreHandler;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.reactive.function.server.RouterFunction;
@@ -15,10 +16,14 @@ public class ScreenRouter {
     @Bean
     public RouterFunction<ServerResponse> screenRoutes(
         ScreenHandler screenHandler,
-        ScreenSeatTemplateHandler seatHandler, ShowHandler showHandler) {
+        ScreenSeatTemplateHandler seatHandler, ShowHandler showHandler,
+        TheatreHandler theatreHandler) {
 
         return RouterFunctions.route()
 
+            // Theatres // Admin endpoint
+            .POST("/theatres/admin", theatreHandler::create)
+
             // Screens
             .POST("/screens/admin", screenHandler::create)
             .GET("/screens/theatre/{theatreId}",
@@ -30,8 +35,11 @@ public class ScreenRouter {
 
             .GET("/screens/{screenId}/seats",
                 seatHandler::getByScreen)
+            .GET("/shows/search", showHandler::search)
+            .GET("/shows/now-showing", showHandler::nowShowing)
             // Admin endpoint
             .POST("/shows/admin", showHandler::create)
+            .POST("/shows/admin/schedule", showHandler::schedule)
             .build();
     }
 }
@@ -0,0 +1,60 @@
+package com.app.moviecatalog.v1.repository;
+
+import com.app.moviecatalog.v1.domain.Movie;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.UUID;
+
+/**
+ * Multi-row inserts for bulk loads, one statement per batch instead of
+ * one round trip per movie. Callers set each movie's natural key.
+ */
+@Repository
+@RequiredArgsConstructor
+public class MovieBatchRepository {
+
+    private static final String INSERT = """
+        INSERT INTO movies
+        (id, title, language, genre, duration_minutes, release_date, active, natural_key)
+        VALUES
+        """;
+
+    private final DatabaseClient databaseClient;
+
+    public Mono<Long> insertAll(List<Movie> movies) {
+        if (movies.isEmpty()) {
+            return Mono.just(0L);
+        }
+
+        final StringJoiner rows = new StringJoiner(",\n");
+        for (int i = 0; i < movies.size(); i++) {
+            rows.add("(:id" + i + ", :title" + i + ", :language" + i + ", :genre" + i
+                + ", :duration" + i + ", :releaseDate" + i + ", :active" + i + ", :naturalKey" + i + ")");
+        }
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(INSERT + rows);
+        for (int i = 0; i < movies.size(); i++) {
+            final Movie movie = movies.get(i);
+            spec = bind(spec, "id" + i, movie.getId(), UUID.class);
+            spec = bind(spec, "title" + i, movie.getTitle(), String.class);
+            spec = bind(spec, "language" + i, movie.getLanguage(), String.class);
+            spec = bind(spec, "genre" + i, movie.getGenre(), String.class);
+            spec = bind(spec, "duration" + i, movie.getDurationMinutes(), Integer.class);
+            spec = bind(spec, "releaseDate" + i, movie.getReleaseDate(), LocalDate.class);
+            spec = bind(spec, "active" + i, movie.getActive(), Boolean.class);
+            spec = bind(spec, "naturalKey" + i, movie.getNaturalKey(), String.class);
+        }
+        return spec.fetch().rowsUpdated();
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bind(
+        DatabaseClient.GenericExecuteSpec spec, String name, Object value, Class<?> type) {
+        return value == null ? spec.bindNull(name, type) : spec.bind(name, value);
+    }
+}
@@ -1,6 +1,7 @@
 package com.app.moviecatalog.v1.repository;
 
 import com.app.moviecatalog.v1.domain.Movie;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
@@ -14,4 +15,23 @@ public interface MovieRepository
     Flux<Movie> findByActiveTrue();
 
     Flux<Movie> findByTitleContainingIgnoreCaseAndActiveTrue(String title);
+
+    @Query("""
+        SELECT *
+        FROM movies
+        WHERE active = TRUE
+        ORDER BY id
+        LIMIT :limit
+        """)
+    Flux<Movie> findActivePage(int limit);
+
+    @Query("""
+        SELECT *
+        FROM movies
+        WHERE active = TRUE
+        AND id > :after
+        ORDER BY id
+        LIMIT :limit
+        """)
+    Flux<Movie> findActivePageAfter(UUID after, int limit);
 }
@@ -0,0 +1,235 @@
+package com.app.moviecatalog.v1.repository;
+
+import com.app.moviecatalog.v1.domain.OutboxEvent;
+import io.r2dbc.spi.Row;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.StringJoiner;
+
+/**
+ * Storage of the transactional outbox. {@link #append} takes part in the
+ * caller's transaction, so events commit or roll back with the rows they
+ * describe; the other methods are used by the relay.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OutboxRepository {
+
+    static final int BATCH_SIZE = 500;
+
+    private static final String INSERT = """
+        INSERT INTO outbox_events
+        (topic, event_key, payload, created_at, attempts, next_attempt_at)
+        VALUES
+        """;
+
+    private static final String INSERT_DEAD_LETTER = """
+        INSERT INTO outbox_dead_letters
+        (topic, event_key, payload, created_at, attempts, failed_at)
+        VALUES (:topic, :key, :payload, :createdAt, :attempts, :failedAt)
+        """;
+
+    private final DatabaseClient databaseClient;
+    private final TransactionalOperator transactions;
+
+    public Mono<Long> append(List<OutboxEvent> events) {
+        return Flux.range(0, (events.size() + BATCH_SIZE - 1) / BATCH_SIZE)
+            .concatMap(batch -> appendBatch(events.subList(
+                batch * BATCH_SIZE, Math.min(events.size(), (batch + 1) * BATCH_SIZE))))
+            .reduce(0L, Long::sum);
+    }
+
+    private Mono<Long> appendBatch(List<OutboxEvent> events) {
+        final StringJoiner rows = new StringJoiner(",\n");
+        for (int i = 0; i < events.size(); i++) {
+            rows.add("(:topic" + i + ", :key" + i + ", :payload" + i
+                + ", :createdAt" + i + ", 0, :createdAt" + i + ")");
+        }
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(INSERT + rows);
+        for (int i = 0; i < events.size(); i++) {
+            final OutboxEvent event = events.get(i);
+            spec = spec.bind("topic" + i, event.getTopic())
+                .bind("key" + i, event.getEventKey())
+                .bind("payload" + i, event.getPayload())
+                .bind("createdAt" + i, event.getCreatedAt());
+        }
+        return spec.fetch().rowsUpdated();
+    }
+
+    /**
+     * Draws the next sequence of each given key on the topic, one per
+     * element and ascending per key in list order. Each key counts 1, 2,
+     * 3, ... on its own. Call it inside the write transaction that appends
+     * the events: the keys' counter rows stay locked until it ends, so
+     * writers of one key take turns. Two transactions drawing the first
+     * sequence of one key at once can still collide on its insert, and
+     * the later one fails with a duplicate key.
+     */
+    public Mono<List<Long>> nextSequences(String topic, List<String> keys) {
+        final Map<String, Integer> counts = new LinkedHashMap<>();
+        keys.forEach(key -> counts.merge(key, 1, Integer::sum));
+        final List<String> distinct = new ArrayList<>(counts.keySet());
+
+        return Flux.range(0, (distinct.size() + BATCH_SIZE - 1) / BATCH_SIZE)
+            .concatMap(batch -> reserveBatch(topic, distinct.subList(
+                batch * BATCH_SIZE, Math.min(distinct.size(), (batch + 1) * BATCH_SIZE)), counts))
+            .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+            .map(last -> {
+                // A key's reserved block ends at its new last sequence
+                final Map<String, Long> next = new HashMap<>();
+                last.forEach((key, sequence) -> next.put(key, sequence - counts.get(key) + 1));
+                final List<Long> sequences = new ArrayList<>(keys.size());
+                for (String key : keys) {
+                    final long sequence = next.get(key);
+                    next.put(key, sequence + 1);
+                    sequences.add(sequence);
+                }
+                return sequences;
+            });
+    }
+
+    // MERGE, which H2 and PostgreSQL 15+ share, then read the new last values back
+    private Flux<Map.Entry<String, Long>> reserveBatch(String topic, List<String> keys,
+                                                       Map<String, Integer> counts) {
+        final StringJoiner draws = new StringJoiner(", ");
+        for (int i = 0; i < keys.size(); i++) {
+            draws.add("(CAST(:key" + i + " AS VARCHAR(100)), CAST(:count" + i + " AS BIGINT))");
+        }
+
+        DatabaseClient.GenericExecuteSpec reserve = databaseClient.sql("""
+            MERGE INTO event_key_sequences s
+            USING (VALUES %s) AS d (event_key, draws)
+            ON s.topic = :topic AND s.event_key = d.event_key
+            WHEN MATCHED THEN UPDATE SET last_sequence = s.last_sequence + d.draws
+            WHEN NOT MATCHED THEN INSERT (topic, event_key, last_sequence)
+                VALUES (:topic, d.event_key, d.draws)
+            """.formatted(draws)).bind("topic", topic);
+        for (int i = 0; i < keys.size(); i++) {
+            reserve = reserve.bind("key" + i, keys.get(i)).bind("count" + i, counts.get(keys.get(i)));
+        }
+
+        return reserve.then()
+            .thenMany(databaseClient.sql("""
+                    SELECT event_key, last_sequence FROM event_key_sequences
+                    WHERE topic = :topic AND event_key IN (:keys)
+                    """)
+                .bind("topic", topic)
+                .bind("keys", keys)
+                .map((row, metadata) -> Map.entry(
+                    Objects.requireNonNull(row.get("event_key", String.class)),
+                    Objects.requireNonNull(row.get("last_sequence", Long.class))))
+                .all());
+    }
+
+    /**
+     * Oldest events whose next attempt is due, in insertion order. An event
+     * is held back while an earlier one of its topic and key is backing
+     * off, so a retry never lets later events of the key overtake it.
+     */
+    public Flux<OutboxEvent> findDue(LocalDateTime now, int limit) {
+        return databaseClient.sql("""
+                SELECT * FROM outbox_events o
+                WHERE o.next_attempt_at <= :now
+                AND NOT EXISTS (
+                    SELECT 1 FROM outbox_events e
+                    WHERE e.topic = o.topic AND e.event_key = o.event_key
+                    AND e.id < o.id AND e.next_attempt_at > :now
+                )
+                ORDER BY o.id
+                LIMIT :limit
+                """)
+            .bind("now", now)
+            .bind("limit", limit)
+            .map((row, metadata) -> toEvent(row))
+            .all();
+    }
+
+    public Mono<Long> delete(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return Mono.just(0L);
+        }
+        return databaseClient.sql("DELETE FROM outbox_events WHERE id IN (:ids)")
+            .bind("ids", ids)
+            .fetch()
+            .rowsUpdated();
+    }
+
+    public Mono<Long> retryLater(long id, int attempts, LocalDateTime nextAttemptAt) {
+        return databaseClient.sql("""
+                UPDATE outbox_events
+                SET attempts = :attempts, next_attempt_at = :next
+                WHERE id = :id
+                """)
+            .bind("attempts", attempts)
+            .bind("next", nextAttemptAt)
+            .bind("id", id)
+            .fetch()
+            .rowsUpdated();
+    }
+
+    /**
+     * Moves events to outbox_dead_letters in one transaction, deleting the
+     * outbox rows of those that have one.
+     */
+    public Mono<Long> deadLetter(List<OutboxEvent> events, LocalDateTime failedAt) {
+        if (events.isEmpty()) {
+            return Mono.just(0L);
+        }
+        return Flux.fromIterable(events)
+            .concatMap(event -> databaseClient.sql(INSERT_DEAD_LETTER)
+                .bind("topic", event.getTopic())
+                .bind("key", event.getEventKey())
+                .bind("payload", event.getPayload())
+                .bind("createdAt", event.getCreatedAt())
+                .bind("attempts", event.getAttempts())
+                .bind("failedAt", failedAt)
+                .fetch()
+                .rowsUpdated())
+            .then(delete(events.stream()
+                .map(OutboxEvent::getId)
+                .filter(Objects::nonNull)
+                .toList()))
+            .as(transactions::transactional)
+            .thenReturn((long) events.size());
+    }
+
+    /**
+     * Pending event count and the creation time of the oldest one, which
+     * is null when the outbox is empty.
+     */
+    public Mono<Backlog> backlog() {
+        return databaseClient.sql("SELECT COUNT(*) AS pending, MIN(created_at) AS oldest FROM outbox_events")
+            .map((row, metadata) -> new Backlog(
+                row.get("pending", Long.class),
+                row.get("oldest", LocalDateTime.class)))
+            .one();
+    }
+
+    public record Backlog(long pending, LocalDateTime oldest) {
+    }
+
+    private static OutboxEvent toEvent(Row row) {
+        return OutboxEvent.builder()
+            .id(row.get("id", Long.class))
+            .topic(row.get("topic", String.class))
+            .eventKey(row.get("event_key", String.class))
+            .payload(row.get("payload", String.class))
+            .createdAt(row.get("created_at", LocalDateTime.class))
+            .attempts(row.get("attempts", Integer.class))
+            .nextAttemptAt(row.get("next_attempt_at", LocalDateTime.class))
+            .build();
+    }
+}
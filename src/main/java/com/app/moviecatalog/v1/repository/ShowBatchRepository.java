@@ -0,0 +1,67 @@
+package com.app.moviecatalog.v1.repository;
+
+import com.app.moviecatalog.v1.domain.Show;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.UUID;
+
+/**
+ * Multi-row inserts for generated schedules. Rows go out in statements of
+ * {@link #BATCH_SIZE}, all inside one transaction, so a schedule is either
+ * fully written or not at all.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ShowBatchRepository {
+
+    static final int BATCH_SIZE = 500;
+
+    private static final String INSERT = """
+        INSERT INTO shows
+        (id, movie_id, screen_id, show_time, price)
+        VALUES
+        """;
+
+    private final DatabaseClient databaseClient;
+
+    @Transactional
+    public Mono<Long> insertAll(List<Show> shows) {
+        return Flux.range(0, (shows.size() + BATCH_SIZE - 1) / BATCH_SIZE)
+            .concatMap(batch -> insertBatch(shows.subList(
+                batch * BATCH_SIZE, Math.min(shows.size(), (batch + 1) * BATCH_SIZE))))
+            .reduce(0L, Long::sum);
+    }
+
+    private Mono<Long> insertBatch(List<Show> shows) {
+        final StringJoiner rows = new StringJoiner(",\n");
+        for (int i = 0; i < shows.size(); i++) {
+            rows.add("(:id" + i + ", :movieId" + i + ", :screenId" + i
+                + ", :showTime" + i + ", :price" + i + ")");
+        }
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(INSERT + rows);
+        for (int i = 0; i < shows.size(); i++) {
+            final Show show = shows.get(i);
+            spec = bind(spec, "id" + i, show.getId(), UUID.class);
+            spec = bind(spec, "movieId" + i, show.getMovieId(), UUID.class);
+            spec = bind(spec, "screenId" + i, show.getScreenId(), UUID.class);
+            spec = bind(spec, "showTime" + i, show.getShowTime(), LocalDateTime.class);
+            spec = bind(spec, "price" + i, show.getPrice(), BigDecimal.class);
+        }
+        return spec.fetch().rowsUpdated();
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bind(
+        DatabaseClient.GenericExecuteSpec spec, String name, Object value, Class<?> type) {
+        return value == null ? spec.bindNull(name, type) : spec.bind(name, value);
+    }
+}
@@ -1,5 +1,7 @@
 package com.app.moviecatalog.v1.repository;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 import com.app.moviecatalog.v1.domain.Show;
@@ -23,4 +25,52 @@ public interface ShowRepository
         AND LOWER(t.city) = LOWER(:city)
         """)
     Flux<Show> findShowsByMovieAndCity(UUID movieId, String city);
+
+    @Query("""
+        SELECT s.*
+        FROM shows s
+        JOIN screens sc ON s.screen_id = sc.id
+        JOIN theatres t ON sc.theatre_id = t.id
+        WHERE s.movie_id = :movieId
+        AND LOWER(t.city) = LOWER(:city)
+        AND s.show_time >= :from
+        AND s.show_time < :to
+        ORDER BY s.show_time, s.id
+        """)
+    Flux<Show> findShowsByMovieAndCityBetween(
+        UUID movieId, String city, LocalDateTime from, LocalDateTime to);
+
+    // Keyset page: rows strictly after (afterTime, afterId) in (show_time, id) order
+    @Query("""
+        SELECT s.*
+        FROM shows s
+        JOIN screens sc ON s.screen_id = sc.id
+        JOIN theatres t ON sc.theatre_id = t.id
+        WHERE s.movie_id = :movieId
+        AND LOWER(t.city) = LOWER(:city)
+        AND s.show_time >= :from
+        AND s.show_time < :to
+        AND (s.show_time > :afterTime OR (s.show_time = :afterTime AND s.id > :afterId))
+        ORDER BY s.show_time, s.id
+        LIMIT :limit
+        """)
+    Flux<Show> findShowsPage(
+        UUID movieId, String city, LocalDateTime from, LocalDateTime to,
+        LocalDateTime afterTime, UUID afterId, int limit);
+
+    @Query("""
+        SELECT s.*
+        FROM shows s
+        JOIN screens sc ON s.screen_id = sc.id
+        JOIN theatres t ON sc.theatre_id = t.id
+        WHERE LOWER(t.city) = LOWER(:city)
+        AND s.show_time >= :from
+        AND s.show_time < :to
+        AND s.price BETWEEN :minPrice AND :maxPrice
+        ORDER BY s.show_time, s.id
+        LIMIT :limit
+        """)
+    Flux<Show> searchSchedule(
+        String city, LocalDateTime from, LocalDateTime to,
+        BigDecimal minPrice, BigDecimal maxPrice, int limit);
 }
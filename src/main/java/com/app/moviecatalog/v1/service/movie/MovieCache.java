@@ -0,0 +1,75 @@
+package com.app.moviecatalog.v1.service.movie;
+
+import com.app.moviecatalog.v1.domain.Movie;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Size and TTL bounded read-through cache for movies by id.
+ * Concurrent misses for the same id share a single load; empty results
+ * and errors are not cached.
+ */
+@Component
+public class MovieCache {
+
+    private final AsyncCache<UUID, Movie> cache;
+
+    public MovieCache(
+        @Value("${catalog.cache.movie.max-size:10000}") long maxSize,
+        @Value("${catalog.cache.movie.ttl:10m}") Duration ttl,
+        MeterRegistry meterRegistry) {
+
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .buildAsync();
+
+        FunctionCounter.builder("catalog.movie.cache.hits", cache,
+                c -> c.synchronous().stats().hitCount())
+            .register(meterRegistry);
+        FunctionCounter.builder("catalog.movie.cache.misses", cache,
+                c -> c.synchronous().stats().missCount())
+            .register(meterRegistry);
+        FunctionCounter.builder("catalog.movie.cache.evictions", cache,
+                c -> c.synchronous().stats().evictionCount())
+            .register(meterRegistry);
+        Gauge.builder("catalog.movie.cache.size", cache,
+                c -> c.synchronous().estimatedSize())
+            .register(meterRegistry);
+    }
+
+    public Mono<Movie> get(UUID id, Function<UUID, Mono<Movie>> loader) {
+        // suppressCancel: one subscriber going away must not cancel the
+        // load other subscribers are waiting on.
+        return Mono.fromFuture(
+            () -> cache.get(id, (key, executor) -> loader.apply(key).toFuture()),
+            true);
+    }
+
+    public void invalidate(UUID id) {
+        cache.synchronous().invalidate(id);
+    }
+
+    public long hitCount() {
+        return cache.synchronous().stats().hitCount();
+    }
+
+    public long missCount() {
+        return cache.synchronous().stats().missCount();
+    }
+
+    public long evictionCount() {
+        return cache.synchronous().stats().evictionCount();
+    }
+}
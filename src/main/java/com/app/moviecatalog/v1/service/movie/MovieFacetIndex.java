@@ -0,0 +1,186 @@
+package com.app.moviecatalog.v1.service.movie;
+
+import com.app.moviecatalog.v1.common.facet.FacetResult;
+import com.app.moviecatalog.v1.domain.Movie;
+import com.app.moviecatalog.v1.repository.MovieRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * Facet engine over active movies: one bitmap per genre, language and
+ * release year value, indexed by a dense per-movie ordinal. Filters are
+ * bitmap intersections and counts are intersection cardinalities.
+ * Ordinals are dense, so plain {@link BitSet}s stay compact (one bit per
+ * movie per value) without an external compressed-bitmap library.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MovieFacetIndex {
+
+    public static final String GENRE = "genre";
+    public static final String LANGUAGE = "language";
+    public static final String YEAR = "year";
+
+    private static final Map<String, Function<Movie, String>> DIMENSIONS = Map.of(
+        GENRE, Movie::getGenre,
+        LANGUAGE, Movie::getLanguage,
+        YEAR, movie -> movie.getReleaseDate() == null
+            ? null : String.valueOf(movie.getReleaseDate().getYear()));
+
+    private static final Comparator<Movie> BY_TITLE = Comparator.comparing(
+        Movie::getTitle, Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER));
+
+    private final MovieRepository movieRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<UUID, Integer> ordinals = new HashMap<>();
+    private final List<Movie> byOrdinal = new ArrayList<>();
+    private final BitSet live = new BitSet();
+    // dimension -> lower-cased value -> bitmap
+    private final Map<String, Map<String, Facet>> facets = new HashMap<>();
+
+    private volatile boolean ready;
+
+    private record Facet(String label, BitSet movies) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        movieRepository.findByActiveTrue()
+            .subscribe(
+                this::add,
+                error -> log.warn("Movie facet index warm-up failed", error),
+                () -> {
+                    ready = true;
+                    log.info("Movie facet index ready with {} movies", live.cardinality());
+                });
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void add(Movie movie) {
+        if (movie.getId() == null || !Boolean.TRUE.equals(movie.getActive())) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            final Integer previous = ordinals.get(movie.getId());
+            if (previous != null) {
+                clear(previous);
+            }
+
+            final int ordinal = byOrdinal.size();
+            byOrdinal.add(movie);
+            ordinals.put(movie.getId(), ordinal);
+            live.set(ordinal);
+
+            DIMENSIONS.forEach((dimension, value) -> {
+                final String label = value.apply(movie);
+                if (label == null || label.isBlank()) {
+                    return;
+                }
+                facets.computeIfAbsent(dimension, k -> new HashMap<>())
+                    .computeIfAbsent(key(label), k -> new Facet(label.trim(), new BitSet()))
+                    .movies().set(ordinal);
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(UUID id) {
+        lock.writeLock().lock();
+        try {
+            final Integer ordinal = ordinals.remove(id);
+            if (ordinal != null) {
+                clear(ordinal);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @param filters dimension -> value, matched case-insensitively;
+     *                unknown dimensions are ignored
+     */
+    public FacetResult<Movie> query(Map<String, String> filters) {
+        lock.readLock().lock();
+        try {
+            final Map<String, BitSet> selected = new HashMap<>();
+            filters.forEach((dimension, value) -> {
+                if (DIMENSIONS.containsKey(dimension)) {
+                    final Facet facet = facets.getOrDefault(dimension, Map.of()).get(key(value));
+                    selected.put(dimension, facet == null ? new BitSet() : facet.movies());
+                }
+            });
+
+            final BitSet matches = intersect(selected, null);
+            final List<Movie> items = new ArrayList<>(matches.cardinality());
+            for (int i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1)) {
+                items.add(byOrdinal.get(i));
+            }
+            items.sort(BY_TITLE);
+
+            final Map<String, Map<String, Integer>> counts = new LinkedHashMap<>();
+            for (String dimension : List.of(GENRE, LANGUAGE, YEAR)) {
+                final BitSet base = intersect(selected, dimension);
+                final Map<String, Integer> values = new TreeMap<>();
+                facets.getOrDefault(dimension, Map.of()).values().forEach(facet -> {
+                    final BitSet hits = (BitSet) facet.movies().clone();
+                    hits.and(base);
+                    if (!hits.isEmpty()) {
+                        values.put(facet.label(), hits.cardinality());
+                    }
+                });
+                counts.put(dimension, values);
+            }
+
+            return new FacetResult<>(items, items.size(), counts);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private BitSet intersect(Map<String, BitSet> selected, String skip) {
+        final BitSet result = (BitSet) live.clone();
+        selected.forEach((dimension, bits) -> {
+            if (!dimension.equals(skip)) {
+                result.and(bits);
+            }
+        });
+        return result;
+    }
+
+    private void clear(int ordinal) {
+        live.clear(ordinal);
+        byOrdinal.set(ordinal, null);
+        facets.values().forEach(values ->
+            values.values().forEach(facet -> facet.movies().clear(ordinal)));
+    }
+
+    private static String key(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+}
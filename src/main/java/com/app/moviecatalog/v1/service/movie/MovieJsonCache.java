@@ -0,0 +1,121 @@
+package com.app.moviecatalog.v1.service.movie;
+
+import com.app.moviecatalog.v1.domain.Movie;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Ready-encoded JSON for the hot movie reads: the full active list and
+ * individual movies by id. Bodies are encoded once with the application
+ * ObjectMapper and each response wraps the shared bytes in a DataBuffer
+ * (Unpooled.wrappedBuffer on Netty), so a hit neither serializes nor copies.
+ * Entries are dropped by the {@link MovieServiceImpl} write paths through
+ * {@link #invalidate}, next to the version bump and the entity cache.
+ */
+@Component
+public class MovieJsonCache {
+
+    private final ObjectMapper objectMapper;
+
+    // W-TinyLFU keeps the popular ids when the bound is hit
+    private final AsyncCache<UUID, byte[]> movies;
+
+    // Replaced, not cleared, on invalidation so an in-flight stale load
+    // is never installed for later readers
+    private final AtomicReference<Mono<byte[]>> activeList = new AtomicReference<>();
+
+    private final Counter listHits;
+    private final Counter listMisses;
+
+    public MovieJsonCache(
+        ObjectMapper objectMapper,
+        @Value("${catalog.cache.movie-json.max-size:1000}") long maxSize,
+        MeterRegistry meterRegistry) {
+
+        this.objectMapper = objectMapper;
+        this.movies = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .recordStats()
+            .buildAsync();
+
+        FunctionCounter.builder("catalog.movie.json.hits", movies,
+                c -> c.synchronous().stats().hitCount())
+            .tag("body", "movie")
+            .register(meterRegistry);
+        FunctionCounter.builder("catalog.movie.json.misses", movies,
+                c -> c.synchronous().stats().missCount())
+            .tag("body", "movie")
+            .register(meterRegistry);
+        Gauge.builder("catalog.movie.json.size", movies,
+                c -> c.synchronous().estimatedSize())
+            .register(meterRegistry);
+        this.listHits = Counter.builder("catalog.movie.json.hits")
+            .tag("body", "list")
+            .register(meterRegistry);
+        this.listMisses = Counter.builder("catalog.movie.json.misses")
+            .tag("body", "list")
+            .register(meterRegistry);
+    }
+
+    public Mono<byte[]> movie(UUID id, Function<UUID, Mono<Movie>> loader) {
+        // Empty and failed loads complete the future with null / exceptionally,
+        // which Caffeine does not retain
+        return Mono.fromFuture(
+            () -> movies.get(id, (key, executor) -> loader.apply(key)
+                .map(this::encode)
+                .toFuture()),
+            true);
+    }
+
+    public Mono<byte[]> activeMovies(Supplier<Flux<Movie>> loader) {
+        final Mono<byte[]> cached = activeList.get();
+        if (cached != null) {
+            listHits.increment();
+            return cached;
+        }
+
+        final Mono<byte[]> load = Mono.defer(() -> loader.get().collectList())
+            .map(this::encode)
+            .cache();
+        if (!activeList.compareAndSet(null, load)) {
+            return activeMovies(loader);
+        }
+        listMisses.increment();
+        return load.doOnError(error -> activeList.compareAndSet(load, null));
+    }
+
+    public void invalidate(UUID id) {
+        movies.synchronous().invalidate(id);
+        activeList.set(null);
+    }
+
+    public void invalidateAll() {
+        movies.synchronous().invalidateAll();
+        activeList.set(null);
+    }
+
+    private byte[] encode(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException ex) {
+            throw Exceptions.propagate(ex);
+        }
+    }
+}
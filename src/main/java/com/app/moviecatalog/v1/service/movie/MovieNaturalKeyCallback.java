@@ -0,0 +1,24 @@
+package com.app.moviecatalog.v1.service.movie;
+
+import com.app.moviecatalog.v1.domain.Movie;
+import org.reactivestreams.Publisher;
+import org.springframework.data.r2dbc.mapping.event.BeforeConvertCallback;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Stamps every movie saved through the repository with its natural key, so
+ * the uk_movies_natural_key constraint compares the same folded key the
+ * in-memory {@link MovieNaturalKeyIndex} does. Bulk inserts bypass the
+ * entity callbacks and set the key themselves.
+ */
+@Component
+public class MovieNaturalKeyCallback implements BeforeConvertCallback<Movie> {
+
+    @Override
+    public Publisher<Movie> onBeforeConvert(Movie movie, SqlIdentifier table) {
+        movie.setNaturalKey(MovieNaturalKeyIndex.keyOf(movie));
+        return Mono.just(movie);
+    }
+}
@@ -0,0 +1,61 @@
+package com.app.moviecatalog.v1.service.movie;
+
+import com.app.moviecatalog.v1.domain.Movie;
+import com.app.moviecatalog.v1.repository.MovieRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hash index of movie natural keys (folded title + language + release date)
+ * to the owning id, covering every row including inactive ones.
+ * Creates reserve their key here first, so duplicates are rejected in O(1)
+ * without a query. The uk_movies_natural_key constraint on the stored
+ * natural_key column holds the same key and is the backstop for anything
+ * the index has not seen yet: rows written before warm-up finished or by
+ * another instance.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MovieNaturalKeyIndex {
+
+    private final MovieRepository movieRepository;
+
+    private final Map<String, UUID> owners = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        movieRepository.findAll()
+            .subscribe(
+                movie -> owners.putIfAbsent(keyOf(movie), movie.getId()),
+                error -> log.warn("Movie natural key index warm-up failed", error),
+                () -> log.info("Movie natural key index ready with {} keys", owners.size()));
+    }
+
+    /**
+     * @return null if the key was free and is now held by {@code id},
+     *         otherwise the id of the movie that already owns it
+     */
+    public UUID reserve(String key, UUID id) {
+        final UUID owner = owners.putIfAbsent(key, id);
+        return owner == null || owner.equals(id) ? null : owner;
+    }
+
+    public void release(String key, UUID id) {
+        owners.remove(key, id);
+    }
+
+    public static String keyOf(Movie movie) {
+        return (movie.getTitle() == null ? "" : MovieTitleIndex.fold(movie.getTitle()))
+            + '|' + (movie.getLanguage() == null ? "" : movie.getLanguage().trim().toLowerCase(Locale.ROOT))
+            + '|' + movie.getReleaseDate();
+    }
+}
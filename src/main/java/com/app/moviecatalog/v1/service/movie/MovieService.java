@@ -1,14 +1,23 @@
 package com.app.moviecatalog.v1.service.movie;
 
+import com.app.moviecatalog.v1.common.bulk.BulkIngestReport;
+import com.app.moviecatalog.v1.common.facet.FacetResult;
+import com.app.moviecatalog.v1.common.page.CursorPage;
 import com.app.moviecatalog.v1.domain.Movie;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Map;
 import java.util.UUID;
 
 public interface MovieService {
     Flux<Movie> getAllActiveMovies();
+    Mono<CursorPage<Movie>> getActiveMoviesPage(String cursor, int limit);
+    Mono<FacetResult<Movie>> facetMovies(Map<String, String> filters);
     Flux<Movie> searchMovies(String title);
+    Flux<Movie> fuzzySearchMovies(String title, int limit);
+    Flux<TitleSuggestion> suggestTitles(String prefix, int limit);
     Mono<Movie> getMovieById(UUID id);
     Mono<Movie> createMovie(Movie movie);
+    Mono<BulkIngestReport> bulkCreateMovies(Flux<Movie> movies);
 }
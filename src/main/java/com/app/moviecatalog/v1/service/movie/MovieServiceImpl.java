@@ -1,41 +1,272 @@
 package com.app.moviecatalog.v1.service.movie;
 
+import com.app.moviecatalog.v1.common.bulk.BatchResult;
+import com.app.moviecatalog.v1.common.bulk.BulkIngestReport;
+import com.app.moviecatalog.v1.common.bulk.RowError;
+import com.app.moviecatalog.v1.common.coalesce.RequestCoalescer;
+import com.app.moviecatalog.v1.common.facet.FacetResult;
+import com.app.moviecatalog.v1.common.page.CursorPage;
+import com.app.moviecatalog.v1.common.page.Cursors;
+import com.app.moviecatalog.v1.common.version.CatalogVersion;
 import com.app.moviecatalog.v1.domain.Movie;
+import com.app.moviecatalog.v1.eventsream.publisher.CatalogChangePublisher;
+import com.app.moviecatalog.v1.exception.DuplicateMovieException;
 import com.app.moviecatalog.v1.exception.MovieNotFoundException;
+import com.app.moviecatalog.v1.repository.MovieBatchRepository;
 import com.app.moviecatalog.v1.repository.MovieRepository;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
 
 @Service
 @RequiredArgsConstructor
 public class MovieServiceImpl implements MovieService{
 
+    private static final int BULK_BATCH_SIZE = 500;
+    private static final int BULK_CONCURRENCY = 4;
+
     private final MovieRepository movieRepository;
+    private final MovieBatchRepository movieBatchRepository;
+    private final MovieTitleIndex titleIndex;
+    private final MovieFacetIndex facetIndex;
+    private final MovieTitleSuggester titleSuggester;
+    private final MovieNaturalKeyIndex naturalKeys;
+    private final CatalogVersion catalogVersion;
+    private final MovieCache movieCache;
+    private final MovieJsonCache jsonCache;
+    private final RequestCoalescer coalescer;
+    private final CatalogChangePublisher changes;
+    private final TransactionalOperator transactions;
 
     @Override
     public Flux<Movie> getAllActiveMovies() {
+        // Not coalesced: NDJSON streams this, and a shared replay would hold every row
         return movieRepository.findByActiveTrue();
     }
 
+    @Override
+    public Mono<CursorPage<Movie>> getActiveMoviesPage(String cursor, int limit) {
+        // A malformed cursor surfaces as an IllegalArgumentException signal
+        return Mono.defer(() -> activeMoviesPage(
+            cursor == null ? null : UUID.fromString(Cursors.decode(cursor, 1)[0]), limit));
+    }
+
+    private Mono<CursorPage<Movie>> activeMoviesPage(UUID after, int limit) {
+        // Fetch one extra row to learn whether another page exists.
+        final Mono<List<Movie>> rows = coalescer.mono("movies.page", Arrays.asList(after, limit),
+            () -> (after == null
+                ? movieRepository.findActivePage(limit + 1)
+                : movieRepository.findActivePageAfter(after, limit + 1)).collectList());
+
+        return rows
+            .map(movies -> {
+                if (movies.size() <= limit) {
+                    return new CursorPage<>(movies, null);
+                }
+                final List<Movie> page = movies.subList(0, limit);
+                return new CursorPage<>(page,
+                    Cursors.encode(page.get(limit - 1).getId().toString()));
+            });
+    }
+
+    @Override
+    public Mono<FacetResult<Movie>> facetMovies(Map<String, String> filters) {
+        if (facetIndex.isReady()) {
+            return Mono.fromSupplier(() -> facetIndex.query(filters));
+        }
+        // Still warming up: facet the rows of this request in a throwaway index
+        return coalescer.mono("movies.active", "",
+                () -> movieRepository.findByActiveTrue().collectList())
+            .map(movies -> {
+                final MovieFacetIndex snapshot = new MovieFacetIndex(movieRepository);
+                movies.forEach(snapshot::add);
+                return snapshot.query(filters);
+            });
+    }
+
     @Override
     public Flux<Movie> searchMovies(String title) {
-        return movieRepository
-            .findByTitleContainingIgnoreCaseAndActiveTrue(title);
+        if (!titleIndex.isReady()) {
+            return titleMatches(title);
+        }
+        return Flux.fromIterable(titleIndex.search(title));
+    }
+
+    @Override
+    public Flux<Movie> fuzzySearchMovies(String title, int limit) {
+        if (!titleIndex.isReady()) {
+            // No similarity ranking in SQL; plain matches are the best we can do
+            return titleMatches(title).take(limit);
+        }
+        return Flux.fromIterable(titleIndex.fuzzySearch(title, limit));
+    }
+
+    @Override
+    public Flux<TitleSuggestion> suggestTitles(String prefix, int limit) {
+        final String folded = MovieTitleIndex.fold(prefix == null ? "" : prefix);
+        // Nothing to complete, warm or not; the LIKE query would list every title
+        if (folded.isEmpty() || limit < 1) {
+            return Flux.empty();
+        }
+        if (!titleSuggester.isReady()) {
+            return titleMatches(prefix)
+                .filter(movie -> MovieTitleIndex.fold(movie.getTitle()).startsWith(folded))
+                .map(movie -> new TitleSuggestion(
+                    movie.getId(), movie.getTitle(), movie.getReleaseDate()))
+                .sort(MovieTitleSuggester.RANKING)
+                .take(limit);
+        }
+        return Flux.fromIterable(titleSuggester.suggest(prefix, limit));
+    }
+
+    // Search, fuzzy search and suggestions share one query per title while warming up
+    private Flux<Movie> titleMatches(String title) {
+        return coalescer.flux("movies.title", title,
+            () -> movieRepository.findByTitleContainingIgnoreCaseAndActiveTrue(title));
     }
 
     @Override
     public Mono<Movie> getMovieById(UUID id) {
-        return movieRepository.findById(id)
+        return movieCache.get(id, movieRepository::findById)
             .switchIfEmpty(Mono.error(
                 new MovieNotFoundException("Movie not found")));
     }
 
     @Override
     public Mono<Movie> createMovie(Movie movie) {
-        movie.setId(UUID.randomUUID());
-        return movieRepository.save(movie);
+        return Mono.defer(() -> {
+            movie.setId(UUID.randomUUID());
+
+            final String key = MovieNaturalKeyIndex.keyOf(movie);
+            movie.setNaturalKey(key);
+            if (naturalKeys.reserve(key, movie.getId()) != null) {
+                return Mono.error(new DuplicateMovieException("Movie already exists"));
+            }
+
+            return movieRepository.save(movie)
+                .flatMap(saved -> changes.moviesCreated(List.of(saved)).thenReturn(saved))
+                .as(transactions::transactional)
+                .onErrorMap(DuplicateKeyException.class,
+                    ex -> new DuplicateMovieException("Movie already exists"))
+                .doOnError(ex -> naturalKeys.release(key, movie.getId()))
+                .doOnNext(saved -> {
+                    movieCache.invalidate(saved.getId());
+                    jsonCache.invalidate(saved.getId());
+                    titleIndex.add(saved);
+                    facetIndex.add(saved);
+                    titleSuggester.add(saved);
+                    // Last, so a reader holding the new ETag sees the new body
+                    catalogVersion.bump();
+                });
+        });
+    }
+
+    @Override
+    public Mono<BulkIngestReport> bulkCreateMovies(Flux<Movie> movies) {
+        final long started = System.nanoTime();
+
+        // buffer + bounded flatMapSequential: at most BULK_CONCURRENCY batches
+        // are in flight, so demand on the request body stays bounded too.
+        return movies.index()
+            .buffer(BULK_BATCH_SIZE)
+            .index()
+            .flatMapSequential(
+                batch -> insertBatch(batch.getT1(), batch.getT2()),
+                BULK_CONCURRENCY)
+            .collectList()
+            .map(results -> BulkIngestReport.of(results, System.nanoTime() - started));
+    }
+
+    private Mono<BatchResult> insertBatch(long batchNo, List<Tuple2<Long, Movie>> rows) {
+        final List<Movie> valid = new ArrayList<>(rows.size());
+        final List<Long> validRows = new ArrayList<>(rows.size());
+        final List<RowError> rejected = new ArrayList<>();
+
+        for (Tuple2<Long, Movie> row : rows) {
+            final Movie movie = row.getT2();
+            final String problem = validate(movie);
+            if (problem != null) {
+                rejected.add(new RowError(row.getT1(), problem));
+                continue;
+            }
+            movie.setId(UUID.randomUUID());
+            movie.setNaturalKey(MovieNaturalKeyIndex.keyOf(movie));
+            final UUID owner = naturalKeys.reserve(movie.getNaturalKey(), movie.getId());
+            if (owner != null) {
+                rejected.add(new RowError(row.getT1(), "duplicate of movie " + owner));
+            } else {
+                valid.add(movie);
+                validRows.add(row.getT1());
+            }
+        }
+
+        return insertAll(valid)
+            // A key the index has not seen is taken; find the rows that collide
+            .onErrorResume(DuplicateKeyException.class,
+                ex -> insertEach(valid, validRows, rejected))
+            .map(saved -> {
+                saved.forEach(movie -> {
+                    jsonCache.invalidate(movie.getId());
+                    titleIndex.add(movie);
+                    facetIndex.add(movie);
+                    titleSuggester.add(movie);
+                });
+                if (!saved.isEmpty()) {
+                    catalogVersion.bump();
+                }
+                rejected.sort(Comparator.comparingLong(RowError::getRow));
+                return new BatchResult(batchNo, rows.size(), saved.size(), rejected, null);
+            })
+            .onErrorResume(ex -> {
+                valid.forEach(movie -> naturalKeys.release(movie.getNaturalKey(), movie.getId()));
+                return Mono.just(
+                    new BatchResult(batchNo, rows.size(), 0, rejected, ex.getMessage()));
+            });
+    }
+
+    private Mono<List<Movie>> insertAll(List<Movie> movies) {
+        return movieBatchRepository.insertAll(movies)
+            .flatMap(inserted -> changes.moviesCreated(movies).thenReturn(movies))
+            .as(transactions::transactional);
+    }
+
+    // One transaction per row, so only the duplicates are rejected
+    private Mono<List<Movie>> insertEach(List<Movie> movies, List<Long> rowNos, List<RowError> rejected) {
+        return Flux.range(0, movies.size())
+            .concatMap(i -> insertAll(List.of(movies.get(i)))
+                .onErrorResume(DuplicateKeyException.class, ex -> {
+                    final Movie movie = movies.get(i);
+                    naturalKeys.release(movie.getNaturalKey(), movie.getId());
+                    rejected.add(new RowError(rowNos.get(i), "duplicate movie"));
+                    return Mono.empty();
+                }))
+            .concatMapIterable(saved -> saved)
+            .collectList();
+    }
+
+    private static String validate(Movie movie) {
+        if (movie.getTitle() == null || movie.getTitle().isBlank()) {
+            return "title is required";
+        }
+        if (movie.getLanguage() == null || movie.getLanguage().isBlank()) {
+            return "language is required";
+        }
+        if (movie.getReleaseDate() == null) {
+            return "releaseDate is required";
+        }
+        if (movie.getDurationMinutes() != null && movie.getDurationMinutes() <= 0) {
+            return "durationMinutes must be positive";
+        }
+        return null;
     }
 }
@@ -0,0 +1,314 @@
+package com.app.moviecatalog.v1.service.movie;
+
+import com.app.moviecatalog.v1.domain.Movie;
+import com.app.moviecatalog.v1.repository.MovieRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory trigram index over active movie titles.
+ * Serves case-insensitive "contains" searches without a LIKE '%x%' table scan,
+ * and typo-tolerant searches ranked by trigram similarity.
+ * Until the startup warm-up completes {@link #isReady()} is false and callers
+ * should fall back to the repository query.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MovieTitleIndex {
+
+    private static final int GRAM = 3;
+
+    // Dice coefficient below which a fuzzy candidate is not worth returning
+    private static final double MIN_SIMILARITY = 0.3;
+
+    private static final Pattern PUNCTUATION = Pattern.compile("[^\\p{L}\\p{N}\\s]");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private static final Comparator<Movie> BY_TITLE =
+        Comparator.comparing(Movie::getTitle, String.CASE_INSENSITIVE_ORDER);
+
+    private final MovieRepository movieRepository;
+
+    private final Map<UUID, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, Set<UUID>> postings = new ConcurrentHashMap<>();
+
+    // Fuzzy scoring touches every title sharing a trigram with the query, so
+    // it works on dense int ordinals and primitive arrays instead of UUID sets.
+    // Writes are serialized on this; readers rely on volatile publication.
+    private final Map<String, IntPosting> fuzzyPostings = new ConcurrentHashMap<>();
+    private volatile Entry[] byOrdinal = new Entry[1024];
+    private volatile int[] gramCounts = new int[1024];
+    private volatile int ordinals;
+
+    // Per-thread counters, cleared through the touched list after each query
+    private final ThreadLocal<Scratch> scratch = ThreadLocal.withInitial(Scratch::new);
+
+    private volatile boolean ready;
+
+    private record Entry(int ordinal, Movie movie, String title, Set<String> fuzzyGrams) {
+    }
+
+    private record Scored(Entry entry, double score) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        movieRepository.findByActiveTrue()
+            .subscribe(
+                this::add,
+                error -> log.warn("Movie title index warm-up failed, search stays on the database", error),
+                () -> {
+                    ready = true;
+                    log.info("Movie title index ready with {} titles", entries.size());
+                });
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public synchronized void add(Movie movie) {
+        if (movie.getId() == null || movie.getTitle() == null
+            || !Boolean.TRUE.equals(movie.getActive())) {
+            return;
+        }
+
+        final UUID id = movie.getId();
+        final Entry entry = new Entry(ordinals, movie, normalize(movie.getTitle()),
+            fuzzyGrams(movie.getTitle()));
+
+        Entry[] slots = byOrdinal;
+        int[] counts = gramCounts;
+        if (entry.ordinal() == slots.length) {
+            slots = Arrays.copyOf(slots, slots.length * 2);
+            counts = Arrays.copyOf(counts, counts.length * 2);
+        }
+        slots[entry.ordinal()] = entry;
+        counts[entry.ordinal()] = entry.fuzzyGrams().size();
+        byOrdinal = slots;
+        gramCounts = counts;
+        ordinals = entry.ordinal() + 1;
+
+        final Entry previous = entries.put(id, entry);
+        if (previous != null) {
+            unlink(id, previous);
+        }
+
+        for (String gram : grams(entry.title())) {
+            postings.computeIfAbsent(gram, k -> ConcurrentHashMap.newKeySet()).add(id);
+        }
+        for (String gram : entry.fuzzyGrams()) {
+            fuzzyPostings.computeIfAbsent(gram, k -> new IntPosting()).add(entry.ordinal());
+        }
+    }
+
+    public synchronized void remove(UUID id) {
+        final Entry entry = entries.remove(id);
+        if (entry != null) {
+            unlink(id, entry);
+        }
+    }
+
+    /**
+     * Same semantics as findByTitleContainingIgnoreCaseAndActiveTrue, ordered by title.
+     */
+    public List<Movie> search(String query) {
+        final String needle = normalize(query == null ? "" : query);
+
+        if (needle.length() < GRAM) {
+            return collect(entries.keySet(), needle);
+        }
+
+        // Every match contains every trigram of the needle, so the rarest
+        // posting list is a complete candidate set; verify with contains().
+        Set<UUID> candidates = null;
+        for (String gram : grams(needle)) {
+            final Set<UUID> posting = postings.get(gram);
+            if (posting == null) {
+                return List.of();
+            }
+            if (candidates == null || posting.size() < candidates.size()) {
+                candidates = posting;
+            }
+        }
+        return collect(candidates, needle);
+    }
+
+    /**
+     * Top {@code limit} titles by trigram similarity (Dice coefficient) to
+     * the query, ignoring case and punctuation. Best match first.
+     */
+    public List<Movie> fuzzySearch(String query, int limit) {
+        final Set<String> queryGrams = fuzzyGrams(query == null ? "" : query);
+        if (queryGrams.isEmpty() || limit < 1) {
+            return List.of();
+        }
+
+        // ordinals is published after the arrays, so read it first
+        final int known = ordinals;
+        final Entry[] slots = byOrdinal;
+        final int[] counts = gramCounts;
+        final Scratch work = scratch.get();
+        final int[] shared = work.shared(known);
+        final IntPosting touched = work.touched;
+
+        for (String gram : queryGrams) {
+            final IntPosting posting = fuzzyPostings.get(gram);
+            if (posting == null) {
+                continue;
+            }
+            final int size = posting.size;
+            final int[] ids = posting.ids;
+            for (int i = 0; i < size; i++) {
+                final int ordinal = ids[i];
+                if (ordinal < known && shared[ordinal]++ == 0) {
+                    touched.add(ordinal);
+                }
+            }
+        }
+
+        final Comparator<Scored> worstFirst = Comparator
+            .comparingDouble(Scored::score)
+            .thenComparing(s -> s.entry().title(), Comparator.reverseOrder());
+        final PriorityQueue<Scored> top = new PriorityQueue<>(limit + 1, worstFirst);
+
+        for (int i = 0; i < touched.size; i++) {
+            final int ordinal = touched.ids[i];
+            final double score = 2.0 * shared[ordinal]
+                / (queryGrams.size() + counts[ordinal]);
+            if (score < MIN_SIMILARITY
+                || (top.size() == limit && score <= top.peek().score())) {
+                continue;
+            }
+            // Only dereference the entry once the primitive score qualifies
+            final Entry entry = slots[ordinal];
+            if (entry == null) {
+                continue;
+            }
+            top.offer(new Scored(entry, score));
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+
+        for (int i = 0; i < touched.size; i++) {
+            shared[touched.ids[i]] = 0;
+        }
+        touched.size = 0;
+
+        final List<Scored> ranked = new ArrayList<>(top);
+        ranked.sort(worstFirst.reversed());
+        return ranked.stream().map(s -> s.entry().movie()).toList();
+    }
+
+    private List<Movie> collect(Collection<UUID> candidates, String needle) {
+        final List<Movie> result = new ArrayList<>();
+        for (UUID id : candidates) {
+            final Entry entry = entries.get(id);
+            if (entry != null && entry.title().contains(needle)) {
+                result.add(entry.movie());
+            }
+        }
+        result.sort(BY_TITLE);
+        return result;
+    }
+
+    private void unlink(UUID id, Entry entry) {
+        for (String gram : grams(entry.title())) {
+            final Set<UUID> posting = postings.get(gram);
+            if (posting != null) {
+                posting.remove(id);
+            }
+        }
+        // Fuzzy postings are append-only; clearing the slot tombstones the ordinal.
+        byOrdinal[entry.ordinal()] = null;
+    }
+
+    static String normalize(String title) {
+        return title.toLowerCase(Locale.ROOT);
+    }
+
+    static Set<String> grams(String text) {
+        final Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM));
+        }
+        return grams;
+    }
+
+    /**
+     * Lower case, punctuation dropped, whitespace collapsed: "K.G.F: Chapter 2"
+     * folds to "kgf chapter 2".
+     */
+    static String fold(String title) {
+        return WHITESPACE.matcher(
+                PUNCTUATION.matcher(normalize(title)).replaceAll(""))
+            .replaceAll(" ")
+            .trim();
+    }
+
+    /**
+     * Boundary-padded trigrams of the title with punctuation dropped,
+     * so "K.G.F" and "kgf" produce the same set.
+     */
+    static Set<String> fuzzyGrams(String title) {
+        final String letters = fold(title);
+        if (letters.isEmpty()) {
+            return Set.of();
+        }
+        return grams("$" + letters + "$");
+    }
+
+    /**
+     * Append-only int list. size is published after the element is written,
+     * so a reader that reads size first sees a consistent prefix of ids.
+     */
+    private static final class IntPosting {
+
+        private int[] ids = new int[4];
+        private volatile int size;
+
+        void add(int value) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, ids.length * 2);
+            }
+            ids[size] = value;
+            size = size + 1;
+        }
+    }
+
+    private static final class Scratch {
+
+        private int[] shared = new int[0];
+        private final IntPosting touched = new IntPosting();
+
+        int[] shared(int ordinals) {
+            if (shared.length < ordinals) {
+                shared = new int[Math.max(ordinals, shared.length * 2)];
+            }
+            return shared;
+        }
+    }
+}
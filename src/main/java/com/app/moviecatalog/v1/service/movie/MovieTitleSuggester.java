@@ -0,0 +1,189 @@
+package com.app.moviecatalog.v1.service.movie;
+
+import com.app.moviecatalog.v1.domain.Movie;
+import com.app.moviecatalog.v1.repository.MovieRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Prefix autocomplete over folded active titles, most recent release first.
+ * Titles live in a sorted map, so any prefix is a contiguous key range.
+ * Ranges for one to {@value #CACHED_PREFIX} characters can cover most of the
+ * catalog, so their top completions are kept precomputed and updated on
+ * every add. A longer prefix is first answered from the top list of its
+ * first {@value #CACHED_PREFIX} characters; when that list holds too few
+ * matches, those matches are kept and the remaining places are filled from
+ * a scan of the prefix's range, at most {@value #MAX_SCAN} titles of it, so
+ * a common prefix such as "the " stays cheap at the cost of ranking only
+ * the alphabetically first titles of a huge range below the cached best.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MovieTitleSuggester {
+
+    public static final int MAX_SUGGESTIONS = 10;
+
+    private static final int CACHED_PREFIX = 3;
+    static final int MAX_SCAN = 1000;
+
+    // Most recent release first, undated last, then by title
+    static final Comparator<TitleSuggestion> RANKING = Comparator
+        .comparing(TitleSuggestion::getReleaseDate,
+            Comparator.nullsLast(Comparator.<LocalDate>reverseOrder()))
+        .thenComparing(TitleSuggestion::getTitle, String.CASE_INSENSITIVE_ORDER)
+        .thenComparing(TitleSuggestion::getId);
+
+    private final MovieRepository movieRepository;
+
+    // folded title + '\0' + id -> suggestion
+    private final NavigableMap<String, TitleSuggestion> titles = new ConcurrentSkipListMap<>();
+    private final Map<UUID, String> keys = new ConcurrentHashMap<>();
+    private final Map<String, TitleSuggestion[]> topByPrefix = new ConcurrentHashMap<>();
+
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        movieRepository.findByActiveTrue()
+            .subscribe(
+                this::add,
+                error -> log.warn("Movie title suggester warm-up failed", error),
+                () -> {
+                    ready = true;
+                    log.info("Movie title suggester ready with {} titles", titles.size());
+                });
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public synchronized void add(Movie movie) {
+        if (movie.getId() == null || movie.getTitle() == null
+            || !Boolean.TRUE.equals(movie.getActive())) {
+            return;
+        }
+
+        final String folded = MovieTitleIndex.fold(movie.getTitle());
+        if (folded.isEmpty()) {
+            return;
+        }
+
+        final String key = folded + '\0' + movie.getId();
+        final String previous = keys.put(movie.getId(), key);
+        if (previous != null) {
+            titles.remove(previous);
+            if (!previous.equals(key)) {
+                rebuildPrefixes(previous.substring(0, previous.indexOf('\0')));
+            }
+        }
+
+        final TitleSuggestion suggestion = new TitleSuggestion(
+            movie.getId(), movie.getTitle(), movie.getReleaseDate());
+        titles.put(key, suggestion);
+
+        for (int length = 1; length <= Math.min(CACHED_PREFIX, folded.length()); length++) {
+            topByPrefix.merge(folded.substring(0, length),
+                new TitleSuggestion[]{suggestion}, MovieTitleSuggester::mergeTop);
+        }
+    }
+
+    public List<TitleSuggestion> suggest(String prefix, int limit) {
+        final String folded = MovieTitleIndex.fold(prefix == null ? "" : prefix);
+        if (folded.isEmpty() || limit < 1) {
+            return List.of();
+        }
+        final int n = Math.min(limit, MAX_SUGGESTIONS);
+
+        if (folded.length() <= CACHED_PREFIX) {
+            final TitleSuggestion[] top = topByPrefix.get(folded);
+            return top == null ? List.of() : List.of(top).subList(0, Math.min(n, top.length));
+        }
+
+        // The best of the shorter prefix that match are the best of this one
+        final TitleSuggestion[] top = topByPrefix.get(folded.substring(0, CACHED_PREFIX));
+        if (top == null) {
+            return List.of();
+        }
+        final List<TitleSuggestion> cached = new ArrayList<>(n);
+        for (int i = 0; i < top.length && cached.size() < n; i++) {
+            if (MovieTitleIndex.fold(top[i].getTitle()).startsWith(folded)) {
+                cached.add(top[i]);
+            }
+        }
+        if (cached.size() == n) {
+            return cached;
+        }
+
+        // Seeded with the cached matches, which a capped scan may never reach
+        final PriorityQueue<TitleSuggestion> best =
+            new PriorityQueue<>(n + 1, RANKING.reversed());
+        best.addAll(cached);
+        int scanned = 0;
+        for (TitleSuggestion suggestion : range(folded).values()) {
+            if (++scanned > MAX_SCAN) {
+                break;
+            }
+            if (cached.contains(suggestion)) {
+                continue;
+            }
+            best.offer(suggestion);
+            if (best.size() > n) {
+                best.poll();
+            }
+        }
+        final List<TitleSuggestion> result = new ArrayList<>(best);
+        result.sort(RANKING);
+        return result;
+    }
+
+    private NavigableMap<String, TitleSuggestion> range(String prefix) {
+        return titles.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+    }
+
+    // Removals can drop an entry out of a cached top list; recompute from the range.
+    private void rebuildPrefixes(String folded) {
+        for (int length = 1; length <= Math.min(CACHED_PREFIX, folded.length()); length++) {
+            final String prefix = folded.substring(0, length);
+            final TitleSuggestion[] top = range(prefix).values().stream()
+                .sorted(RANKING)
+                .limit(MAX_SUGGESTIONS)
+                .toArray(TitleSuggestion[]::new);
+            if (top.length == 0) {
+                topByPrefix.remove(prefix);
+            } else {
+                topByPrefix.put(prefix, top);
+            }
+        }
+    }
+
+    private static TitleSuggestion[] mergeTop(TitleSuggestion[] current, TitleSuggestion[] added) {
+        final TitleSuggestion candidate = added[0];
+        final TitleSuggestion[] merged = Arrays.copyOf(current, current.length + 1);
+        int size = 0;
+        for (TitleSuggestion existing : current) {
+            if (!existing.getId().equals(candidate.getId())) {
+                merged[size++] = existing;
+            }
+        }
+        merged[size++] = candidate;
+        Arrays.sort(merged, 0, size, RANKING);
+        return Arrays.copyOf(merged, Math.min(size, MAX_SUGGESTIONS));
+    }
+}
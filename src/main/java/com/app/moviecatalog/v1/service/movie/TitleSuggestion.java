@@ -0,0 +1,18 @@
+package com.app.moviecatalog.v1.service.movie;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TitleSuggestion {
+
+    private UUID id;
+    private String title;
+    private LocalDate releaseDate;
+}
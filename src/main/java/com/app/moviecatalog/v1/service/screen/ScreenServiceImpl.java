@@ -1,9 +1,13 @@
 package com.app.moviecatalog.v1.service.screen;
 
+import com.app.moviecatalog.v1.common.version.CatalogVersion;
 import com.app.moviecatalog.v1.domain.Screen;
+import com.app.moviecatalog.v1.eventsream.publisher.CatalogChangePublisher;
 import com.app.moviecatalog.v1.repository.ScreenRepository;
+import com.app.moviecatalog.v1.service.show.ShowCityIndex;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -13,11 +17,21 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class ScreenServiceImpl implements ScreenService{
     private final ScreenRepository repository;
+    private final CatalogVersion catalogVersion;
+    private final ShowCityIndex showCityIndex;
+    private final CatalogChangePublisher changes;
+    private final TransactionalOperator transactions;
 
     @Override
     public Mono<Screen> create(Screen screen) {
         screen.setId(UUID.randomUUID());
-        return repository.save(screen);
+        return repository.save(screen)
+            .flatMap(saved -> changes.screenCreated(saved).thenReturn(saved))
+            .as(transactions::transactional)
+            .doOnNext(saved -> {
+                catalogVersion.bump();
+                showCityIndex.addScreen(saved);
+            });
     }
 
     @Override
@@ -1,9 +1,12 @@
 package com.app.moviecatalog.v1.service.screen_seat;
 
+import com.app.moviecatalog.v1.common.version.CatalogVersion;
 import com.app.moviecatalog.v1.domain.ScreenSeat;
+import com.app.moviecatalog.v1.eventsream.publisher.CatalogChangePublisher;
 import com.app.moviecatalog.v1.repository.ScreenSeatTemplateRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -15,11 +18,17 @@ import java.util.UUID;
 public class ScreentSeatServiceImpl implements ScreentSeatService{
 
     private final ScreenSeatTemplateRepository repository;
+    private final CatalogVersion catalogVersion;
+    private final CatalogChangePublisher changes;
+    private final TransactionalOperator transactions;
 
     @Override
     public Mono<ScreenSeat> create(ScreenSeat seat) {
         seat.setId(UUID.randomUUID());
-        return repository.save(seat);
+        return repository.save(seat)
+            .flatMap(saved -> changes.seatCreated(saved).thenReturn(saved))
+            .as(transactions::transactional)
+            .doOnNext(saved -> catalogVersion.bump());
     }
 
     @Override
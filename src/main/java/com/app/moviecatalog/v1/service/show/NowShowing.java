@@ -0,0 +1,20 @@
+package com.app.moviecatalog.v1.service.show;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NowShowing {
+
+    private UUID movieId;
+    private LocalDateTime nextShowTime;
+    private BigDecimal minPrice;
+    private int upcomingShows;
+}
@@ -0,0 +1,107 @@
+package com.app.moviecatalog.v1.service.show;
+
+import com.app.moviecatalog.v1.domain.Show;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-city "now showing" snapshot: every movie with a show still ahead,
+ * with its next show time and cheapest upcoming ticket. Adding a show
+ * touches only its (city, movie) entry; the city's list is rebuilt on the
+ * next read, and only if something was added or the earliest listed show
+ * has started since. Started shows are dropped then, so the snapshot
+ * never lists a movie whose last show is over.
+ */
+final class NowShowingIndex {
+
+    private static final Comparator<NowShowing> BY_NEXT_SHOW = Comparator
+        .comparing(NowShowing::getNextShowTime)
+        .thenComparing(NowShowing::getMovieId, ShowCityIndex.UNSIGNED_ID);
+
+    private final Map<String, City> cities = new ConcurrentHashMap<>();
+
+    private static final class City {
+        final Map<UUID, Upcoming> movies = new HashMap<>();
+        volatile List<NowShowing> snapshot = List.of();
+        // Next show time of the first snapshot entry; reading at or past it rebuilds
+        volatile LocalDateTime expiresAt;
+        volatile boolean dirty;
+    }
+
+    private static final class Upcoming {
+        final NavigableSet<Show> shows = new TreeSet<>(ShowCityIndex.BY_TIME);
+        // price -> number of upcoming shows at that price
+        final TreeMap<BigDecimal, Integer> prices = new TreeMap<>();
+    }
+
+    void add(String city, Show show, LocalDateTime now) {
+        if (show.getShowTime() == null || !show.getShowTime().isAfter(now)) {
+            return;
+        }
+        final City entry = cities.computeIfAbsent(city, k -> new City());
+        synchronized (entry) {
+            final Upcoming upcoming = entry.movies.computeIfAbsent(show.getMovieId(), k -> new Upcoming());
+            if (upcoming.shows.add(show) && show.getPrice() != null) {
+                upcoming.prices.merge(show.getPrice(), 1, Integer::sum);
+            }
+            entry.dirty = true;
+        }
+    }
+
+    List<NowShowing> snapshot(String city, LocalDateTime now) {
+        final City entry = cities.get(city);
+        if (entry == null) {
+            return List.of();
+        }
+        final LocalDateTime expiresAt = entry.expiresAt;
+        if (entry.dirty || (expiresAt != null && !now.isBefore(expiresAt))) {
+            synchronized (entry) {
+                rebuild(entry, now);
+            }
+        }
+        return entry.snapshot;
+    }
+
+    private static void rebuild(City entry, LocalDateTime now) {
+        final List<NowShowing> next = new ArrayList<>(entry.movies.size());
+        final var movies = entry.movies.entrySet().iterator();
+        while (movies.hasNext()) {
+            final var movie = movies.next();
+            final Upcoming upcoming = movie.getValue();
+            expire(upcoming, now);
+            if (upcoming.shows.isEmpty()) {
+                movies.remove();
+                continue;
+            }
+            next.add(new NowShowing(movie.getKey(),
+                upcoming.shows.first().getShowTime(),
+                upcoming.prices.isEmpty() ? null : upcoming.prices.firstKey(),
+                upcoming.shows.size()));
+        }
+        next.sort(BY_NEXT_SHOW);
+
+        entry.snapshot = List.copyOf(next);
+        entry.expiresAt = next.isEmpty() ? null : next.get(0).getNextShowTime();
+        entry.dirty = false;
+    }
+
+    private static void expire(Upcoming upcoming, LocalDateTime now) {
+        while (!upcoming.shows.isEmpty() && !upcoming.shows.first().getShowTime().isAfter(now)) {
+            final BigDecimal price = upcoming.shows.pollFirst().getPrice();
+            if (price != null) {
+                upcoming.prices.computeIfPresent(price, (k, count) -> count == 1 ? null : count - 1);
+            }
+        }
+    }
+}
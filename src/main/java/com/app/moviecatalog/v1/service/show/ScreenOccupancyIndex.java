@@ -0,0 +1,203 @@
+package com.app.moviecatalog.v1.service.show;
+
+import com.app.moviecatalog.v1.domain.Movie;
+import com.app.moviecatalog.v1.repository.MovieRepository;
+import com.app.moviecatalog.v1.repository.ShowRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-screen timeline of booked intervals [showTime, showTime + runtime +
+ * cleanup gap). Bookings on a screen never overlap, so a map sorted by
+ * start time is a complete interval tree: a new interval conflicts only
+ * with its floor or ceiling neighbour, two O(log n) lookups, and no query
+ * touches the shows table. Shows that already overlap in the database
+ * are all loaded too: the warm-up sets each one that clashes aside in a
+ * short per-screen list that every check also scans, so none of their
+ * slots can be booked again. Each screen's timeline is locked on its own,
+ * so writes to different screens never wait for each other.
+ * Until the startup warm-up completes {@link #isReady()} is false and
+ * callers must not create shows, because unseen bookings cannot conflict.
+ * A failed warm-up starts over from an empty index with backoff, so a
+ * transient database error at startup only delays opening.
+ */
+@Slf4j
+@Component
+public class ScreenOccupancyIndex {
+
+    private final ShowRepository showRepository;
+    private final MovieRepository movieRepository;
+    private final Duration cleanupGap;
+    private final Duration defaultRuntime;
+    private final Duration warmUpBackoff;
+
+    private final Map<UUID, Timeline> timelines = new ConcurrentHashMap<>();
+
+    private volatile boolean ready;
+
+    public record Booking(UUID showId, LocalDateTime start, LocalDateTime end) {
+    }
+
+    private static final class Timeline {
+
+        private final NavigableMap<LocalDateTime, Booking> byStart = new TreeMap<>();
+        // Existing bookings that overlap one in byStart; empty unless the data does
+        private final List<Booking> overlapping = new ArrayList<>();
+    }
+
+    public ScreenOccupancyIndex(
+        ShowRepository showRepository,
+        MovieRepository movieRepository,
+        @Value("${catalog.show.cleanup-gap:15m}") Duration cleanupGap,
+        @Value("${catalog.show.default-runtime:180m}") Duration defaultRuntime,
+        @Value("${catalog.show.warm-up-backoff:1s}") Duration warmUpBackoff) {
+
+        this.showRepository = showRepository;
+        this.movieRepository = movieRepository;
+        this.cleanupGap = cleanupGap;
+        this.defaultRuntime = defaultRuntime;
+        this.warmUpBackoff = warmUpBackoff;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        Mono.defer(() -> {
+                // Show creation is closed until ready, so only a failed attempt wrote here
+                timelines.clear();
+                return movieRepository.findAll()
+                    .collectMap(Movie::getId, movie -> runtimeOf(movie.getDurationMinutes()));
+            })
+            .flatMapMany(runtimes -> showRepository.findAll()
+                .filter(show -> show.getScreenId() != null && show.getShowTime() != null)
+                .doOnNext(show -> {
+                    final Booking booking = booking(show.getId(), show.getShowTime(),
+                        runtimes.getOrDefault(show.getMovieId(), defaultRuntime));
+                    final Booking conflict = record(show.getScreenId(), booking);
+                    if (conflict != null) {
+                        log.warn("Shows {} and {} already overlap on screen {}",
+                            show.getId(), conflict.showId(), show.getScreenId());
+                    }
+                }))
+            .retryWhen(Retry.backoff(Long.MAX_VALUE, warmUpBackoff)
+                .maxBackoff(Duration.ofMinutes(1))
+                .doBeforeRetry(signal -> log.warn("Screen occupancy index warm-up failed, retry {}",
+                    signal.totalRetries() + 1, signal.failure())))
+            .subscribe(
+                show -> { },
+                error -> log.error("Screen occupancy index warm-up gave up, show creation stays closed", error),
+                () -> {
+                    ready = true;
+                    log.info("Screen occupancy index ready for {} screens", timelines.size());
+                });
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public Duration runtimeOf(Integer durationMinutes) {
+        return durationMinutes == null || durationMinutes <= 0
+            ? defaultRuntime : Duration.ofMinutes(durationMinutes);
+    }
+
+    public Booking booking(UUID showId, LocalDateTime showTime, Duration runtime) {
+        return new Booking(showId, showTime, showTime.plus(runtime).plus(cleanupGap));
+    }
+
+    /**
+     * @return null if the interval was free and is now held by the booking,
+     *         otherwise the booking it overlaps
+     */
+    public Booking reserve(UUID screenId, Booking booking) {
+        final Timeline timeline = timelines.computeIfAbsent(screenId, id -> new Timeline());
+        synchronized (timeline) {
+            final Booking conflict = conflict(timeline, booking);
+            if (conflict == null) {
+                timeline.byStart.put(booking.start(), booking);
+            }
+            return conflict;
+        }
+    }
+
+    // Existing shows are booked whether or not they clash; returns the clash
+    private Booking record(UUID screenId, Booking booking) {
+        final Timeline timeline = timelines.computeIfAbsent(screenId, id -> new Timeline());
+        synchronized (timeline) {
+            final Booking conflict = conflict(timeline, booking);
+            if (conflict == null) {
+                timeline.byStart.put(booking.start(), booking);
+            } else {
+                timeline.overlapping.add(booking);
+            }
+            return conflict;
+        }
+    }
+
+    /**
+     * All-or-nothing {@link #reserve} for bookings on one screen, checked
+     * against each other as well as against the timeline.
+     */
+    public Booking reserveAll(UUID screenId, List<Booking> bookings) {
+        final Timeline timeline = timelines.computeIfAbsent(screenId, id -> new Timeline());
+        synchronized (timeline) {
+            final List<Booking> held = new ArrayList<>(bookings.size());
+            for (Booking booking : bookings) {
+                final Booking conflict = conflict(timeline, booking);
+                if (conflict != null) {
+                    held.forEach(done -> timeline.byStart.remove(done.start(), done));
+                    return conflict;
+                }
+                timeline.byStart.put(booking.start(), booking);
+                held.add(booking);
+            }
+            return null;
+        }
+    }
+
+    public void release(UUID screenId, Booking booking) {
+        final Timeline timeline = timelines.get(screenId);
+        if (timeline != null) {
+            synchronized (timeline) {
+                if (!timeline.byStart.remove(booking.start(), booking)) {
+                    timeline.overlapping.remove(booking);
+                }
+            }
+        }
+    }
+
+    public void releaseAll(UUID screenId, List<Booking> bookings) {
+        bookings.forEach(booking -> release(screenId, booking));
+    }
+
+    private static Booking conflict(Timeline timeline, Booking booking) {
+        final Map.Entry<LocalDateTime, Booking> before = timeline.byStart.floorEntry(booking.start());
+        if (before != null && before.getValue().end().isAfter(booking.start())) {
+            return before.getValue();
+        }
+        final Map.Entry<LocalDateTime, Booking> after = timeline.byStart.ceilingEntry(booking.start());
+        if (after != null && after.getKey().isBefore(booking.end())) {
+            return after.getValue();
+        }
+        for (Booking existing : timeline.overlapping) {
+            if (existing.start().isBefore(booking.end()) && existing.end().isAfter(booking.start())) {
+                return existing;
+            }
+        }
+        return null;
+    }
+}
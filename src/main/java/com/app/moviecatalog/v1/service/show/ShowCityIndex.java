@@ -0,0 +1,253 @@
+package com.app.moviecatalog.v1.service.show;
+
+import com.app.moviecatalog.v1.domain.Screen;
+import com.app.moviecatalog.v1.domain.Show;
+import com.app.moviecatalog.v1.domain.Theatre;
+import com.app.moviecatalog.v1.repository.ScreenRepository;
+import com.app.moviecatalog.v1.repository.ShowRepository;
+import com.app.moviecatalog.v1.repository.TheatreRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Denormalized read model for "shows of a movie in a city": shows grouped
+ * under (movieId, normalized city), so a lookup is one hash probe instead
+ * of the shows/screens/theatres join with LOWER(city) that no index can
+ * serve. Each city also keeps a time-ordered schedule across movies for
+ * time and price range searches, and a "now showing" snapshot of the
+ * movies with shows still ahead.
+ * Screen and theatre locations are cached alongside and resolved
+ * from the repositories when a show lands on a screen not seen yet.
+ * Until the startup warm-up completes {@link #isReady()} is false and
+ * callers should fall back to the repository query.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ShowCityIndex {
+
+    // Ids compare as unsigned bytes, the order the database uses for UUID
+    // columns, so keyset cursors mean the same thing here and in SQL
+    static final Comparator<UUID> UNSIGNED_ID = Comparator
+        .comparing(UUID::getMostSignificantBits, Long::compareUnsigned)
+        .thenComparing(UUID::getLeastSignificantBits, Long::compareUnsigned);
+
+    static final UUID MIN_ID = new UUID(0L, 0L);
+
+    static final Comparator<Show> BY_TIME = Comparator
+        .comparing(Show::getShowTime, Comparator.nullsLast(Comparator.naturalOrder()))
+        .thenComparing(Show::getId, UNSIGNED_ID);
+
+    private final ShowRepository showRepository;
+    private final ScreenRepository screenRepository;
+    private final TheatreRepository theatreRepository;
+
+    // Skip lists in (showTime, id) order: an insert is O(log n) however big
+    // the bucket gets, and readers never lock
+    private final Map<Key, NavigableSet<Show>> shows = new ConcurrentHashMap<>();
+    private final Map<UUID, Key> placed = new ConcurrentHashMap<>();
+    private final Map<UUID, UUID> screenTheatres = new ConcurrentHashMap<>();
+    private final Map<UUID, String> theatreCities = new ConcurrentHashMap<>();
+    // city -> every show there across movies, in (showTime, id) order
+    private final Map<String, NavigableSet<Show>> schedules = new ConcurrentHashMap<>();
+    private final NowShowingIndex nowShowing = new NowShowingIndex();
+
+    private volatile boolean ready;
+
+    record Key(UUID movieId, String city) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        theatreRepository.findAll()
+            .doOnNext(this::addTheatre)
+            .thenMany(screenRepository.findAll())
+            .doOnNext(this::addScreen)
+            .thenMany(showRepository.findAll())
+            .subscribe(
+                show -> place(show, cityOfKnownScreen(show.getScreenId())),
+                error -> log.warn("Show city index warm-up failed, lookups stay on the database", error),
+                () -> {
+                    ready = true;
+                    log.info("Show city index ready with {} shows", placed.size());
+                });
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        return placed.size();
+    }
+
+    public List<Show> find(UUID movieId, String city) {
+        final NavigableSet<Show> bucket = bucket(movieId, city);
+        return bucket == null ? List.of() : List.copyOf(bucket);
+    }
+
+    /**
+     * Shows of the bucket with from <= showTime < to, ordered by
+     * (showTime, id) and starting strictly after the (afterTime, afterId)
+     * keyset position when one is given. Both ends are skip-list seeks, so
+     * only the returned rows are touched.
+     */
+    public List<Show> window(UUID movieId, String city, LocalDateTime from, LocalDateTime to,
+                             LocalDateTime afterTime, UUID afterId, int limit) {
+        final NavigableSet<Show> bucket = bucket(movieId, city);
+        if (bucket == null) {
+            return List.of();
+        }
+
+        Show start = probe(from, MIN_ID);
+        if (afterTime != null) {
+            final Show after = probe(afterTime, afterId);
+            if (BY_TIME.compare(after, start) > 0) {
+                start = after;
+            }
+        }
+        final Show end = probe(to, MIN_ID);
+        if (BY_TIME.compare(start, end) >= 0) {
+            return List.of();
+        }
+
+        final List<Show> result = new ArrayList<>();
+        for (Show show : bucket.subSet(start, false, end, true)) {
+            result.add(show);
+            if (result.size() == limit) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    private NavigableSet<Show> bucket(UUID movieId, String city) {
+        return movieId == null || city == null ? null : shows.get(new Key(movieId, normalize(city)));
+    }
+
+    /**
+     * Shows in the city across all movies with from <= showTime < to and
+     * minPrice <= price <= maxPrice, in showTime order. The time range is a
+     * skip-list sub-range; price is checked on the rows inside it, which
+     * stays cheap because schedule queries ask for hours, not months.
+     */
+    public List<Show> schedule(String city, LocalDateTime from, LocalDateTime to,
+                               BigDecimal minPrice, BigDecimal maxPrice, int limit) {
+        final NavigableSet<Show> schedule = city == null ? null : schedules.get(normalize(city));
+        if (schedule == null || !from.isBefore(to)) {
+            return List.of();
+        }
+
+        final List<Show> result = new ArrayList<>();
+        for (Show show : schedule.subSet(probe(from, MIN_ID), true, probe(to, MIN_ID), false)) {
+            final BigDecimal price = show.getPrice();
+            if (price != null && price.compareTo(minPrice) >= 0 && price.compareTo(maxPrice) <= 0) {
+                result.add(show);
+                if (result.size() == limit) {
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Movies with a show in the city after now, soonest next show first.
+     */
+    public List<NowShowing> nowShowing(String city, LocalDateTime now) {
+        return city == null ? List.of() : nowShowing.snapshot(normalize(city), now);
+    }
+
+    public void addTheatre(Theatre theatre) {
+        if (theatre.getId() != null && theatre.getCity() != null) {
+            theatreCities.put(theatre.getId(), normalize(theatre.getCity()));
+        }
+    }
+
+    public void addScreen(Screen screen) {
+        if (screen.getId() != null && screen.getTheatreId() != null) {
+            screenTheatres.put(screen.getId(), screen.getTheatreId());
+        }
+    }
+
+    /**
+     * Indexes a saved show, loading its screen and theatre first if they
+     * are not cached. Shows whose location cannot be resolved are skipped,
+     * exactly as the join would drop them.
+     */
+    public Mono<Void> add(Show show) {
+        if (show.getId() == null || show.getMovieId() == null || show.getScreenId() == null) {
+            return Mono.empty();
+        }
+        return cityOf(show.getScreenId())
+            .doOnNext(city -> place(show, city))
+            .onErrorResume(error -> {
+                log.warn("Could not index show {}, its city lookups will miss it", show.getId(), error);
+                return Mono.empty();
+            })
+            .then();
+    }
+
+    private Mono<String> cityOf(UUID screenId) {
+        final String known = cityOfKnownScreen(screenId);
+        if (known != null) {
+            return Mono.just(known);
+        }
+
+        final UUID theatreId = screenTheatres.get(screenId);
+        final Mono<UUID> theatre = theatreId != null
+            ? Mono.just(theatreId)
+            : screenRepository.findById(screenId)
+                .doOnNext(this::addScreen)
+                .mapNotNull(Screen::getTheatreId);
+
+        return theatre.flatMap(id -> theatreRepository.findById(id)
+            .doOnNext(this::addTheatre)
+            .mapNotNull(found -> theatreCities.get(found.getId())));
+    }
+
+    private String cityOfKnownScreen(UUID screenId) {
+        final UUID theatreId = screenId == null ? null : screenTheatres.get(screenId);
+        return theatreId == null ? null : theatreCities.get(theatreId);
+    }
+
+    private synchronized void place(Show show, String city) {
+        // The warm-up scan may see a show that createShow already placed
+        if (city == null || placed.containsKey(show.getId())) {
+            return;
+        }
+        final Key key = new Key(show.getMovieId(), city);
+
+        shows.computeIfAbsent(key, k -> new ConcurrentSkipListSet<>(BY_TIME)).add(show);
+        placed.put(show.getId(), key);
+
+        if (show.getShowTime() != null) {
+            schedules.computeIfAbsent(city, k -> new ConcurrentSkipListSet<>(BY_TIME)).add(show);
+            nowShowing.add(city, show, LocalDateTime.now());
+        }
+    }
+
+    private static Show probe(LocalDateTime time, UUID id) {
+        return Show.builder().showTime(time).id(id).build();
+    }
+
+    static String normalize(String city) {
+        return city.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,30 @@
+package com.app.moviecatalog.v1.service.show;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * One movie on one screen at the same daily slots for every date from
+ * startDate to endDate, both inclusive.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ShowScheduleTemplate {
+
+    private UUID screenId;
+    private UUID movieId;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private List<LocalTime> slots;
+    private BigDecimal price;
+}
@@ -1,12 +1,22 @@
 package com.app.moviecatalog.v1.service.show;
 
+import com.app.moviecatalog.v1.common.page.CursorPage;
 import com.app.moviecatalog.v1.domain.Show;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 public interface ShowService {
     Flux<Show> getShows(UUID movieId, String city);
+    Flux<Show> getShows(UUID movieId, String city, LocalDateTime from, LocalDateTime to);
+    Mono<CursorPage<Show>> getShowsPage(UUID movieId, String city, LocalDateTime from,
+                                        LocalDateTime to, String cursor, int limit);
+    Flux<Show> searchShows(String city, LocalDateTime from, LocalDateTime to,
+                           BigDecimal minPrice, BigDecimal maxPrice, int limit);
+    Flux<NowShowing> nowShowing(String city);
     Mono<Show> createShow(Show show);
+    Flux<Show> scheduleShows(ShowScheduleTemplate template);
 }
@@ -1,43 +1,282 @@
 package com.app.moviecatalog.v1.service.show;
 
+import com.app.moviecatalog.v1.common.coalesce.RequestCoalescer;
+import com.app.moviecatalog.v1.common.page.CursorPage;
+import com.app.moviecatalog.v1.common.page.Cursors;
+import com.app.moviecatalog.v1.common.version.CatalogVersion;
 import com.app.moviecatalog.v1.domain.Show;
 import com.app.moviecatalog.v1.eventsream.model.ShowCreatedEvent;
 import com.app.moviecatalog.v1.eventsream.publisher.ShowEventPublisher;
+import com.app.moviecatalog.v1.exception.SchedulesNotReadyException;
+import com.app.moviecatalog.v1.exception.ShowConflictException;
+import com.app.moviecatalog.v1.repository.ShowBatchRepository;
 import com.app.moviecatalog.v1.repository.ShowRepository;
+import com.app.moviecatalog.v1.service.movie.MovieService;
+import com.app.moviecatalog.v1.service.show.ScreenOccupancyIndex.Booking;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.SortedSet;
+import java.util.TreeSet;
 import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
 public class ShowServiceImpl implements ShowService{
 
+    // Open ends of a show-time window; both fit a SQL TIMESTAMP
+    private static final LocalDateTime EARLIEST = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime LATEST = LocalDateTime.of(9999, 12, 31, 0, 0);
+
+    // Open ends of a price range; shows.price is DECIMAL(10,2)
+    private static final BigDecimal NO_MIN_PRICE = BigDecimal.ZERO;
+    private static final BigDecimal NO_MAX_PRICE = new BigDecimal("99999999.99");
+
+    // One template covers at most a month of one screen
+    private static final int MAX_SCHEDULE_DAYS = 31;
+
     private final ShowRepository showRepository;
+    private final ShowBatchRepository showBatchRepository;
     private final ShowEventPublisher publisher;
+    private final CatalogVersion catalogVersion;
+    private final ShowCityIndex showCityIndex;
+    private final ScreenOccupancyIndex occupancy;
+    private final MovieService movieService;
+    private final RequestCoalescer coalescer;
+    private final TransactionalOperator transactions;
 
     @Override
     public Flux<Show> getShows(UUID movieId, String city) {
-        return showRepository.findShowsByMovieAndCity(movieId, city);
+        if (showCityIndex.isReady()) {
+            return Flux.fromIterable(showCityIndex.find(movieId, city));
+        }
+        return coalescer.flux("shows.city", Arrays.asList(movieId, city),
+            () -> showRepository.findShowsByMovieAndCity(movieId, city));
+    }
+
+    @Override
+    public Flux<Show> getShows(UUID movieId, String city, LocalDateTime from, LocalDateTime to) {
+        final LocalDateTime start = from == null ? EARLIEST : from;
+        final LocalDateTime end = to == null ? LATEST : to;
+
+        if (showCityIndex.isReady()) {
+            return Flux.fromIterable(showCityIndex.window(
+                movieId, city, start, end, null, null, Integer.MAX_VALUE));
+        }
+        return coalescer.flux("shows.window", Arrays.asList(movieId, city, start, end),
+            () -> showRepository.findShowsByMovieAndCityBetween(movieId, city, start, end));
+    }
+
+    @Override
+    public Mono<CursorPage<Show>> getShowsPage(UUID movieId, String city, LocalDateTime from,
+                                               LocalDateTime to, String cursor, int limit) {
+        final LocalDateTime start = from == null ? EARLIEST : from;
+        final LocalDateTime end = to == null ? LATEST : to;
+
+        final LocalDateTime afterTime;
+        final UUID afterId;
+        if (cursor == null) {
+            afterTime = null;
+            afterId = null;
+        } else {
+            final String[] keys = Cursors.decode(cursor, 2);
+            try {
+                afterTime = LocalDateTime.parse(keys[0]);
+                afterId = UUID.fromString(keys[1]);
+            } catch (DateTimeParseException ex) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+        }
+
+        // Fetch one extra row to learn whether another page exists.
+        final Mono<List<Show>> rows;
+        if (showCityIndex.isReady()) {
+            rows = Mono.fromSupplier(() -> showCityIndex.window(
+                movieId, city, start, end, afterTime, afterId, limit + 1));
+        } else {
+            rows = coalescer.mono("shows.page",
+                Arrays.asList(movieId, city, start, end, afterTime, afterId, limit),
+                () -> afterTime == null
+                    ? showRepository.findShowsByMovieAndCityBetween(movieId, city, start, end)
+                        .take(limit + 1)
+                        .collectList()
+                    : showRepository.findShowsPage(
+                            movieId, city, start, end, afterTime, afterId, limit + 1)
+                        .collectList());
+        }
+
+        return rows.map(shows -> {
+            if (shows.size() <= limit) {
+                return new CursorPage<>(shows, null);
+            }
+            final List<Show> page = shows.subList(0, limit);
+            final Show last = page.get(limit - 1);
+            return new CursorPage<>(page,
+                Cursors.encode(last.getShowTime().toString(), last.getId().toString()));
+        });
+    }
+
+    @Override
+    public Flux<Show> searchShows(String city, LocalDateTime from, LocalDateTime to,
+                                  BigDecimal minPrice, BigDecimal maxPrice, int limit) {
+        final LocalDateTime start = from == null ? EARLIEST : from;
+        final LocalDateTime end = to == null ? LATEST : to;
+        final BigDecimal low = minPrice == null ? NO_MIN_PRICE : minPrice;
+        final BigDecimal high = maxPrice == null ? NO_MAX_PRICE : maxPrice;
+
+        if (showCityIndex.isReady()) {
+            return Flux.fromIterable(showCityIndex.schedule(city, start, end, low, high, limit));
+        }
+        return coalescer.flux("shows.search", Arrays.asList(city, start, end, low, high, limit),
+            () -> showRepository.searchSchedule(city, start, end, low, high, limit));
+    }
+
+    @Override
+    public Flux<NowShowing> nowShowing(String city) {
+        final LocalDateTime now = LocalDateTime.now();
+        if (showCityIndex.isReady()) {
+            return Flux.fromIterable(showCityIndex.nowShowing(city, now));
+        }
+        // Still warming up: fold this city's upcoming shows in a throwaway snapshot
+        return coalescer.flux("shows.now-showing", city, () -> showRepository
+                .searchSchedule(city, now, LATEST, NO_MIN_PRICE, NO_MAX_PRICE, Integer.MAX_VALUE)
+                .collectList()
+                .flatMapIterable(shows -> {
+                    final NowShowingIndex snapshot = new NowShowingIndex();
+                    shows.forEach(show -> snapshot.add(city, show, now));
+                    return snapshot.snapshot(city, now);
+                }));
     }
 
     public Mono<Show> createShow(Show show) {
 
         show.setId(UUID.randomUUID());
 
-        return showRepository.save(show)
-            .doOnSuccess(saved -> {
-                ShowCreatedEvent event =
-                    ShowCreatedEvent.builder()
-                        .showId(saved.getId())
-                        .movieId(saved.getMovieId())
-                        .screenId(saved.getScreenId())
-                        .showTime(saved.getShowTime())
-                        .build();
-
-                publisher.publish(event);
-            });
+        return Mono.defer(() -> {
+                requireSchedulable(show.getScreenId(), show.getMovieId(), show.getShowTime());
+                return movieService.getMovieById(show.getMovieId());
+            })
+            .flatMap(movie -> {
+                // Hold the screen's interval before the insert so a concurrent
+                // create for an overlapping time fails instead of racing it
+                final Booking booking = occupancy.booking(show.getId(), show.getShowTime(),
+                    occupancy.runtimeOf(movie.getDurationMinutes()));
+                final Booking conflict = occupancy.reserve(show.getScreenId(), booking);
+                if (conflict != null) {
+                    return Mono.error(conflictWith(conflict));
+                }
+                // The event row commits with the show or not at all
+                return showRepository.save(show)
+                    .flatMap(saved -> publisher.enqueue(List.of(createdEvent(saved))).thenReturn(saved))
+                    .as(transactions::transactional)
+                    .doOnError(error -> occupancy.release(show.getScreenId(), booking));
+            })
+            .flatMap(saved -> showCityIndex.add(saved).thenReturn(saved))
+            .doOnSuccess(saved -> catalogVersion.bump());
+    }
+
+    @Override
+    public Flux<Show> scheduleShows(ShowScheduleTemplate template) {
+        return Mono.fromCallable(() -> expand(template))
+            .flatMap(shows -> movieService.getMovieById(template.getMovieId())
+                .flatMap(movie -> {
+                    final Duration runtime = occupancy.runtimeOf(movie.getDurationMinutes());
+                    final List<Booking> bookings = shows.stream()
+                        .map(show -> occupancy.booking(show.getId(), show.getShowTime(), runtime))
+                        .toList();
+                    final Booking conflict = occupancy.reserveAll(template.getScreenId(), bookings);
+                    if (conflict != null) {
+                        return Mono.error(conflictWith(conflict));
+                    }
+                    return showBatchRepository.insertAll(shows)
+                        .then(publisher.enqueue(
+                            shows.stream().map(ShowServiceImpl::createdEvent).toList()))
+                        .as(transactions::transactional)
+                        .doOnError(error -> occupancy.releaseAll(template.getScreenId(), bookings))
+                        .thenReturn(shows);
+                }))
+            // Indexing only after the whole schedule committed
+            .flatMap(shows -> Flux.fromIterable(shows)
+                .concatMap(showCityIndex::add)
+                .then(Mono.fromRunnable(catalogVersion::bump))
+                .thenReturn(shows))
+            .flatMapMany(Flux::fromIterable);
+    }
+
+    private void requireSchedulable(UUID screenId, UUID movieId, LocalDateTime showTime) {
+        if (screenId == null || movieId == null || showTime == null) {
+            throw new IllegalArgumentException("screenId, movieId and showTime are required");
+        }
+        requireOccupancyReady();
+    }
+
+    private void requireOccupancyReady() {
+        if (!occupancy.isReady()) {
+            throw new SchedulesNotReadyException("Screen schedules are still loading, retry shortly");
+        }
+    }
+
+    private static ShowConflictException conflictWith(Booking booking) {
+        return new ShowConflictException("Screen is booked by show " + booking.showId()
+            + " from " + booking.start() + " until " + booking.end());
+    }
+
+    private List<Show> expand(ShowScheduleTemplate template) {
+        if (template.getScreenId() == null || template.getMovieId() == null) {
+            throw new IllegalArgumentException("screenId and movieId are required");
+        }
+        requireOccupancyReady();
+        if (template.getStartDate() == null || template.getEndDate() == null
+            || template.getEndDate().isBefore(template.getStartDate())) {
+            throw new IllegalArgumentException("endDate must not be before startDate");
+        }
+        if (ChronoUnit.DAYS.between(template.getStartDate(), template.getEndDate()) >= MAX_SCHEDULE_DAYS) {
+            throw new IllegalArgumentException(
+                "A schedule may span at most " + MAX_SCHEDULE_DAYS + " days");
+        }
+        if (template.getSlots() == null || template.getSlots().isEmpty()
+            || template.getSlots().stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("At least one slot is required");
+        }
+
+        final SortedSet<LocalTime> slots = new TreeSet<>(template.getSlots());
+        final List<Show> shows = new ArrayList<>();
+        for (LocalDate date = template.getStartDate();
+             !date.isAfter(template.getEndDate());
+             date = date.plusDays(1)) {
+            for (LocalTime slot : slots) {
+                shows.add(Show.builder()
+                    .id(UUID.randomUUID())
+                    .movieId(template.getMovieId())
+                    .screenId(template.getScreenId())
+                    .showTime(date.atTime(slot))
+                    .price(template.getPrice())
+                    .build());
+            }
+        }
+        return shows;
+    }
+
+    private static ShowCreatedEvent createdEvent(Show show) {
+        return ShowCreatedEvent.builder()
+            .showId(show.getId())
+            .movieId(show.getMovieId())
+            .screenId(show.getScreenId())
+            .showTime(show.getShowTime())
+            .build();
     }
 }
@@ -0,0 +1,8 @@
+package com.app.moviecatalog.v1.service.theatre;
+
+import com.app.moviecatalog.v1.domain.Theatre;
+import reactor.core.publisher.Mono;
+
+public interface TheatreService {
+    Mono<Theatre> create(Theatre theatre);
+}
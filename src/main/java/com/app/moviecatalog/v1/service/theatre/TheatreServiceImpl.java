@@ -0,0 +1,35 @@
+package com.app.moviecatalog.v1.service.theatre;
+
+import com.app.moviecatalog.v1.common.version.CatalogVersion;
+import com.app.moviecatalog.v1.domain.Theatre;
+import com.app.moviecatalog.v1.eventsream.publisher.CatalogChangePublisher;
+import com.app.moviecatalog.v1.repository.TheatreRepository;
+import com.app.moviecatalog.v1.service.show.ShowCityIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class TheatreServiceImpl implements TheatreService {
+    private final TheatreRepository repository;
+    private final CatalogVersion catalogVersion;
+    private final ShowCityIndex showCityIndex;
+    private final CatalogChangePublisher changes;
+    private final TransactionalOperator transactions;
+
+    @Override
+    public Mono<Theatre> create(Theatre theatre) {
+        theatre.setId(UUID.randomUUID());
+        return repository.save(theatre)
+            .flatMap(saved -> changes.theatreCreated(saved).thenReturn(saved))
+            .as(transactions::transactional)
+            .doOnNext(saved -> {
+                catalogVersion.bump();
+                showCityIndex.addTheatre(saved);
+            });
+    }
+}
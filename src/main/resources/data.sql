@@ -1,11 +1,14 @@
-INSERT INTO movies VALUES
+INSERT INTO movies
+(id, title, language, genre, duration_minutes, release_date, active, natural_key)
+VALUES
 ('11111111-1111-1111-1111-111111111111',
  'Avengers',
  'English',
  'Action',
  180,
  '2019-04-26',
- true),
+ true,
+ 'avengers|english|2019-04-26'),
 
 ('22222222-2222-2222-2222-222222222222',
  'KGF',
@@ -13,7 +16,8 @@ INSERT INTO movies VALUES
  'Action',
  155,
  '2022-04-14',
- true);
+ true,
+ 'kgf|kannada|2022-04-14');
 
 INSERT INTO theatres VALUES
 ('33333333-3333-3333-3333-333333333333',
@@ -5,7 +5,11 @@ CREATE TABLE IF NOT EXISTS movies (
     genre VARCHAR(100),
     duration_minutes INT,
     release_date DATE,
-    active BOOLEAN
+    active BOOLEAN,
+    -- MovieNaturalKeyIndex.keyOf: folded title, trimmed lowercase language
+    -- and release date, so "KGF" and "K.G.F." collide here as they do in memory
+    natural_key VARCHAR(400) NOT NULL,
+    CONSTRAINT uk_movies_natural_key UNIQUE (natural_key)
 );
 
 CREATE TABLE IF NOT EXISTS theatres (
@@ -22,6 +26,8 @@ CREATE TABLE IF NOT EXISTS shows (
     price DECIMAL(10,2)
 );
 
+CREATE INDEX IF NOT EXISTS idx_shows_movie_time ON shows (movie_id, show_time, id);
+
 CREATE TABLE IF NOT EXISTS screens (
     id UUID PRIMARY KEY,
     theatre_id UUID,
@@ -37,3 +43,41 @@ CREATE TABLE IF NOT EXISTS screen_seats (
     row_number INT
 );
 
+
+-- Events written in the same transaction as the rows they describe and
+-- relayed to Kafka afterwards; a row is deleted once the broker acked it
+CREATE TABLE IF NOT EXISTS outbox_events (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    topic VARCHAR(100) NOT NULL,
+    event_key VARCHAR(100) NOT NULL,
+    payload TEXT NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_outbox_due ON outbox_events (next_attempt_at, id);
+-- Earlier events of a key, to hold later ones back while one backs off
+CREATE INDEX IF NOT EXISTS idx_outbox_key ON outbox_events (topic, event_key, id);
+
+-- Events the relay gave up on after max-attempts sends, kept for
+-- inspection and manual replay instead of blocking their key
+CREATE TABLE IF NOT EXISTS outbox_dead_letters (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    topic VARCHAR(100) NOT NULL,
+    event_key VARCHAR(100) NOT NULL,
+    payload TEXT NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    attempts INT NOT NULL,
+    failed_at TIMESTAMP NOT NULL
+);
+
+-- Last sequence handed out per topic and key. A key's events are numbered
+-- 1, 2, 3, ... however busy other keys are, so a consumer's window of
+-- recent sequences always covers that key's recent events
+CREATE TABLE IF NOT EXISTS event_key_sequences (
+    topic VARCHAR(100) NOT NULL,
+    event_key VARCHAR(100) NOT NULL,
+    last_sequence BIGINT NOT NULL,
+    PRIMARY KEY (topic, event_key)
+);
@@ -0,0 +1,113 @@
+package com.app.moviecatalog.v1.benchmark;
+
+import com.app.moviecatalog.v1.domain.Movie;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.buffer.PooledByteBufAllocator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Response body cost of GET /movies and GET /movies/{id}: Jackson encoding
+ * per request (what the handler did before) against wrapping the cached
+ * bytes. SampleTime reports p50/p99; add {@code -prof gc} for the
+ * allocation rate per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MovieJsonCacheBenchmark {
+
+    private static final ResolvableType LIST = ResolvableType.forClassWithGenerics(List.class, Movie.class);
+    private static final ResolvableType MOVIE = ResolvableType.forClass(Movie.class);
+
+    @Param({"1000"})
+    public int movies;
+
+    private final NettyDataBufferFactory bufferFactory =
+        new NettyDataBufferFactory(PooledByteBufAllocator.DEFAULT);
+
+    private Jackson2JsonEncoder encoder;
+    private List<Movie> catalog;
+    private Movie movie;
+    private byte[] cachedList;
+    private byte[] cachedMovie;
+
+    @Setup
+    public void setUp() throws Exception {
+        final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        encoder = new Jackson2JsonEncoder(objectMapper);
+
+        catalog = new ArrayList<>(movies);
+        for (int i = 0; i < movies; i++) {
+            catalog.add(new Movie(UUID.randomUUID(), "Movie " + i, "English", "Action",
+                120 + i % 60, LocalDate.of(2000 + i % 25, 1 + i % 12, 1), true));
+        }
+        movie = catalog.get(0);
+        cachedList = objectMapper.writeValueAsBytes(catalog);
+        cachedMovie = objectMapper.writeValueAsBytes(movie);
+    }
+
+    @Benchmark
+    public int listEncoded() {
+        return release(encoder.encodeValue(catalog, bufferFactory, LIST,
+            MediaType.APPLICATION_JSON, Map.of()));
+    }
+
+    @Benchmark
+    public int listCached() {
+        return release(bufferFactory.wrap(cachedList));
+    }
+
+    @Benchmark
+    public int movieEncoded() {
+        return release(encoder.encodeValue(movie, bufferFactory, MOVIE,
+            MediaType.APPLICATION_JSON, Map.of()));
+    }
+
+    @Benchmark
+    public int movieCached() {
+        return release(bufferFactory.wrap(cachedMovie));
+    }
+
+    // Stands in for the channel write: read the size, then give the buffer back
+    private static int release(DataBuffer buffer) {
+        final int size = buffer.readableByteCount();
+        DataBufferUtils.release(buffer);
+        return size;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(MovieJsonCacheBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
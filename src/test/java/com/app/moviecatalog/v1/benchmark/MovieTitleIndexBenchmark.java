@@ -0,0 +1,86 @@
+package com.app.moviecatalog.v1.benchmark;
+
+import com.app.moviecatalog.v1.domain.Movie;
+import com.app.moviecatalog.v1.service.movie.MovieTitleIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Title search latency at catalog scale. SampleTime mode reports p50/p99/p999.
+ * Run main() from the IDE, or against the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MovieTitleIndexBenchmark {
+
+    private static final String[] WORDS = {
+        "avengers", "endgame", "dark", "knight", "rising", "kgf", "chapter",
+        "return", "king", "love", "story", "night", "city", "lost", "empire",
+        "mission", "impossible", "fast", "furious", "galaxy", "star", "wars",
+        "legend", "hidden", "dragon", "river", "shadow", "storm", "silent", "hill"
+    };
+
+    @Param({"100000"})
+    public int titles;
+
+    private MovieTitleIndex index;
+
+    @Setup
+    public void setUp() {
+        index = new MovieTitleIndex(null);
+        final Random random = new Random(42);
+        for (int i = 0; i < titles; i++) {
+            final StringBuilder title = new StringBuilder();
+            final int words = 1 + random.nextInt(4);
+            for (int w = 0; w < words; w++) {
+                title.append(w == 0 ? "" : " ").append(WORDS[random.nextInt(WORDS.length)]);
+            }
+            title.append(' ').append(i);
+            index.add(new Movie(UUID.randomUUID(), title.toString(), "English", "Action",
+                120, LocalDate.of(2000 + random.nextInt(25), 1, 1), true));
+        }
+    }
+
+    @Benchmark
+    public List<Movie> containsSearch() {
+        return index.search("knight 4242");
+    }
+
+    @Benchmark
+    public List<Movie> fuzzySearchTypo() {
+        return index.fuzzySearch("avengrs endgme 4242", 10);
+    }
+
+    @Benchmark
+    public List<Movie> fuzzySearchPunctuation() {
+        return index.fuzzySearch("K.G.F chapter 9", 10);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(MovieTitleIndexBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
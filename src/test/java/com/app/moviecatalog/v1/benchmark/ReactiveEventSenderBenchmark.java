@@ -0,0 +1,106 @@
+package com.app.moviecatalog.v1.benchmark;
+
+import com.app.moviecatalog.v1.eventsream.publisher.ReactiveEventSender;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.producer.Callback;
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.mock.MockProducerFactory;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records per second through ReactiveEventSender against a stand-in broker
+ * that acks every record after a fixed delay, as the round trip to a real
+ * cluster would. maxInFlight = 1 is the old send-and-wait behaviour; larger
+ * caps pipeline sends until the cap, not the ack latency, is the limit.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReactiveEventSenderBenchmark {
+
+    private static final int RECORDS = 1_000;
+
+    @Param({"1", "64", "1000"})
+    public int maxInFlight;
+
+    @Param({"1"})
+    public int ackMillis;
+
+    private ScheduledExecutorService acks;
+    private ReactiveEventSender sender;
+
+    @Setup
+    public void setUp() {
+        acks = Executors.newSingleThreadScheduledExecutor();
+        final MockProducer<String, String> broker =
+            new MockProducer<>(true, new StringSerializer(), new StringSerializer()) {
+                @Override
+                public Future<RecordMetadata> send(ProducerRecord<String, String> record, Callback callback) {
+                    acks.schedule(() -> super.send(record, callback), ackMillis, TimeUnit.MILLISECONDS);
+                    return new CompletableFuture<>();
+                }
+
+                @Override
+                public void close(Duration timeout) {
+                }
+            };
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        final KafkaTemplate<String, Object> template =
+            new KafkaTemplate(new MockProducerFactory<>(() -> broker));
+        sender = new ReactiveEventSender(template, new SimpleMeterRegistry(),
+            maxInFlight, Integer.MAX_VALUE, Duration.ofSeconds(130), 120_000, 0, Duration.ofMillis(10));
+    }
+
+    @TearDown
+    public void tearDown() {
+        sender.stop();
+        acks.shutdownNow();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECORDS)
+    public Long sendBatch() {
+        // Unbounded demand: the sender's in-flight cap is what limits it
+        return Flux.range(0, RECORDS)
+            .flatMap(i -> sender.send("show.created", "key-" + i, "value-" + i), RECORDS)
+            .count()
+            .block();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(ReactiveEventSenderBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
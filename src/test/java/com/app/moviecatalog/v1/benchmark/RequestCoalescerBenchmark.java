@@ -0,0 +1,98 @@
+package com.app.moviecatalog.v1.benchmark;
+
+import com.app.moviecatalog.v1.common.coalesce.RequestCoalescer;
+import com.app.moviecatalog.v1.common.version.CatalogVersion;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Load test for a burst of identical reads: 64 threads ask for one of a
+ * few hot keys against a query with fixed latency. The "queries" counter
+ * is the database round trips each variant issued; with coalescing it
+ * drops by about the number of callers that overlap per query. The
+ * simulated query has no connection pool, so throughput stays level here;
+ * against a real pool the saved round trips are saved pool slots.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(64)
+@Fork(1)
+public class RequestCoalescerBenchmark {
+
+    @Param({"1", "8"})
+    public int hotKeys;
+
+    @Param({"2"})
+    public int latencyMillis;
+
+    private RequestCoalescer coalescer;
+    private List<Integer> rows;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Queries {
+        public long queries;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            queries = 0;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        coalescer = new RequestCoalescer(new SimpleMeterRegistry(), new CatalogVersion());
+        rows = List.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+    }
+
+    @Benchmark
+    public List<Integer> direct(Queries counter) {
+        return query(counter).collectList().block();
+    }
+
+    @Benchmark
+    public List<Integer> coalesced(Queries counter) {
+        final int key = ThreadLocalRandom.current().nextInt(hotKeys);
+        return coalescer.flux("bench", key, () -> query(counter)).collectList().block();
+    }
+
+    // The loader runs on the thread that started the query, so each
+    // round trip is counted exactly once
+    private Flux<Integer> query(Queries counter) {
+        return Flux.defer(() -> {
+            counter.queries++;
+            return Flux.fromIterable(rows).delaySubscription(Duration.ofMillis(latencyMillis));
+        });
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(RequestCoalescerBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
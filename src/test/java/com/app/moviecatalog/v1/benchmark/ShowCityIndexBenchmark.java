@@ -0,0 +1,92 @@
+package com.app.moviecatalog.v1.benchmark;
+
+import com.app.moviecatalog.v1.domain.Screen;
+import com.app.moviecatalog.v1.domain.Show;
+import com.app.moviecatalog.v1.domain.Theatre;
+import com.app.moviecatalog.v1.service.show.ShowCityIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * getShows(movie, city) against the read model as the number of shows
+ * grows. The lookup should stay flat: it touches only the (movie, city)
+ * bucket, whereas the LOWER(city) join scans every show of the movie.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ShowCityIndexBenchmark {
+
+    private static final String[] CITIES = {
+        "London", "Paris", "Mumbai", "Bengaluru", "Chennai", "Delhi", "Pune", "Berlin"
+    };
+
+    @Param({"10000", "100000", "1000000"})
+    public int shows;
+
+    private ShowCityIndex index;
+    private UUID[] movies;
+
+    @Setup
+    public void setUp() {
+        index = new ShowCityIndex(null, null, null);
+        final Random random = new Random(42);
+
+        final UUID[] screens = new UUID[CITIES.length * 20];
+        for (int i = 0; i < screens.length; i++) {
+            final Theatre theatre = new Theatre(UUID.randomUUID(), "Theatre " + i,
+                CITIES[i % CITIES.length]);
+            final Screen screen = new Screen();
+            screen.setId(UUID.randomUUID());
+            screen.setTheatreId(theatre.getId());
+            index.addTheatre(theatre);
+            index.addScreen(screen);
+            screens[i] = screen.getId();
+        }
+
+        movies = new UUID[200];
+        for (int i = 0; i < movies.length; i++) {
+            movies[i] = UUID.randomUUID();
+        }
+
+        final LocalDateTime start = LocalDateTime.of(2026, 1, 1, 9, 0);
+        for (int i = 0; i < shows; i++) {
+            index.add(new Show(UUID.randomUUID(), movies[random.nextInt(movies.length)],
+                screens[random.nextInt(screens.length)],
+                start.plusMinutes(15L * random.nextInt(10_000)), BigDecimal.TEN)).block();
+        }
+    }
+
+    @Benchmark
+    public List<Show> findByMovieAndCity() {
+        return index.find(movies[7], "mumbai");
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(ShowCityIndexBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
@@ -0,0 +1,94 @@
+package com.app.moviecatalog.v1.benchmark;
+
+import com.app.moviecatalog.v1.eventsream.codec.ShowCreatedEventDeserializer;
+import com.app.moviecatalog.v1.eventsream.codec.ShowCreatedEventSerializer;
+import com.app.moviecatalog.v1.eventsream.model.ShowCreatedEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * show.created value encoding: the binary codec against the JsonSerializer
+ * path configured in application-local.yml. The encoded sizes are printed
+ * at setup; add {@code -prof gc} for allocation per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ShowCreatedEventCodecBenchmark {
+
+    private static final String TOPIC = "show.created";
+
+    private final ShowCreatedEventSerializer binarySerializer = new ShowCreatedEventSerializer();
+    private final ShowCreatedEventDeserializer binaryDeserializer = new ShowCreatedEventDeserializer();
+    private JsonSerializer<ShowCreatedEvent> jsonSerializer;
+    private JsonDeserializer<ShowCreatedEvent> jsonDeserializer;
+
+    private ShowCreatedEvent event;
+    private byte[] binary;
+    private byte[] json;
+
+    @Setup
+    public void setUp() {
+        jsonSerializer = new JsonSerializer<>();
+        jsonSerializer.setAddTypeInfo(false);
+        jsonDeserializer = new JsonDeserializer<>(ShowCreatedEvent.class, false);
+
+        event = ShowCreatedEvent.builder()
+            .eventId(UUID.randomUUID())
+            .sequence(1_234_567L)
+            .showId(UUID.randomUUID())
+            .movieId(UUID.randomUUID())
+            .screenId(UUID.randomUUID())
+            .showTime(LocalDateTime.of(2026, 1, 1, 18, 30))
+            .build();
+        binary = binarySerializer.serialize(TOPIC, event);
+        json = jsonSerializer.serialize(TOPIC, event);
+        System.out.printf("%nbytes per event: binary=%d json=%d%n", binary.length, json.length);
+    }
+
+    @Benchmark
+    public byte[] encodeBinary() {
+        return binarySerializer.serialize(TOPIC, event);
+    }
+
+    @Benchmark
+    public byte[] encodeJson() {
+        return jsonSerializer.serialize(TOPIC, event);
+    }
+
+    @Benchmark
+    public ShowCreatedEvent decodeBinary() {
+        return binaryDeserializer.deserialize(TOPIC, binary);
+    }
+
+    @Benchmark
+    public ShowCreatedEvent decodeJson() {
+        return jsonDeserializer.deserialize(TOPIC, json);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(ShowCreatedEventCodecBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
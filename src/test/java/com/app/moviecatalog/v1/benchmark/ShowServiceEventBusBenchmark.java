@@ -0,0 +1,137 @@
+package com.app.moviecatalog.v1.benchmark;
+
+import com.app.moviecatalog.MovieCatalogServiceApplication;
+import com.app.moviecatalog.v1.domain.Movie;
+import com.app.moviecatalog.v1.domain.Screen;
+import com.app.moviecatalog.v1.domain.Show;
+import com.app.moviecatalog.v1.domain.Theatre;
+import com.app.moviecatalog.v1.eventsream.bus.EmbeddedEventBus;
+import com.app.moviecatalog.v1.eventsream.publisher.ShowEventPublisher;
+import com.app.moviecatalog.v1.repository.ScreenRepository;
+import com.app.moviecatalog.v1.repository.TheatreRepository;
+import com.app.moviecatalog.v1.service.movie.MovieService;
+import com.app.moviecatalog.v1.service.show.ScreenOccupancyIndex;
+import com.app.moviecatalog.v1.service.show.ShowService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * createShow end to end without a broker: the whole application on an
+ * in-memory H2 database with catalog.events.transport=embedded, so every
+ * show goes through the occupancy check, the insert and its outbox row in
+ * one transaction, the read model, and the outbox relay onto the embedded
+ * bus. The score is createShow throughput; after each iteration the
+ * shows created and the events the relay delivered so far are printed,
+ * the difference being the relay's backlog.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(8)
+@Fork(1)
+public class ShowServiceEventBusBenchmark {
+
+    private static final int SCREENS = 64;
+
+    private ConfigurableApplicationContext context;
+    private ShowService showService;
+    private EmbeddedEventBus bus;
+    private UUID movieId;
+    private UUID[] screens;
+    private final AtomicLong created = new AtomicLong();
+    private final LocalDateTime start = LocalDateTime.of(2030, 1, 1, 9, 0);
+
+    @Setup
+    public void setUp() throws InterruptedException {
+        context = new SpringApplicationBuilder(MovieCatalogServiceApplication.class)
+            .web(WebApplicationType.NONE)
+            .properties(
+                "spring.r2dbc.url=r2dbc:h2:mem:///benchmark;DB_CLOSE_DELAY=-1;MODE=PostgreSQL",
+                "spring.sql.init.mode=always",
+                "spring.kafka.admin.auto-create=false",
+                "catalog.events.transport=embedded",
+                "catalog.events.embedded.capacity=1048576",
+                "catalog.outbox.poll-interval=10ms",
+                "logging.level.root=WARN",
+                "logging.level.io.r2dbc.h2=ERROR")
+            .run();
+        showService = context.getBean(ShowService.class);
+        bus = context.getBean(EmbeddedEventBus.class);
+
+        final ScreenOccupancyIndex occupancy = context.getBean(ScreenOccupancyIndex.class);
+        while (!occupancy.isReady()) {
+            Thread.sleep(10);
+        }
+
+        final Theatre theatre = context.getBean(TheatreRepository.class)
+            .save(new Theatre(UUID.randomUUID(), "Bench", "Pune")).block();
+        screens = new UUID[SCREENS];
+        for (int i = 0; i < SCREENS; i++) {
+            final Screen screen = new Screen();
+            screen.setId(UUID.randomUUID());
+            screen.setTheatreId(theatre.getId());
+            screen.setName("Screen " + i);
+            screens[i] = context.getBean(ScreenRepository.class).save(screen).block().getId();
+        }
+        movieId = context.getBean(MovieService.class).createMovie(new Movie(null, "Bench",
+            "English", "Drama", 120, LocalDate.of(2026, 1, 1), true)).block().getId();
+    }
+
+    @TearDown(Level.Iteration)
+    public void report() {
+        long delivered = 0;
+        for (int partition = 0; partition < bus.partitions(); partition++) {
+            delivered += bus.endOffset(ShowEventPublisher.TOPIC, partition);
+        }
+        System.out.printf("%ncreated=%d delivered=%d%n", created.get(), delivered);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Show createShow() {
+        // Round-robin over the screens, three hours apart per screen: never a conflict
+        final long n = created.getAndIncrement();
+        return showService.createShow(Show.builder()
+            .movieId(movieId)
+            .screenId(screens[(int) (n % SCREENS)])
+            .showTime(start.plusHours(3 * (n / SCREENS)))
+            .price(BigDecimal.TEN)
+            .build()).block();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(ShowServiceEventBusBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
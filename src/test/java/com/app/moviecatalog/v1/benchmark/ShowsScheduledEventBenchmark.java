@@ -0,0 +1,147 @@
+package com.app.moviecatalog.v1.benchmark;
+
+import com.app.moviecatalog.v1.eventsream.codec.ShowCreatedEventCodec;
+import com.app.moviecatalog.v1.eventsream.codec.ShowsScheduledEventCodec;
+import com.app.moviecatalog.v1.eventsream.model.ShowCreatedEvent;
+import com.app.moviecatalog.v1.eventsream.model.ShowsScheduledEvent;
+import com.app.moviecatalog.v1.eventsream.publisher.ShowEventPublisher;
+import org.apache.kafka.common.record.CompressionType;
+import org.apache.kafka.common.record.MemoryRecords;
+import org.apache.kafka.common.record.MemoryRecordsBuilder;
+import org.apache.kafka.common.record.TimestampType;
+import org.apache.kafka.common.utils.Utils;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Producer-side cost of one day's programming, 64 screens with 6 shows
+ * each, sent per show on show.created or batched per screen and day on
+ * show.scheduled. An operation encodes every value and appends the
+ * records to one Kafka record batch per partition, as the producer's
+ * accumulator would. The records and bytes counters are per second, so
+ * the report reads as records/sec and bytes/sec on the wire.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ShowsScheduledEventBenchmark {
+
+    private static final int PARTITIONS = 3;
+    private static final int SCREENS = 64;
+    private static final int SHOWS_PER_SCREEN = 6;
+
+    @Param({"NONE", "LZ4"})
+    public CompressionType compression;
+
+    private final UUID eventId = UUID.randomUUID();
+    private List<ShowCreatedEvent> schedule;
+    private final ByteBuffer[] buffers = new ByteBuffer[PARTITIONS];
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Wire {
+        public long records;
+        public long bytes;
+    }
+
+    @Setup
+    public void setUp() {
+        final List<UUID> movies = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        final LocalDate day = LocalDate.of(2026, 1, 1);
+        schedule = new ArrayList<>(SCREENS * SHOWS_PER_SCREEN);
+        long sequence = 0;
+        for (int screen = 0; screen < SCREENS; screen++) {
+            final UUID screenId = UUID.randomUUID();
+            for (int show = 0; show < SHOWS_PER_SCREEN; show++) {
+                schedule.add(ShowCreatedEvent.builder()
+                    .eventId(UUID.randomUUID())
+                    .sequence(++sequence)
+                    .showId(UUID.randomUUID())
+                    .movieId(movies.get((screen + show) % movies.size()))
+                    .screenId(screenId)
+                    .showTime(day.atTime(10 + 2 * show, 30))
+                    .build());
+            }
+        }
+        for (int i = 0; i < PARTITIONS; i++) {
+            buffers[i] = ByteBuffer.allocate(1 << 20);
+        }
+    }
+
+    @Benchmark
+    public long perShow(Wire wire) {
+        final MemoryRecordsBuilder[] batches = open();
+        for (ShowCreatedEvent event : schedule) {
+            append(batches, event.getShowId(), ShowCreatedEventCodec.encode(event));
+        }
+        return close(batches, schedule.size(), wire);
+    }
+
+    @Benchmark
+    public long byScreenDay(Wire wire) {
+        final List<ShowsScheduledEvent> scheduled = ShowEventPublisher.byScreenDay(schedule);
+        final MemoryRecordsBuilder[] batches = open();
+        for (ShowsScheduledEvent event : scheduled) {
+            // Stamped like the per-show events, without drawing a new id inside the measurement
+            event.setEventId(eventId);
+            event.setSequence(event.getShows().size());
+            append(batches, event.getScreenId(), ShowsScheduledEventCodec.encode(event));
+        }
+        return close(batches, scheduled.size(), wire);
+    }
+
+    private MemoryRecordsBuilder[] open() {
+        final MemoryRecordsBuilder[] batches = new MemoryRecordsBuilder[PARTITIONS];
+        for (int i = 0; i < PARTITIONS; i++) {
+            buffers[i].clear();
+            batches[i] = MemoryRecords.builder(buffers[i], compression, TimestampType.CREATE_TIME, 0L);
+        }
+        return batches;
+    }
+
+    // Keys are partitioned as the default partitioner does for a keyed record
+    private static void append(MemoryRecordsBuilder[] batches, UUID id, byte[] value) {
+        final byte[] key = id.toString().getBytes(StandardCharsets.UTF_8);
+        batches[Utils.toPositive(Utils.murmur2(key)) % PARTITIONS].append(0L, key, value);
+    }
+
+    private static long close(MemoryRecordsBuilder[] batches, int records, Wire wire) {
+        long bytes = 0;
+        for (MemoryRecordsBuilder batch : batches) {
+            bytes += batch.build().sizeInBytes();
+        }
+        wire.records += records;
+        wire.bytes += bytes;
+        return bytes;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(ShowsScheduledEventBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
@@ -0,0 +1,160 @@
+package com.app.moviecatalog.v1.common.coalesce;
+
+import com.app.moviecatalog.v1.common.version.CatalogVersion;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("RequestCoalescer Unit Tests")
+class RequestCoalescerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private CatalogVersion catalogVersion;
+    private RequestCoalescer coalescer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        catalogVersion = new CatalogVersion();
+        coalescer = new RequestCoalescer(meterRegistry, catalogVersion);
+    }
+
+    @Test
+    @DisplayName("Should run one query for a burst of identical concurrent requests")
+    void flux_ConcurrentBurst_OneQuery() {
+        AtomicInteger queries = new AtomicInteger();
+        Flux<Integer> slowQuery = Flux.defer(() -> {
+            queries.incrementAndGet();
+            return Flux.range(1, 3).delaySubscription(Duration.ofMillis(100));
+        });
+
+        List<List<Integer>> results = Flux.range(0, 100)
+            .flatMap(i -> coalescer.flux("numbers", "k", () -> slowQuery)
+                .collectList()
+                .subscribeOn(Schedulers.parallel()))
+            .collectList()
+            .block(Duration.ofSeconds(5));
+
+        assertEquals(100, results.size());
+        results.forEach(result -> assertEquals(List.of(1, 2, 3), result));
+        assertEquals(1, queries.get());
+        assertEquals(100, count("catalog.coalesce.requests"));
+        assertEquals(99, count("catalog.coalesce.collapsed"));
+        assertEquals(0, coalescer.inFlight());
+    }
+
+    @Test
+    @DisplayName("Should replay rows already emitted to a late joiner")
+    void flux_LateJoiner_SeesEveryRow() {
+        Sinks.Many<Integer> rows = Sinks.many().unicast().onBackpressureBuffer();
+        List<Integer> first = new ArrayList<>();
+        coalescer.flux("numbers", "k", rows::asFlux).subscribe(first::add);
+
+        rows.tryEmitNext(1);
+        Mono<List<Integer>> late = coalescer.flux("numbers", "k", () -> Flux.just(99))
+            .collectList()
+            .cache();
+        late.subscribe();
+        rows.tryEmitNext(2);
+        rows.tryEmitComplete();
+
+        assertEquals(List.of(1, 2), first);
+        assertEquals(List.of(1, 2), late.block());
+    }
+
+    @Test
+    @DisplayName("Should start a fresh query once the previous one completed")
+    void flux_AfterCompletion_QueriesAgain() {
+        AtomicInteger queries = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            StepVerifier.create(coalescer.flux("numbers", "k",
+                    () -> Flux.just(queries.incrementAndGet())))
+                .expectNext(i + 1)
+                .verifyComplete();
+        }
+        assertEquals(0, count("catalog.coalesce.collapsed"));
+    }
+
+    @Test
+    @DisplayName("Should keep different keys and query names apart")
+    void flux_DifferentKeys_NotShared() {
+        Sinks.Many<Integer> pending = Sinks.many().unicast().onBackpressureBuffer();
+        coalescer.flux("numbers", "a", pending::asFlux).subscribe();
+
+        StepVerifier.create(coalescer.flux("numbers", "b", () -> Flux.just(2)))
+            .expectNext(2)
+            .verifyComplete();
+        StepVerifier.create(coalescer.flux("letters", "a", () -> Flux.just(3)))
+            .expectNext(3)
+            .verifyComplete();
+        assertEquals(1, coalescer.inFlight());
+    }
+
+    @Test
+    @DisplayName("Should not let a request after a write join a query started before it")
+    void flux_AfterWrite_DoesNotJoinOlderQuery() {
+        Sinks.Many<Integer> stale = Sinks.many().unicast().onBackpressureBuffer();
+        List<Integer> first = new ArrayList<>();
+        coalescer.flux("numbers", "k", stale::asFlux).subscribe(first::add);
+
+        catalogVersion.bump();
+        StepVerifier.create(coalescer.flux("numbers", "k", () -> Flux.just(1, 2, 3)))
+            .expectNext(1, 2, 3)
+            .verifyComplete();
+
+        stale.tryEmitNext(1);
+        stale.tryEmitComplete();
+        assertEquals(List.of(1), first);
+        assertEquals(0, coalescer.inFlight());
+    }
+
+    @Test
+    @DisplayName("Should share errors and not cache them")
+    void mono_Error_SharedThenRetried() {
+        Sinks.One<String> failing = Sinks.one();
+        Mono<String> first = coalescer.mono("name", 1, failing::asMono);
+        Mono<String> second = coalescer.mono("name", 1, () -> Mono.just("unused"));
+
+        StepVerifier.create(Mono.zip(first, second))
+            .then(() -> failing.tryEmitError(new IllegalStateException("db down")))
+            .verifyErrorMessage("db down");
+
+        StepVerifier.create(coalescer.mono("name", 1, () -> Mono.just("ok")))
+            .expectNext("ok")
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should cancel the query only when every subscriber has cancelled")
+    void flux_Cancel_LastSubscriberCancelsQuery() {
+        AtomicInteger cancelled = new AtomicInteger();
+        Flux<Integer> never = Flux.<Integer>never().doOnCancel(cancelled::incrementAndGet);
+
+        var first = coalescer.flux("numbers", "k", () -> never).subscribe();
+        var second = coalescer.flux("numbers", "k", () -> never).subscribe();
+
+        first.dispose();
+        assertEquals(0, cancelled.get());
+        second.dispose();
+        assertEquals(1, cancelled.get());
+        assertEquals(0, coalescer.inFlight());
+    }
+
+    private double count(String name) {
+        return meterRegistry.counter(name, "query", "numbers").count();
+    }
+}
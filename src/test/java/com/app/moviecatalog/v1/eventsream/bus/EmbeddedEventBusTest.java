@@ -0,0 +1,86 @@
+package com.app.moviecatalog.v1.eventsream.bus;
+
+import org.apache.kafka.clients.producer.internals.BuiltInPartitioner;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("EmbeddedEventBus Unit Tests")
+class EmbeddedEventBusTest {
+
+    private final EmbeddedEventBus bus = new EmbeddedEventBus(3, 4);
+
+    @Test
+    @DisplayName("Should put a key on the partition Kafka's default partitioner picks")
+    void publish_KafkaPartitioning() {
+        for (int i = 0; i < 100; i++) {
+            String key = UUID.randomUUID().toString();
+            int expected = BuiltInPartitioner.partitionForKey(key.getBytes(StandardCharsets.UTF_8), 3);
+
+            StepVerifier.create(bus.publish("show.created", key, i))
+                .expectNextMatches(receipt -> receipt.partition() == expected)
+                .verifyComplete();
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep per-key send order with consecutive offsets")
+    void publish_OrderedPerPartition() {
+        String key = "screen-1";
+        int partition = bus.partitionFor(key);
+
+        Flux.range(0, 3)
+            .concatMap(i -> bus.publish("show.created", key, i))
+            .map(EventReceipt::offset)
+            .as(StepVerifier::create)
+            .expectNext(0L, 1L, 2L)
+            .verifyComplete();
+
+        assertEquals(List.of(0, 1, 2), values(bus.poll("show.created", partition, 0, 10)));
+        assertEquals(List.of(1, 2), values(bus.poll("show.created", partition, 1, 10)));
+        assertEquals(0, bus.endOffset("other.topic", partition));
+    }
+
+    @Test
+    @DisplayName("Should drop the oldest records once a partition is full")
+    void poll_RingOverwritesOldest() {
+        String key = "screen-1";
+        int partition = bus.partitionFor(key);
+        for (int i = 0; i < 6; i++) {
+            bus.publish("show.created", key, i).block();
+        }
+
+        List<EventRecord> records = bus.poll("show.created", partition, 0, 10);
+
+        assertEquals(List.of(2, 3, 4, 5), values(records));
+        assertEquals(2L, records.get(0).offset());
+        assertEquals(6L, bus.endOffset("show.created", partition));
+        assertEquals(List.of(4), values(bus.poll("show.created", partition, 4, 1)));
+    }
+
+    @Test
+    @DisplayName("Should spread records without a key across partitions")
+    void publish_UnkeyedRoundRobin() {
+        Flux.range(0, 3)
+            .concatMap(i -> bus.publish("show.created", null, i))
+            .map(EventReceipt::partition)
+            .collectList()
+            .as(StepVerifier::create)
+            .expectNextMatches(partitions -> partitions.stream().distinct().count() == 3)
+            .verifyComplete();
+
+        assertThrows(IllegalArgumentException.class, () -> new EmbeddedEventBus(0, 4));
+    }
+
+    private static List<Object> values(List<EventRecord> records) {
+        return records.stream().map(EventRecord::value).toList();
+    }
+}
@@ -0,0 +1,93 @@
+package com.app.moviecatalog.v1.eventsream.codec;
+
+import com.app.moviecatalog.v1.eventsream.model.ShowCreatedEvent;
+import org.apache.kafka.common.errors.SerializationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("ShowCreatedEventCodec Unit Tests")
+class ShowCreatedEventCodecTest {
+
+    private final ShowCreatedEvent event = ShowCreatedEvent.builder()
+        .eventId(UUID.randomUUID())
+        .sequence(42)
+        .showId(UUID.randomUUID())
+        .movieId(UUID.randomUUID())
+        .screenId(UUID.randomUUID())
+        .showTime(LocalDateTime.of(2026, 3, 14, 18, 30, 15))
+        .build();
+
+    @Test
+    @DisplayName("Should round-trip an event in 82 bytes")
+    void encode_RoundTrip() {
+        byte[] bytes = ShowCreatedEventCodec.encode(event);
+
+        assertEquals(ShowCreatedEventCodec.V2_SIZE, bytes.length);
+        assertEquals(ShowCreatedEventCodec.VERSION, bytes[0]);
+        assertEquals(event, ShowCreatedEventCodec.decode(bytes));
+    }
+
+    @Test
+    @DisplayName("Should keep absent fields absent")
+    void encode_NullFields() {
+        ShowCreatedEvent sparse = ShowCreatedEvent.builder().showId(event.getShowId()).build();
+
+        assertEquals(sparse, ShowCreatedEventCodec.decode(ShowCreatedEventCodec.encode(sparse)));
+    }
+
+    @Test
+    @DisplayName("Should read the version 2 fields of a newer, longer record")
+    void decode_NewerVersion() {
+        byte[] v3 = Arrays.copyOf(ShowCreatedEventCodec.encode(event), ShowCreatedEventCodec.V2_SIZE + 12);
+        v3[0] = 3;
+
+        assertEquals(event, ShowCreatedEventCodec.decode(v3));
+    }
+
+    @Test
+    @DisplayName("Should read a version 1 record without event id and sequence")
+    void decode_Version1() {
+        byte[] v1 = Arrays.copyOf(ShowCreatedEventCodec.encode(event), ShowCreatedEventCodec.V1_SIZE);
+        v1[0] = 1;
+
+        ShowCreatedEvent decoded = ShowCreatedEventCodec.decode(v1);
+        assertEquals(event.getShowId(), decoded.getShowId());
+        assertEquals(event.getShowTime(), decoded.getShowTime());
+        assertEquals(null, decoded.getEventId());
+        assertEquals(0, decoded.getSequence());
+    }
+
+    @Test
+    @DisplayName("Should reject truncated or unversioned records")
+    void decode_Invalid() {
+        byte[] bytes = ShowCreatedEventCodec.encode(event);
+
+        assertThrows(IllegalArgumentException.class,
+            () -> ShowCreatedEventCodec.decode(Arrays.copyOf(bytes, 20)));
+        bytes[0] = 0;
+        assertThrows(IllegalArgumentException.class, () -> ShowCreatedEventCodec.decode(bytes));
+    }
+
+    @Test
+    @DisplayName("Should deserialize both the binary and the JSON encoding")
+    void deserializer_BinaryAndJson() {
+        JsonSerializer<ShowCreatedEvent> json = new JsonSerializer<>();
+        json.setAddTypeInfo(false);
+        ShowCreatedEventDeserializer deserializer = new ShowCreatedEventDeserializer();
+
+        assertEquals(event, deserializer.deserialize("show.created",
+            new ShowCreatedEventSerializer().serialize("show.created", event)));
+        assertEquals(event, deserializer.deserialize("show.created",
+            json.serialize("show.created", event)));
+        assertThrows(SerializationException.class,
+            () -> deserializer.deserialize("show.created", new byte[] {1, 2, 3}));
+    }
+}
@@ -0,0 +1,88 @@
+package com.app.moviecatalog.v1.eventsream.codec;
+
+import com.app.moviecatalog.v1.eventsream.model.ShowsScheduledEvent;
+import com.app.moviecatalog.v1.eventsream.model.ShowsScheduledEvent.ScheduledShow;
+import org.apache.kafka.common.errors.SerializationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("ShowsScheduledEventCodec Unit Tests")
+class ShowsScheduledEventCodecTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 3, 14);
+
+    private final UUID movieA = UUID.randomUUID();
+    private final UUID movieB = UUID.randomUUID();
+
+    private final ShowsScheduledEvent event = ShowsScheduledEvent.builder()
+        .eventId(UUID.randomUUID())
+        .sequence(42)
+        .screenId(UUID.randomUUID())
+        .date(DAY)
+        .shows(List.of(
+            new ScheduledShow(UUID.randomUUID(), movieA, DAY.atTime(10, 0)),
+            new ScheduledShow(UUID.randomUUID(), movieB, DAY.atTime(14, 30, 15)),
+            new ScheduledShow(UUID.randomUUID(), movieA, DAY.atTime(23, 59, 59))))
+        .build();
+
+    @Test
+    @DisplayName("Should round-trip a screen's day writing each movie once")
+    void encode_RoundTrip() {
+        byte[] bytes = ShowsScheduledEventCodec.encode(event);
+
+        assertEquals(ShowsScheduledEventCodec.HEADER_SIZE + 2 * 16 + 3 * ShowsScheduledEventCodec.SHOW_SIZE,
+            bytes.length);
+        assertEquals(ShowsScheduledEventCodec.VERSION, bytes[0]);
+        assertEquals(event, ShowsScheduledEventCodec.decode(bytes));
+    }
+
+    @Test
+    @DisplayName("Should keep an absent event id absent and read past trailing bytes of newer versions")
+    void decode_AbsentIdAndNewerVersion() {
+        event.setEventId(null);
+        byte[] v2 = Arrays.copyOf(ShowsScheduledEventCodec.encode(event), 200);
+        v2[0] = 2;
+
+        assertEquals(event, ShowsScheduledEventCodec.decode(v2));
+    }
+
+    @Test
+    @DisplayName("Should reject shows on another day and truncated records")
+    void encodeDecode_Invalid() {
+        ShowsScheduledEvent otherDay = ShowsScheduledEvent.builder()
+            .screenId(event.getScreenId()).date(DAY)
+            .shows(List.of(new ScheduledShow(UUID.randomUUID(), movieA, DAY.plusDays(1).atTime(0, 30))))
+            .build();
+        assertThrows(IllegalArgumentException.class, () -> ShowsScheduledEventCodec.encode(otherDay));
+
+        byte[] bytes = ShowsScheduledEventCodec.encode(event);
+        assertThrows(IllegalArgumentException.class,
+            () -> ShowsScheduledEventCodec.decode(Arrays.copyOf(bytes, bytes.length - 1)));
+        bytes[0] = 0;
+        assertThrows(IllegalArgumentException.class, () -> ShowsScheduledEventCodec.decode(bytes));
+    }
+
+    @Test
+    @DisplayName("Should deserialize both the binary and the JSON encoding")
+    void deserializer_BinaryAndJson() {
+        JsonSerializer<ShowsScheduledEvent> json = new JsonSerializer<>();
+        json.setAddTypeInfo(false);
+        ShowsScheduledEventDeserializer deserializer = new ShowsScheduledEventDeserializer();
+
+        assertEquals(event, deserializer.deserialize("show.scheduled",
+            new ShowsScheduledEventSerializer().serialize("show.scheduled", event)));
+        assertEquals(event, deserializer.deserialize("show.scheduled",
+            json.serialize("show.scheduled", event)));
+        assertThrows(SerializationException.class,
+            () -> deserializer.deserialize("show.scheduled", new byte[] {1, 2, 3}));
+    }
+}
@@ -0,0 +1,51 @@
+package com.app.moviecatalog.v1.eventsream.config;
+
+import com.app.moviecatalog.v1.eventsream.codec.ShowCreatedEventCodec;
+import com.app.moviecatalog.v1.eventsream.model.ShowCreatedEvent;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.serialization.Serializer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.kafka.DefaultKafkaProducerFactoryCustomizer;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(classes = KafkaSerializationConfig.class, webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("binary-topics")
+@DisplayName("KafkaSerializationConfig Binding Tests")
+class KafkaSerializationConfigBindingTest {
+
+    @Autowired
+    private EventEncodingProperties encoding;
+
+    @Autowired
+    private DefaultKafkaProducerFactoryCustomizer valueSerializerByTopic;
+
+    @Test
+    @DisplayName("Should bind binary-topics written as a YAML list")
+    void binaryTopics_FromYamlList() {
+        assertEquals(List.of("show.created", "show.scheduled"), encoding.binaryTopics());
+
+        DefaultKafkaProducerFactory<String, Object> factory = new DefaultKafkaProducerFactory<>(Map.of());
+        valueSerializerByTopic.customize(factory);
+        Serializer<Object> serializer = factory.getValueSerializerSupplier().get();
+
+        ShowCreatedEvent event = ShowCreatedEvent.builder()
+            .showId(UUID.randomUUID())
+            .movieId(UUID.randomUUID())
+            .screenId(UUID.randomUUID())
+            .showTime(LocalDateTime.of(2026, 1, 1, 18, 0))
+            .build();
+        assertEquals(event, ShowCreatedEventCodec.decode(
+            serializer.serialize("show.created", new RecordHeaders(), event)));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,60 @@
+package com.app.moviecatalog.v1.eventsream.config;
+
+import com.app.moviecatalog.v1.eventsream.codec.ShowCreatedEventCodec;
+import com.app.moviecatalog.v1.eventsream.model.ShowCreatedEvent;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.serialization.Serializer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("KafkaSerializationConfig Unit Tests")
+class KafkaSerializationConfigTest {
+
+    private final KafkaSerializationConfig config = new KafkaSerializationConfig();
+
+    private final ShowCreatedEvent event = ShowCreatedEvent.builder()
+        .showId(UUID.randomUUID())
+        .movieId(UUID.randomUUID())
+        .screenId(UUID.randomUUID())
+        .showTime(LocalDateTime.of(2026, 1, 1, 18, 0))
+        .build();
+
+    @Test
+    @DisplayName("Should encode listed topics in binary and the rest as JSON")
+    void binaryTopics_SelectedPerTopic() {
+        DefaultKafkaProducerFactory<String, Object> factory = new DefaultKafkaProducerFactory<>(Map.of());
+        config.valueSerializerByTopic(new EventEncodingProperties(List.of("show.created"))).customize(factory);
+
+        // The producer always calls the headers variant
+        Serializer<Object> serializer = factory.getValueSerializerSupplier().get();
+
+        assertEquals(event, ShowCreatedEventCodec.decode(serializer.serialize("show.created", new RecordHeaders(), event)));
+        assertEquals('{', serializer.serialize("movie.changed", new RecordHeaders(), event)[0]);
+    }
+
+    @Test
+    @DisplayName("Should leave the configured serializer alone when no topic is binary")
+    void binaryTopics_NoneConfigured() {
+        DefaultKafkaProducerFactory<String, Object> factory = new DefaultKafkaProducerFactory<>(Map.of());
+        config.valueSerializerByTopic(new EventEncodingProperties(List.of())).customize(factory);
+
+        assertNull(factory.getValueSerializerSupplier().get());
+    }
+
+    @Test
+    @DisplayName("Should refuse a binary topic without a codec")
+    void binaryTopics_UnknownTopic() {
+        assertThrows(IllegalArgumentException.class,
+            () -> config.valueSerializerByTopic(new EventEncodingProperties(List.of("movie.changed"))));
+    }
+}
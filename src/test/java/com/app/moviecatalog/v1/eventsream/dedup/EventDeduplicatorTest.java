@@ -0,0 +1,95 @@
+package com.app.moviecatalog.v1.eventsream.dedup;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("EventDeduplicator Unit Tests")
+class EventDeduplicatorTest {
+
+    private final UUID screen = UUID.randomUUID();
+
+    @Test
+    @DisplayName("Should accept each sequence once per key")
+    void firstSeen_SkipsReplays() {
+        EventDeduplicator dedup = new EventDeduplicator(100, 4);
+        UUID other = UUID.randomUUID();
+
+        assertTrue(dedup.firstSeen(screen, 10));
+        assertTrue(dedup.firstSeen(screen, 17));
+        assertFalse(dedup.firstSeen(screen, 10));
+        assertFalse(dedup.firstSeen(screen, 17));
+        assertTrue(dedup.firstSeen(other, 10));
+        assertEquals(2, dedup.size());
+    }
+
+    @Test
+    @DisplayName("Should accept a late sequence once however many later ones came first")
+    void firstSeen_LateWithinSpan() {
+        EventDeduplicator dedup = new EventDeduplicator(100, 64);
+
+        assertTrue(dedup.firstSeen(screen, 40));
+        for (long sequence = 42; sequence <= 100; sequence += 2) {
+            assertTrue(dedup.firstSeen(screen, sequence));
+        }
+        // 41 committed after thirty later events of the key
+        assertTrue(dedup.firstSeen(screen, 41));
+        assertFalse(dedup.firstSeen(screen, 41));
+        assertFalse(dedup.firstSeen(screen, 40));
+        assertFalse(dedup.firstSeen(screen, 100));
+        assertTrue(dedup.firstSeen(screen, 99));
+    }
+
+    @Test
+    @DisplayName("Should forget bits the ring moves past and reject what falls below the span")
+    void firstSeen_BelowSpan() {
+        EventDeduplicator dedup = new EventDeduplicator(100, 64);
+
+        assertTrue(dedup.firstSeen(screen, 10));
+        assertTrue(dedup.firstSeen(screen, 70));
+        assertFalse(dedup.firstSeen(screen, 10));
+        // 74 takes over 10's bit in the ring
+        assertTrue(dedup.firstSeen(screen, 74));
+        assertFalse(dedup.firstSeen(screen, 74));
+        // 10 is now more than the span below 74: too old for anything but a replay
+        assertFalse(dedup.firstSeen(screen, 10));
+        // A jump past the whole span starts an empty ring
+        assertTrue(dedup.firstSeen(screen, 1000));
+        assertTrue(dedup.firstSeen(screen, 999));
+        assertFalse(dedup.firstSeen(screen, 1000));
+        assertFalse(dedup.firstSeen(screen, 74));
+    }
+
+    @Test
+    @DisplayName("Should carry keys over from the previous table and forget older ones")
+    void firstSeen_BoundedKeys() {
+        EventDeduplicator dedup = new EventDeduplicator(2, 2);
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+
+        dedup.firstSeen(first, 1);
+        dedup.firstSeen(second, 1);
+        // Rotates: first and second move to the previous table
+        dedup.firstSeen(UUID.randomUUID(), 1);
+        assertFalse(dedup.firstSeen(first, 1));
+        assertEquals(2, dedup.size());
+
+        // Rotates again: first was carried over and survives, second was not
+        dedup.firstSeen(UUID.randomUUID(), 1);
+        assertFalse(dedup.firstSeen(first, 1));
+        assertTrue(dedup.firstSeen(second, 1));
+    }
+
+    @Test
+    @DisplayName("Should reject a non-positive size")
+    void constructor_Invalid() {
+        assertThrows(IllegalArgumentException.class, () -> new EventDeduplicator(0, 4));
+        assertThrows(IllegalArgumentException.class, () -> new EventDeduplicator(10, 0));
+    }
+}
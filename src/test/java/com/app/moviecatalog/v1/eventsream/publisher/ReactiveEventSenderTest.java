@@ -0,0 +1,182 @@
+package com.app.moviecatalog.v1.eventsream.publisher;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.common.errors.NotLeaderOrFollowerException;
+import org.apache.kafka.common.errors.RecordTooLargeException;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.mock.MockProducerFactory;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+import reactor.core.Disposable;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("ReactiveEventSender Unit Tests")
+class ReactiveEventSenderTest {
+
+    private MockProducer<String, Object> broker;
+    private SimpleMeterRegistry meterRegistry;
+    private ReactiveEventSender sender;
+
+    @BeforeEach
+    void setUp() {
+        // Acks only when the test completes or fails a record
+        broker = new MockProducer<>(false, new StringSerializer(), new JsonSerializer<>()) {
+            @Override
+            public void close(Duration timeout) {
+            }
+        };
+        meterRegistry = new SimpleMeterRegistry();
+        sender = new ReactiveEventSender(
+            new KafkaTemplate<>(new MockProducerFactory<>(() -> broker)), meterRegistry,
+            2, 3, Duration.ofSeconds(5), 2, Duration.ofMillis(1), Schedulers.immediate());
+    }
+
+    @Test
+    @DisplayName("Should hand at most max-in-flight records to the producer")
+    void send_CapsInFlight() {
+        List<SendResult<String, Object>> results = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            sender.send("show.created", "key-" + i, "value-" + i).subscribe(results::add);
+        }
+
+        assertEquals(2, broker.history().size());
+        assertEquals(2, sender.inFlight());
+        assertEquals(3.0, meterRegistry.get("catalog.events.queued").gauge().value());
+
+        broker.completeNext();
+        assertEquals(3, broker.history().size());
+        assertEquals(1, results.size());
+        assertEquals("key-0", results.get(0).getProducerRecord().key());
+
+        while (broker.completeNext()) {
+            // each ack admits the next queued record
+        }
+        assertEquals(5, results.size());
+        assertEquals(0, sender.inFlight());
+        assertEquals(5, meterRegistry.get("catalog.events.send")
+            .tags("topic", "show.created", "outcome", "success").timer().count());
+    }
+
+    @Test
+    @DisplayName("Should retry a retriable broker error and count the retry")
+    void send_RetriesRetriableErrors() {
+        StepVerifier.create(sender.send("show.created", "key", "value"))
+            .then(() -> broker.errorNext(new NotLeaderOrFollowerException("leader moved")))
+            .then(() -> awaitHistory(2))
+            .then(broker::completeNext)
+            .expectNextMatches(result -> result.getProducerRecord().key().equals("key"))
+            .verifyComplete();
+
+        assertEquals(1.0, meterRegistry.get("catalog.events.send.retries").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should fail fast on a non-retriable error and free the slot")
+    void send_FailsOnFatalError() {
+        StepVerifier.create(sender.send("show.created", "key", "value"))
+            .then(() -> broker.errorNext(new RecordTooLargeException("too large")))
+            .expectErrorMatches(error -> error.getCause() instanceof RecordTooLargeException)
+            .verify();
+
+        assertEquals(0, sender.inFlight());
+        assertEquals(1, meterRegistry.get("catalog.events.send")
+            .tags("outcome", "error").timer().count());
+        assertTrue(meterRegistry.find("catalog.events.send.retries").counters().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should not resend a record whose ack timed out")
+    void send_DoesNotRetryAckTimeout() {
+        StepVerifier.create(sender.send("show.created", "key", "value"))
+            .then(() -> broker.errorNext(new TimeoutException("delivery timed out")))
+            .expectErrorMatches(error -> error.getCause() instanceof TimeoutException)
+            .verify();
+
+        assertEquals(1, broker.history().size());
+        assertTrue(meterRegistry.find("catalog.events.send.retries").counters().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should refuse a send timeout shorter than the producer's delivery timeout")
+    void outlastingDelivery_ChecksDeliveryTimeout() {
+        assertEquals(Duration.ofSeconds(35),
+            ReactiveEventSender.outlastingDelivery(Duration.ofSeconds(35), Duration.ofSeconds(30)));
+        assertThrows(IllegalArgumentException.class,
+            () -> ReactiveEventSender.outlastingDelivery(Duration.ofSeconds(10), Duration.ofSeconds(30)));
+    }
+
+    @Test
+    @DisplayName("Should refuse to start with a send timeout below Kafka's default delivery timeout")
+    void constructor_SendTimeoutBelowDefaultDeliveryTimeout() {
+        KafkaTemplate<String, Object> template = new KafkaTemplate<>(new MockProducerFactory<>(() -> broker));
+
+        assertThrows(IllegalArgumentException.class, () -> new ReactiveEventSender(template, meterRegistry,
+            2, 3, Duration.ofSeconds(10), 120_000, 2, Duration.ofMillis(1)));
+    }
+
+    @Test
+    @DisplayName("Should reject a send once max-queued records are waiting")
+    void send_RejectsWhenQueueFull() {
+        for (int i = 0; i < 5; i++) {
+            sender.send("show.created", "key-" + i, "value-" + i).subscribe();
+        }
+
+        StepVerifier.create(sender.send("show.created", "key-5", "value-5"))
+            .expectErrorMatches(Exceptions::isOverflow)
+            .verify();
+        assertEquals(3.0, meterRegistry.get("catalog.events.queued").gauge().value());
+        assertEquals(1.0, meterRegistry.get("catalog.events.send.rejected").counter().count());
+
+        broker.completeNext();
+        StepVerifier.create(sender.send("show.created", "key-6", "value-6"))
+            .then(() -> {
+                while (broker.completeNext()) {
+                    // drain the queue down to key-6
+                }
+            })
+            .expectNextMatches(result -> result.getProducerRecord().key().equals("key-6"))
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should skip a queued send whose caller cancelled")
+    void send_CancelledWhileQueued() {
+        sender.send("show.created", "a", "1").subscribe();
+        sender.send("show.created", "b", "2").subscribe();
+        Disposable cancelled = sender.send("show.created", "c", "3").subscribe();
+        Mono<SendResult<String, Object>> last = sender.send("show.created", "d", "4").cache();
+        last.subscribe();
+
+        cancelled.dispose();
+        broker.completeNext();
+        broker.completeNext();
+
+        assertEquals(List.of("a", "b", "d"),
+            broker.history().stream().map(record -> record.key()).toList());
+    }
+
+    private void awaitHistory(int size) {
+        // Retry backoff runs on a timer thread
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (broker.history().size() < size && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+    }
+}
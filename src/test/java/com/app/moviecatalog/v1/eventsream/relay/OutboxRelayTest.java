@@ -0,0 +1,271 @@
+package com.app.moviecatalog.v1.eventsream.relay;
+
+import com.app.moviecatalog.v1.config.TestConfig;
+import com.app.moviecatalog.v1.domain.OutboxEvent;
+import com.app.moviecatalog.v1.eventsream.model.ShowCreatedEvent;
+import com.app.moviecatalog.v1.eventsream.publisher.ReactiveEventSender;
+import com.app.moviecatalog.v1.eventsream.spill.BuildDirectoryTempDirFactory;
+import com.app.moviecatalog.v1.eventsream.spill.SpillLog;
+import com.app.moviecatalog.v1.repository.OutboxRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.r2dbc.DataR2dbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.mock.MockProducerFactory;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Relay against the real outbox table, with Kafka's MockProducer standing
+ * in for the broker.
+ */
+@DataR2dbcTest
+@ActiveProfiles("test")
+@Import(TestConfig.class)
+@DisplayName("OutboxRelay Integration Tests")
+class OutboxRelayTest {
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private MockProducer<String, Object> broker;
+    private SimpleMeterRegistry meterRegistry;
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        databaseClient.sql("DELETE FROM outbox_events").then().block();
+        databaseClient.sql("DELETE FROM outbox_dead_letters").then().block();
+        broker = new MockProducer<>(true, new StringSerializer(), new JsonSerializer<>()) {
+            // KafkaTemplate closes its producer after every send; a real
+            // factory hands out a close-safe wrapper, the mock one does not
+            @Override
+            public void close(Duration timeout) {
+            }
+        };
+        meterRegistry = new SimpleMeterRegistry();
+        relay = relay(Optional.empty());
+    }
+
+    @Test
+    void drain_ShouldPublishEveryEventInBatchesAndEmptyTheOutbox() throws Exception {
+        List<ShowCreatedEvent> shows = new ArrayList<>();
+        List<OutboxEvent> events = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            ShowCreatedEvent show = ShowCreatedEvent.builder()
+                .showId(UUID.randomUUID()).movieId(UUID.randomUUID()).screenId(UUID.randomUUID())
+                .showTime(LocalDateTime.of(2026, 1, 1, 10 + i, 0)).build();
+            shows.add(show);
+            events.add(event(show.getShowId().toString(), objectMapper.writeValueAsString(show)));
+        }
+        outboxRepository.append(events).block();
+
+        StepVerifier.create(relay.drain()).expectNext(5L).verifyComplete();
+
+        List<ProducerRecord<String, Object>> sent = broker.history();
+        assertEquals(5, sent.size());
+        for (int i = 0; i < 5; i++) {
+            assertEquals("show.created", sent.get(i).topic());
+            assertEquals(shows.get(i).getShowId().toString(), sent.get(i).key());
+            // Typed, so a binary serializer for the topic can encode it
+            assertEquals(shows.get(i), sent.get(i).value());
+        }
+        assertEquals(5.0, meterRegistry.get("catalog.outbox.published").counter().count());
+        assertEquals(0.0, meterRegistry.get("catalog.outbox.pending").gauge().value());
+        assertEquals(0.0, meterRegistry.get("catalog.outbox.lag").gauge().value());
+    }
+
+    @Test
+    void relayBatch_ShouldKeepUnackedEventsAndRetryAfterBackoff() {
+        LocalDateTime now = LocalDateTime.now();
+        outboxRepository.append(List.of(event("show-1", "{}"))).block();
+        broker.sendException = new KafkaException("broker down");
+
+        StepVerifier.create(relay.drain()).expectNext(0L).verifyComplete();
+
+        assertEquals(1.0, meterRegistry.get("catalog.outbox.failed").counter().count());
+        assertEquals(1.0, meterRegistry.get("catalog.outbox.pending").gauge().value());
+        StepVerifier.create(outboxRepository.findDue(now.plusMinutes(1), 10))
+            .expectNextMatches(event -> event.getAttempts() == 1 && event.getNextAttemptAt().isAfter(now))
+            .verifyComplete();
+
+        broker.sendException = null;
+        StepVerifier.create(relay.relayBatch(now))
+            .expectNext(new OutboxRelay.Batch(0, 0))
+            .verifyComplete();
+        StepVerifier.create(relay.relayBatch(now.plusMinutes(1)))
+            .expectNext(new OutboxRelay.Batch(1, 1))
+            .verifyComplete();
+        assertEquals(1, broker.history().size());
+    }
+
+    @Test
+    void drain_ShouldSpillWhileTheBrokerIsDownAndReplayInOrder(@TempDir(factory = BuildDirectoryTempDirFactory.class) Path dir) {
+        // Fresh registry: the gauges of the relay built in setUp are taken
+        meterRegistry = new SimpleMeterRegistry();
+        SpillLog spillLog = new SpillLog(dir, DataSize.ofKilobytes(64), 2, meterRegistry);
+        relay = relay(Optional.of(spillLog));
+        outboxRepository.append(List.of(event("show-1", "{}"), event("show-2", "{}"))).block();
+        broker.sendException = new KafkaException("broker down");
+
+        StepVerifier.create(relay.drain()).expectNext(0L).verifyComplete();
+
+        // Out of the table and on disk; a later event queues behind them unsent
+        assertEquals(2, spillLog.depth());
+        assertEquals(0.0, meterRegistry.get("catalog.outbox.pending").gauge().value());
+        outboxRepository.append(List.of(event("show-3", "{}"))).block();
+        StepVerifier.create(relay.drain()).expectNext(0L).verifyComplete();
+        assertEquals(3, spillLog.depth());
+        // The first batch and its failed replay; show-3 was never tried
+        assertEquals(4.0, meterRegistry.get("catalog.outbox.failed").counter().count());
+
+        broker.sendException = null;
+        StepVerifier.create(relay.drain()).expectNext(3L).verifyComplete();
+
+        assertTrue(spillLog.isEmpty());
+        assertEquals(List.of("show-1", "show-2", "show-3"),
+            broker.history().stream().map(ProducerRecord::key).toList());
+        assertEquals(3.0, meterRegistry.get("catalog.spill.replayed").counter().count());
+        spillLog.close();
+    }
+
+    @Test
+    void relayBatch_ShouldHoldBackAKeysLaterEventsWhileAnEarlierOneBacksOff() {
+        // Whole seconds, so the stored timestamps are not rounded past it
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        List<OutboxEvent> layout = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            layout.add(OutboxEvent.builder()
+                .topic("catalog.screens").eventKey("screen-1")
+                .payload("{\"version\":" + i + "}").createdAt(now).build());
+        }
+        outboxRepository.append(layout).block();
+        broker.sendException = new KafkaException("broker down");
+
+        StepVerifier.create(relay.relayBatch(now))
+            .expectNext(new OutboxRelay.Batch(2, 0))
+            .verifyComplete();
+        // Only the first was tried; the others wait for it, not for their own backoff
+        assertEquals(1.0, meterRegistry.get("catalog.outbox.failed").counter().count());
+        StepVerifier.create(relay.relayBatch(now.plus(Duration.ofMillis(500))))
+            .expectNext(new OutboxRelay.Batch(0, 0))
+            .verifyComplete();
+
+        broker.sendException = null;
+        StepVerifier.create(relay.relayBatch(now.plusMinutes(1)))
+            .expectNext(new OutboxRelay.Batch(2, 2))
+            .verifyComplete();
+        StepVerifier.create(relay.relayBatch(now.plusMinutes(1)))
+            .expectNext(new OutboxRelay.Batch(1, 1))
+            .verifyComplete();
+        assertEquals(List.of(1, 2, 3), broker.history().stream()
+            .map(record -> ((JsonNode) record.value()).get("version").asInt())
+            .toList());
+    }
+
+    @Test
+    void relayBatch_ShouldDeadLetterAfterMaxAttemptsAndReleaseTheKey() {
+        LocalDateTime now = LocalDateTime.now().plusMinutes(1);
+        outboxRepository.append(List.of(event("screen-1", "{}"), event("screen-1", "{}"))).block();
+        broker.sendException = new KafkaException("record too large");
+
+        for (int attempt = 0; attempt < 3; attempt++) {
+            StepVerifier.create(relay.relayBatch(now.plusMinutes(attempt)))
+                .expectNext(new OutboxRelay.Batch(2, 0))
+                .verifyComplete();
+        }
+        assertEquals(1.0, meterRegistry.get("catalog.outbox.dead-lettered").counter().count());
+        StepVerifier.create(deadLetterAttempts()).expectNext(3).verifyComplete();
+
+        broker.sendException = null;
+        StepVerifier.create(relay.relayBatch(now.plusMinutes(3)))
+            .expectNext(new OutboxRelay.Batch(1, 1))
+            .verifyComplete();
+    }
+
+    @Test
+    void drain_ShouldDeadLetterASpilledEventThatKeepsFailing(
+        @TempDir(factory = BuildDirectoryTempDirFactory.class) Path dir) {
+
+        meterRegistry = new SimpleMeterRegistry();
+        SpillLog spillLog = new SpillLog(dir, DataSize.ofKilobytes(64), 2, meterRegistry);
+        relay = relay(Optional.of(spillLog));
+        outboxRepository.append(List.of(event("show-1", "{}"), event("show-2", "{}"))).block();
+        broker.sendException = new KafkaException("record too large");
+
+        // One failed send that spills both, then three failed replays of the head
+        for (int poll = 0; poll < 4; poll++) {
+            StepVerifier.create(relay.drain()).expectNext(0L).verifyComplete();
+        }
+        assertEquals(1, spillLog.depth());
+        StepVerifier.create(deadLetterAttempts()).expectNext(3).verifyComplete();
+
+        broker.sendException = null;
+        StepVerifier.create(relay.drain()).expectNext(1L).verifyComplete();
+        assertEquals(List.of("show-2"), broker.history().stream().map(ProducerRecord::key).toList());
+        spillLog.close();
+    }
+
+    @Test
+    void backoff_ShouldDoublePerAttemptUpToTheCap() {
+        assertEquals(Duration.ofSeconds(1), relay.backoff(1));
+        assertEquals(Duration.ofSeconds(4), relay.backoff(3));
+        assertEquals(Duration.ofMinutes(1), relay.backoff(7));
+        assertEquals(Duration.ofMinutes(1), relay.backoff(200));
+    }
+
+    private OutboxRelay relay(Optional<SpillLog> spillLog) {
+        ReactiveEventSender sender = new ReactiveEventSender(
+            new KafkaTemplate<>(new MockProducerFactory<>(() -> broker)), meterRegistry,
+            100, 1000, Duration.ofSeconds(130), 120_000, 0, Duration.ofMillis(10));
+        return new OutboxRelay(outboxRepository, sender, spillLog, objectMapper, meterRegistry,
+            2, Duration.ofMillis(100), Duration.ofSeconds(1), Duration.ofMinutes(1), 3);
+    }
+
+    private Flux<Integer> deadLetterAttempts() {
+        return databaseClient.sql("SELECT attempts FROM outbox_dead_letters")
+            .map((row, metadata) -> row.get("attempts", Integer.class))
+            .all();
+    }
+
+    private static OutboxEvent event(String key, String payload) {
+        return OutboxEvent.builder()
+            .topic("show.created")
+            .eventKey(key)
+            .payload(payload)
+            .createdAt(LocalDateTime.now())
+            .build();
+    }
+}
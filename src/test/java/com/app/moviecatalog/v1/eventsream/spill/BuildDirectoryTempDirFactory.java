@@ -0,0 +1,22 @@
+package com.app.moviecatalog.v1.eventsream.spill;
+
+import org.junit.jupiter.api.extension.AnnotatedElementContext;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.io.TempDirFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Temporary directories under target/ instead of java.io.tmpdir, which
+ * {@link SpillLog} refuses.
+ */
+public class BuildDirectoryTempDirFactory implements TempDirFactory {
+
+    @Override
+    public Path createTempDirectory(AnnotatedElementContext elementContext, ExtensionContext extensionContext)
+        throws IOException {
+        return Files.createTempDirectory(Files.createDirectories(Path.of("target", "spill-tests")), "spill");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,152 @@
+package com.app.moviecatalog.v1.eventsream.spill;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("SpillLog Unit Tests")
+class SpillLogTest {
+
+    // 54 bytes per record: 8 of header, 14 of topic, 8 of key, 24 of payload,
+    // so 18 records fill a 1KB segment
+    private static final String PAYLOAD = "{\"showId\":\"0123456\"}";
+    private static final int RECORD = 54;
+
+    @TempDir(factory = BuildDirectoryTempDirFactory.class)
+    private Path dir;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("Should read events back in order across segments and delete replayed segments")
+    void appendReadAdvance_AcrossSegments() throws IOException {
+        SpillLog spillLog = open(3);
+        for (int i = 0; i < 50; i++) {
+            assertTrue(spillLog.append("show.created", key(i), PAYLOAD));
+        }
+        assertEquals(3, spillLog.segmentCount());
+        assertEquals(50, spillLog.depth());
+
+        List<SpillLog.Entry> first = spillLog.read(30);
+        assertEquals(30, first.size());
+        assertEquals(new SpillLog.Entry("show.created", key(0), PAYLOAD), first.get(0));
+        assertEquals(key(29), first.get(29).key());
+        // Reading does not consume
+        assertEquals(key(0), spillLog.read(1).get(0).key());
+
+        spillLog.advance(30);
+        assertEquals(20, spillLog.depth());
+        assertEquals(key(30), spillLog.read(1).get(0).key());
+        assertEquals(2, spillLog.segmentCount());
+        assertEquals(2, segmentFiles());
+
+        spillLog.advance(20);
+        assertTrue(spillLog.isEmpty());
+        assertTrue(spillLog.read(10).isEmpty());
+        assertEquals(1, spillLog.segmentCount());
+        assertEquals(50.0, meterRegistry.get("catalog.spill.replayed").counter().count());
+        spillLog.close();
+    }
+
+    @Test
+    @DisplayName("Should refuse events once every segment is full")
+    void append_Full() {
+        SpillLog spillLog = open(2);
+        int accepted = 0;
+        while (spillLog.append("show.created", key(accepted), PAYLOAD)) {
+            accepted++;
+        }
+
+        assertEquals(36, accepted);
+        assertFalse(spillLog.append("show.created", key(0), PAYLOAD));
+        assertEquals(2.0, meterRegistry.get("catalog.spill.rejected").counter().count());
+
+        // Replaying the first segment frees it
+        spillLog.advance(18);
+        assertTrue(spillLog.append("show.created", key(0), PAYLOAD));
+        spillLog.close();
+    }
+
+    @Test
+    @DisplayName("Should resume from the committed read position after a restart")
+    void reopen_ResumesAtCommittedPosition() {
+        SpillLog spillLog = open(3);
+        for (int i = 0; i < 30; i++) {
+            spillLog.append("show.created", key(i), PAYLOAD);
+        }
+        spillLog.flush();
+        spillLog.advance(25);
+        spillLog.close();
+
+        SpillLog reopened = open(3);
+        assertEquals(5, reopened.depth());
+        assertEquals(key(25), reopened.read(1).get(0).key());
+
+        reopened.append("show.created", key(30), PAYLOAD);
+        assertEquals(key(30), reopened.read(10).get(5).key());
+        reopened.close();
+    }
+
+    @Test
+    @DisplayName("Should cut off a torn last record when reopening")
+    void reopen_CutsTornRecord() throws IOException {
+        SpillLog spillLog = open(3);
+        spillLog.append("show.created", key(0), PAYLOAD);
+        spillLog.append("show.created", key(1), PAYLOAD);
+        spillLog.close();
+
+        // Corrupt the body of the second record as a crash mid-write would
+        try (FileChannel segment = FileChannel.open(dir.resolve(String.format("%019d.spill", 0)),
+                StandardOpenOption.WRITE)) {
+            segment.write(ByteBuffer.wrap(new byte[] {'x'}), RECORD + SpillLog.HEADER + 4);
+        }
+
+        SpillLog reopened = open(3);
+        assertEquals(1, reopened.depth());
+        assertEquals(key(0), reopened.read(10).get(0).key());
+
+        reopened.append("show.created", key(2), PAYLOAD);
+        assertEquals(List.of(key(0), key(2)),
+            reopened.read(10).stream().map(SpillLog.Entry::key).toList());
+        reopened.close();
+    }
+
+    @Test
+    @DisplayName("Should refuse a directory under java.io.tmpdir")
+    void constructor_TmpDir() {
+        Path tmp = Path.of(System.getProperty("java.io.tmpdir"), "movie-catalog-spill");
+
+        assertThrows(IllegalArgumentException.class,
+            () -> new SpillLog(tmp, DataSize.ofKilobytes(1), 1, meterRegistry));
+    }
+
+    private SpillLog open(int maxSegments) {
+        return new SpillLog(dir, DataSize.ofKilobytes(1), maxSegments, meterRegistry);
+    }
+
+    private static String key(int i) {
+        return String.format("key-%02d", i);
+    }
+
+    private long segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(file -> file.toString().endsWith(".spill")).count();
+        }
+    }
+}
@@ -1,10 +1,19 @@
 package com.app.moviecatalog.v1.http.handler;
 
 
+import com.app.moviecatalog.v1.common.bulk.BulkIngestReport;
+import com.app.moviecatalog.v1.common.facet.FacetResult;
+import com.app.moviecatalog.v1.common.page.CursorPage;
+import com.app.moviecatalog.v1.common.version.CatalogVersion;
 import com.app.moviecatalog.v1.config.TestConfig;
 import com.app.moviecatalog.v1.domain.Movie;
+import com.app.moviecatalog.v1.exception.DuplicateMovieException;
+import com.app.moviecatalog.v1.exception.MovieNotFoundException;
+import com.app.moviecatalog.v1.service.movie.MovieJsonCache;
 import com.app.moviecatalog.v1.service.movie.MovieService;
+import com.app.moviecatalog.v1.service.movie.TitleSuggestion;
 import com.app.moviecatalog.v1.service.show.ShowService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,14 +25,21 @@ import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.test.web.reactive.server.WebTestClient;
 import org.springframework.web.reactive.function.server.RouterFunctions;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,6 +47,7 @@ public class MovieHandlerTest {
 
     private MovieHandler movieHandler;
     private WebTestClient webTestClient;
+    private CatalogVersion catalogVersion;
 
     @Mock
     private MovieService movieService;
@@ -41,14 +58,19 @@ public class MovieHandlerTest {
     @BeforeEach
     void setUp() {
         // Create handler with mocked services
-        movieHandler = new MovieHandler(movieService, showService);
+        catalogVersion = new CatalogVersion();
+        movieHandler = new MovieHandler(movieService, showService, catalogVersion,
+            new MovieJsonCache(Jackson2ObjectMapperBuilder.json().build(), 100,
+                new SimpleMeterRegistry()));
 
         // Create router with handler routes
         var router = RouterFunctions.route()
             .GET("/movies", movieHandler::getAllMovies)
             .GET("/movies/search", movieHandler::searchMovies)
+            .GET("/movies/suggest", movieHandler::suggest)
             .GET("/movies/{id}", movieHandler::getMovie)
             .POST("/movies", movieHandler::create)
+            .POST("/movies/bulk", movieHandler::bulkCreate)
             .build();
 
         // Create test client bound to router
@@ -81,6 +103,31 @@ public class MovieHandlerTest {
             .hasSize(2);
     }
 
+    @Test
+    @DisplayName("Should serve the list from the encoded bytes after the first load")
+    void testGetAllMovies_Cached() {
+        Movie movie = new Movie();
+        movie.setId(UUID.randomUUID());
+        movie.setTitle("Inception");
+        movie.setActive(true);
+
+        when(movieService.getAllActiveMovies())
+            .thenReturn(Flux.just(movie));
+
+        for (int i = 0; i < 2; i++) {
+            webTestClient.get()
+                .uri("/movies")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBodyList(Movie.class)
+                .hasSize(1)
+                .contains(movie);
+        }
+        // Writes drop the bytes in the service, see MovieServiceImplTest
+        verify(movieService, times(1)).getAllActiveMovies();
+    }
+
     @Test
     @DisplayName("Should handle service error when getting all movies")
     void testGetAllMovies_ServiceError() {
@@ -93,6 +140,99 @@ public class MovieHandlerTest {
             .expectStatus().is5xxServerError();
     }
 
+    @Test
+    @DisplayName("Should return a cursor page when limit is given")
+    void testGetAllMovies_Paged() {
+        Movie movie = new Movie();
+        movie.setId(UUID.randomUUID());
+        movie.setTitle("Inception");
+        movie.setActive(true);
+
+        when(movieService.getActiveMoviesPage(isNull(), eq(1)))
+            .thenReturn(Mono.just(new CursorPage<>(List.of(movie), "next")));
+
+        webTestClient.get()
+            .uri("/movies?limit=1")
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$.items.length()").isEqualTo(1)
+            .jsonPath("$.nextCursor").isEqualTo("next");
+    }
+
+    @Test
+    @DisplayName("Should answer 400 for a malformed cursor or limit")
+    void testGetAllMovies_InvalidPaging() {
+        when(movieService.getActiveMoviesPage(eq("bogus"), eq(50)))
+            .thenReturn(Mono.error(new IllegalArgumentException("Invalid cursor")));
+
+        webTestClient.get()
+            .uri("/movies?cursor=bogus")
+            .exchange()
+            .expectStatus().isBadRequest()
+            .expectBody()
+            .jsonPath("$.message").isEqualTo("Invalid cursor");
+
+        webTestClient.get()
+            .uri("/movies?limit=ten")
+            .exchange()
+            .expectStatus().isBadRequest();
+
+        webTestClient.get()
+            .uri("/movies/search?title=Inception&fuzzy=true&limit=ten")
+            .exchange()
+            .expectStatus().isBadRequest();
+
+        webTestClient.get()
+            .uri("/movies/suggest?prefix=inc&limit=ten")
+            .exchange()
+            .expectStatus().isBadRequest();
+    }
+
+    @Test
+    @DisplayName("Should return facet counts when filtering by facet")
+    void testGetAllMovies_Faceted() {
+        Movie movie = new Movie();
+        movie.setId(UUID.randomUUID());
+        movie.setTitle("KGF");
+
+        when(movieService.facetMovies(Map.of("genre", "Action", "year", "2022")))
+            .thenReturn(Mono.just(new FacetResult<>(List.of(movie), 1,
+                Map.of("genre", Map.of("Action", 1)))));
+
+        webTestClient.get()
+            .uri("/movies?genre=Action&year=2022")
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$.total").isEqualTo(1)
+            .jsonPath("$.facets.genre.Action").isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should stream movies as NDJSON when requested")
+    void testGetAllMovies_Ndjson() {
+        Movie movie1 = new Movie();
+        movie1.setId(UUID.randomUUID());
+        movie1.setTitle("Inception");
+
+        Movie movie2 = new Movie();
+        movie2.setId(UUID.randomUUID());
+        movie2.setTitle("The Matrix");
+
+        when(movieService.getAllActiveMovies())
+            .thenReturn(Flux.just(movie1, movie2));
+
+        webTestClient.get()
+            .uri("/movies")
+            .accept(MediaType.APPLICATION_NDJSON)
+            .exchange()
+            .expectStatus().isOk()
+            .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+            .expectBodyList(Movie.class)
+            .hasSize(2);
+    }
+
     @Test
     @DisplayName("Should search movies by title successfully")
     void testSearchMovies_Success() {
@@ -114,6 +254,42 @@ public class MovieHandlerTest {
             .hasSize(1);
     }
 
+    @Test
+    @DisplayName("Should use fuzzy search when requested")
+    void testSearchMovies_Fuzzy() {
+        Movie movie = new Movie();
+        movie.setId(UUID.randomUUID());
+        movie.setTitle("Avengers");
+        movie.setActive(true);
+
+        when(movieService.fuzzySearchMovies("Avengrs", 5))
+            .thenReturn(Flux.just(movie));
+
+        webTestClient.get()
+            .uri("/movies/search?title=Avengrs&fuzzy=true&limit=5")
+            .exchange()
+            .expectStatus().isOk()
+            .expectBodyList(Movie.class)
+            .hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should return title suggestions for a prefix")
+    void testSuggest_Success() {
+        TitleSuggestion suggestion = new TitleSuggestion(UUID.randomUUID(), "KGF 2", null);
+
+        when(movieService.suggestTitles("kg", 10))
+            .thenReturn(Flux.just(suggestion));
+
+        webTestClient.get()
+            .uri("/movies/suggest?prefix=kg")
+            .exchange()
+            .expectStatus().isOk()
+            .expectBodyList(TitleSuggestion.class)
+            .hasSize(1)
+            .contains(suggestion);
+    }
+
     // ============ GET /movies/{id} Tests ============
 
     @Test
@@ -136,6 +312,59 @@ public class MovieHandlerTest {
             .isEqualTo(movie);
     }
 
+    @Test
+    @DisplayName("Should answer 304 from the cached movie when the catalog version matches")
+    void testGetMovie_NotModified() {
+        Movie movie = new Movie();
+        movie.setId(UUID.randomUUID());
+        movie.setTitle("Inception");
+
+        when(movieService.getMovieById(movie.getId())).thenReturn(Mono.just(movie));
+
+        for (int i = 0; i < 2; i++) {
+            webTestClient.get()
+                .uri("/movies/" + movie.getId())
+                .ifNoneMatch(catalogVersion.etag())
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectHeader().valueEquals("ETag", catalogVersion.etag());
+        }
+
+        verify(movieService, times(1)).getMovieById(movie.getId());
+    }
+
+    @Test
+    @DisplayName("Should answer 404, not 304, for an unknown id with a current ETag")
+    void testGetMovie_NotFoundWithCurrentEtag() {
+        UUID movieId = UUID.randomUUID();
+
+        when(movieService.getMovieById(movieId))
+            .thenReturn(Mono.error(new MovieNotFoundException("Movie not found")));
+
+        webTestClient.get()
+            .uri("/movies/" + movieId)
+            .ifNoneMatch(catalogVersion.etag())
+            .exchange()
+            .expectStatus().isNotFound();
+    }
+
+    @Test
+    @DisplayName("Should serve the body again after the catalog changes")
+    void testGetAllMovies_StaleEtag() {
+        String stale = catalogVersion.etag();
+        catalogVersion.bump();
+
+        when(movieService.getAllActiveMovies())
+            .thenReturn(Flux.empty());
+
+        webTestClient.get()
+            .uri("/movies")
+            .ifNoneMatch(stale)
+            .exchange()
+            .expectStatus().isOk()
+            .expectHeader().valueEquals("ETag", catalogVersion.etag());
+    }
+
     // ============ POST /movies Tests ============
 
     @Test
@@ -162,4 +391,41 @@ public class MovieHandlerTest {
             .expectBody(Movie.class)
             .isEqualTo(createdMovie);
     }
+
+    @Test
+    @DisplayName("Should answer 409 for a duplicate movie")
+    void testCreateMovie_Duplicate() {
+        Movie inputMovie = new Movie();
+        inputMovie.setTitle("New Movie");
+
+        when(movieService.createMovie(any(Movie.class)))
+            .thenReturn(Mono.error(new DuplicateMovieException("Movie already exists")));
+
+        webTestClient.post()
+            .uri("/movies")
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(inputMovie)
+            .exchange()
+            .expectStatus().isEqualTo(409)
+            .expectBody()
+            .jsonPath("$.message").isEqualTo("Movie already exists");
+    }
+
+    @Test
+    @DisplayName("Should ingest an NDJSON stream and return the report")
+    void testBulkCreate_Success() {
+        BulkIngestReport report = BulkIngestReport.of(List.of(), 1_000_000);
+
+        when(movieService.bulkCreateMovies(any()))
+            .thenReturn(Mono.just(report));
+
+        webTestClient.post()
+            .uri("/movies/bulk")
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .bodyValue("{\"title\":\"Inception\"}\n{\"title\":\"Tenet\"}\n")
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody(BulkIngestReport.class)
+            .isEqualTo(report);
+    }
 }
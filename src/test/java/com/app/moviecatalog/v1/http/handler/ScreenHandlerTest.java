@@ -1,5 +1,6 @@
 package com.app.moviecatalog.v1.http.handler;
 
+import com.app.moviecatalog.v1.common.version.CatalogVersion;
 import com.app.moviecatalog.v1.domain.Screen;
 import com.app.moviecatalog.v1.service.screen.ScreenService;
 import org.junit.jupiter.api.BeforeEach;
@@ -29,7 +30,7 @@ public class ScreenHandlerTest {
 
     @BeforeEach
     void setUp() {
-        screenHandler = new ScreenHandler(screenService);
+        screenHandler = new ScreenHandler(screenService, new CatalogVersion());
 
         // Create router with handler routes
         var router = RouterFunctions.route()
@@ -1,5 +1,6 @@
 package com.app.moviecatalog.v1.http.handler;
 
+import com.app.moviecatalog.v1.common.version.CatalogVersion;
 import com.app.moviecatalog.v1.domain.ScreenSeat;
 import com.app.moviecatalog.v1.service.screen_seat.ScreentSeatService;
 import org.junit.jupiter.api.BeforeEach;
@@ -28,7 +29,7 @@ public class ScreenSeatHandlerTest {
 
     @BeforeEach
     void setUp() {
-        screenSeatTemplateHandler = new ScreenSeatTemplateHandler(seatService);
+        screenSeatTemplateHandler = new ScreenSeatTemplateHandler(seatService, new CatalogVersion());
 
         // Create router with handler routes
         var router = RouterFunctions.route()
@@ -0,0 +1,233 @@
+package com.app.moviecatalog.v1.http.handler;
+
+import com.app.moviecatalog.v1.common.page.CursorPage;
+import com.app.moviecatalog.v1.common.version.CatalogVersion;
+import com.app.moviecatalog.v1.domain.Show;
+import com.app.moviecatalog.v1.service.show.NowShowing;
+import com.app.moviecatalog.v1.service.show.ShowScheduleTemplate;
+import com.app.moviecatalog.v1.service.show.ShowService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ShowHandlerTest {
+
+    private ShowHandler showHandler;
+    private WebTestClient webTestClient;
+
+    @Mock private ShowService showService;
+
+    private final UUID movieId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        showHandler = new ShowHandler(showService, new CatalogVersion());
+
+        var router = RouterFunctions.route()
+            .GET("/movies/{movieId}/shows", showHandler::getShows)
+            .GET("/shows/search", showHandler::search)
+            .GET("/shows/now-showing", showHandler::nowShowing)
+            .POST("/shows/schedule", showHandler::schedule)
+            .build();
+        webTestClient = WebTestClient.bindToRouterFunction(router).build();
+    }
+
+    @Test
+    @DisplayName("Should stream shows inside the requested window")
+    void testGetShows_TimeWindow() {
+        LocalDateTime from = LocalDateTime.of(2026, 1, 1, 18, 0);
+        LocalDateTime to = LocalDateTime.of(2026, 1, 2, 0, 0);
+        Show show = Show.builder().id(UUID.randomUUID()).movieId(movieId)
+            .showTime(from.plusHours(2)).build();
+
+        when(showService.getShows(movieId, "Mumbai", from, to))
+            .thenReturn(Flux.just(show));
+
+        webTestClient.get()
+            .uri("/movies/" + movieId + "/shows?city=Mumbai&from=2026-01-01T18:00&to=2026-01-02T00:00")
+            .exchange()
+            .expectStatus().isOk()
+            .expectBodyList(Show.class)
+            .hasSize(1)
+            .contains(show);
+    }
+
+    @Test
+    @DisplayName("Should return a cursor page when limit is given")
+    void testGetShows_Paged() {
+        Show show = Show.builder().id(UUID.randomUUID()).movieId(movieId)
+            .showTime(LocalDateTime.of(2026, 1, 1, 18, 0)).build();
+
+        when(showService.getShowsPage(movieId, "Mumbai", null, null, null, 1))
+            .thenReturn(Mono.just(new CursorPage<>(List.of(show), "next")));
+
+        webTestClient.get()
+            .uri("/movies/" + movieId + "/shows?city=Mumbai&limit=1")
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$.items.length()").isEqualTo(1)
+            .jsonPath("$.nextCursor").isEqualTo("next");
+    }
+
+    @Test
+    @DisplayName("Should search the city schedule by time and price range")
+    void testSearchShows_TimeAndPriceRange() {
+        LocalDateTime from = LocalDateTime.of(2026, 1, 1, 18, 0);
+        Show show = Show.builder().id(UUID.randomUUID()).movieId(movieId)
+            .showTime(from.plusHours(1)).price(new BigDecimal("250")).build();
+
+        when(showService.searchShows("Bangalore", from, from.plusHours(3),
+                null, new BigDecimal("300"), 50))
+            .thenReturn(Flux.just(show));
+
+        webTestClient.get()
+            .uri("/shows/search?city=Bangalore&from=2026-01-01T18:00&to=2026-01-01T21:00&maxPrice=300")
+            .exchange()
+            .expectStatus().isOk()
+            .expectBodyList(Show.class)
+            .hasSize(1)
+            .contains(show);
+    }
+
+    @Test
+    @DisplayName("Should not answer 304 for a search that starts from now")
+    void testSearchShows_UpcomingNotConditional() {
+        CatalogVersion catalogVersion = new CatalogVersion();
+        showHandler = new ShowHandler(showService, catalogVersion);
+        webTestClient = WebTestClient.bindToRouterFunction(RouterFunctions.route()
+            .GET("/shows/search", showHandler::search)
+            .build()).build();
+
+        when(showService.searchShows(eq("Bangalore"), any(LocalDateTime.class), isNull(),
+                isNull(), isNull(), eq(50)))
+            .thenReturn(Flux.empty());
+
+        webTestClient.get()
+            .uri("/shows/search?city=Bangalore")
+            .ifNoneMatch(catalogVersion.etag())
+            .exchange()
+            .expectStatus().isOk()
+            .expectHeader().doesNotExist("ETag");
+
+        webTestClient.get()
+            .uri("/shows/search?city=Bangalore&from=2026-01-01T18:00")
+            .ifNoneMatch(catalogVersion.etag())
+            .exchange()
+            .expectStatus().isNotModified();
+    }
+
+    @Test
+    @DisplayName("Should list the movies now showing in a city")
+    void testNowShowing() {
+        NowShowing entry = new NowShowing(movieId, LocalDateTime.of(2026, 1, 1, 18, 0),
+            new BigDecimal("250"), 3);
+
+        when(showService.nowShowing("Pune")).thenReturn(Flux.just(entry));
+
+        webTestClient.get()
+            .uri("/shows/now-showing?city=Pune")
+            .exchange()
+            .expectStatus().isOk()
+            .expectBodyList(NowShowing.class)
+            .hasSize(1)
+            .contains(entry);
+
+        webTestClient.get()
+            .uri("/shows/now-showing")
+            .exchange()
+            .expectStatus().isBadRequest();
+    }
+
+    @Test
+    @DisplayName("Should reject a malformed price with 400")
+    void testSearchShows_BadPrice() {
+        webTestClient.get()
+            .uri("/shows/search?city=Bangalore&maxPrice=cheap")
+            .exchange()
+            .expectStatus().isBadRequest();
+
+        verifyNoInteractions(showService);
+    }
+
+    @Test
+    @DisplayName("Should return every show generated from a schedule template")
+    void testSchedule_Success() {
+        Show show = Show.builder().id(UUID.randomUUID()).movieId(movieId)
+            .showTime(LocalDateTime.of(2026, 1, 1, 18, 0)).build();
+
+        when(showService.scheduleShows(any(ShowScheduleTemplate.class)))
+            .thenReturn(Flux.just(show, show));
+
+        webTestClient.post()
+            .uri("/shows/schedule")
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(ShowScheduleTemplate.builder()
+                .movieId(movieId)
+                .screenId(UUID.randomUUID())
+                .startDate(LocalDate.of(2026, 1, 1))
+                .endDate(LocalDate.of(2026, 1, 2))
+                .slots(List.of(LocalTime.of(18, 0)))
+                .build())
+            .exchange()
+            .expectStatus().isOk()
+            .expectBodyList(Show.class)
+            .hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Should answer 400 for an invalid schedule template")
+    void testSchedule_Invalid() {
+        when(showService.scheduleShows(any(ShowScheduleTemplate.class)))
+            .thenReturn(Flux.error(new IllegalArgumentException("At least one slot is required")));
+
+        webTestClient.post()
+            .uri("/shows/schedule")
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(new ShowScheduleTemplate())
+            .exchange()
+            .expectStatus().isBadRequest()
+            .expectBody()
+            .jsonPath("$.message").isEqualTo("At least one slot is required");
+    }
+
+    @Test
+    @DisplayName("Should reject a missing city or a malformed time with 400")
+    void testGetShows_BadRequest() {
+        webTestClient.get()
+            .uri("/movies/" + movieId + "/shows")
+            .exchange()
+            .expectStatus().isBadRequest()
+            .expectBody()
+            .jsonPath("$.message").isEqualTo("City is required");
+
+        webTestClient.get()
+            .uri("/movies/" + movieId + "/shows?city=Mumbai&from=tonight")
+            .exchange()
+            .expectStatus().isBadRequest();
+
+        verifyNoInteractions(showService);
+    }
+}
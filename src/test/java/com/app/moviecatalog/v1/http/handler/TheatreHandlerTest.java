@@ -0,0 +1,73 @@
+package com.app.moviecatalog.v1.http.handler;
+
+import com.app.moviecatalog.v1.domain.Theatre;
+import com.app.moviecatalog.v1.service.theatre.TheatreService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class TheatreHandlerTest {
+
+    private TheatreHandler theatreHandler;
+    private WebTestClient webTestClient;
+
+    @Mock
+    private TheatreService theatreService;
+
+    @BeforeEach
+    void setUp() {
+        theatreHandler = new TheatreHandler(theatreService);
+
+        var router = RouterFunctions.route()
+            .POST("/theatres/admin", theatreHandler::create)
+            .build();
+        webTestClient = WebTestClient.bindToRouterFunction(router).build();
+    }
+
+    @Test
+    @DisplayName("Should create theatre successfully")
+    void testCreateTheatre_Success() {
+        Theatre input = Theatre.builder().name("PVR Forum").city("Bengaluru").build();
+        Theatre created = Theatre.builder()
+            .id(UUID.randomUUID()).name(input.getName()).city(input.getCity()).build();
+
+        when(theatreService.create(any(Theatre.class)))
+            .thenReturn(Mono.just(created));
+
+        webTestClient.post()
+            .uri("/theatres/admin")
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(input)
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody(Theatre.class)
+            .isEqualTo(created);
+    }
+
+    @Test
+    @DisplayName("Should handle service error when creating theatre")
+    void testCreateTheatre_ServiceError() {
+        when(theatreService.create(any(Theatre.class)))
+            .thenReturn(Mono.error(new RuntimeException("Service error")));
+
+        webTestClient.post()
+            .uri("/theatres/admin")
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(Theatre.builder().name("PVR Forum").city("Bengaluru").build())
+            .exchange()
+            .expectStatus().is5xxServerError();
+    }
+}
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.app.moviecatalog.v1.http.router;
 
 import com.app.moviecatalog.v1.config.SecurityConfig;
 import com.app.moviecatalog.v1.http.handler.MovieHandler;
+import com.app.moviecatalog.v1.http.handler.ShowHandler;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -31,6 +32,9 @@ class MovieRouterTest {
     @MockBean
     private MovieHandler movieHandler;
 
+    @MockBean
+    private ShowHandler showHandler;
+
     private final String VALID_UUID = "550e8400-e29b-41d4-a716-446655440000";
 
     final Supplier<HttpHeaders> HTTP_HEADERS_BASIC = () -> {
@@ -218,95 +222,108 @@ class MovieRouterTest {
 
     // ============ GET /movies/{movieId}/shows Tests ============
 
-//    @Test
-//    @DisplayName("Should map GET /movies/{movieId}/shows route with city parameter")
-//    void route_GetShows_ShouldMap() {
-//        when(movieHandler.getShows(any()))
-//            .thenReturn(ServerResponse.ok().bodyValue("[]"));
-//
-//        webTestClient.get()
-//            .uri("/movies/" + VALID_UUID + "/shows?city=Paris")
-//            .headers(httpHeaders -> httpHeaders.putAll(HTTP_HEADERS_BASIC.get()))
-//            .exchange()
-//            .expectStatus().isOk();
-//    }
-//
-//    @Test
-//    @DisplayName("Should return shows for valid movie and city")
-//    void route_GetShows_ValidMovieAndCity() {
-//        when(movieHandler.getShows(any()))
-//            .thenReturn(ServerResponse.ok().bodyValue("[]"));
-//
-//        webTestClient.get()
-//            .uri("/movies/" + VALID_UUID + "/shows?city=Mumbai")
-//            .exchange()
-//            .expectStatus().isOk();
-//    }
-//
-//    @Test
-//    @DisplayName("Should handle get shows with different cities")
-//    void route_GetShows_DifferentCities() {
-//        when(movieHandler.getShows(any()))
-//            .thenReturn(ServerResponse.ok().bodyValue("[]"));
-//
-//        webTestClient.get()
-//            .uri("/movies/" + VALID_UUID + "/shows?city=Bangalore")
-//            .exchange()
-//            .expectStatus().isOk();
-//
-//        webTestClient.get()
-//            .uri("/movies/" + VALID_UUID + "/shows?city=Delhi")
-//            .exchange()
-//            .expectStatus().isOk();
-//    }
-//
-//    @Test
-//    @DisplayName("Should handle get shows without city parameter")
-//    void route_GetShows_WithoutCityParam() {
-//        when(movieHandler.getShows(any()))
-//            .thenReturn(ServerResponse.badRequest().build());
-//
-//        webTestClient.get()
-//            .uri("/movies/" + VALID_UUID + "/shows")
-//            .exchange()
-//            .expectStatus().isBadRequest();
-//    }
-//
-//    @Test
-//    @DisplayName("Should return empty shows list for valid movie")
-//    void route_GetShows_EmptyResult() {
-//        when(movieHandler.getShows(any()))
-//            .thenReturn(ServerResponse.ok().bodyValue("[]"));
-//
-//        webTestClient.get()
-//            .uri("/movies/" + VALID_UUID + "/shows?city=UnknownCity")
-//            .exchange()
-//            .expectStatus().isOk();
-//    }
-//
-//    @Test
-//    @DisplayName("Should handle invalid movie ID in shows endpoint")
-//    void route_GetShows_InvalidMovieId() {
-//        when(movieHandler.getShows(any()))
-//            .thenReturn(ServerResponse.notFound().build());
-//
-//        webTestClient.get()
-//            .uri("/movies/invalid-uuid/shows?city=Mumbai")
-//            .exchange()
-//            .expectStatus().isNotFound();
-//    }
-//
-//    @Test
-//    @DisplayName("Should handle shows endpoint with special characters in city")
-//    void route_GetShows_SpecialCharactersInCity() {
-//        when(movieHandler.getShows(any()))
-//            .thenReturn(ServerResponse.ok().bodyValue("[]"));
-//
-//        webTestClient.get()
-//            .uri("/movies/" + VALID_UUID + "/shows?city=New+York")
-//            .exchange()
-//            .expectStatus().isOk();
-//    }
+    @Test
+    @DisplayName("Should map GET /movies/{movieId}/shows route with city parameter")
+    void route_GetShows_ShouldMap() {
+        when(showHandler.getShows(any()))
+            .thenReturn(ServerResponse.ok().bodyValue("[]"));
+
+        webTestClient.get()
+            .uri("/movies/" + VALID_UUID + "/shows?city=Paris")
+            .headers(httpHeaders -> httpHeaders.putAll(HTTP_HEADERS_BASIC.get()))
+            .exchange()
+            .expectStatus().isOk();
+    }
+
+    @Test
+    @DisplayName("Should return shows for valid movie and city")
+    void route_GetShows_ValidMovieAndCity() {
+        when(showHandler.getShows(any()))
+            .thenReturn(ServerResponse.ok().bodyValue("[]"));
+
+        webTestClient.get()
+            .uri("/movies/" + VALID_UUID + "/shows?city=Mumbai")
+            .exchange()
+            .expectStatus().isOk();
+    }
+
+    @Test
+    @DisplayName("Should handle get shows with different cities")
+    void route_GetShows_DifferentCities() {
+        when(showHandler.getShows(any()))
+            .thenReturn(ServerResponse.ok().bodyValue("[]"));
+
+        webTestClient.get()
+            .uri("/movies/" + VALID_UUID + "/shows?city=Bangalore")
+            .exchange()
+            .expectStatus().isOk();
+
+        webTestClient.get()
+            .uri("/movies/" + VALID_UUID + "/shows?city=Delhi")
+            .exchange()
+            .expectStatus().isOk();
+    }
+
+    @Test
+    @DisplayName("Should handle get shows without city parameter")
+    void route_GetShows_WithoutCityParam() {
+        when(showHandler.getShows(any()))
+            .thenReturn(ServerResponse.badRequest().build());
+
+        webTestClient.get()
+            .uri("/movies/" + VALID_UUID + "/shows")
+            .exchange()
+            .expectStatus().isBadRequest();
+    }
+
+    @Test
+    @DisplayName("Should return empty shows list for valid movie")
+    void route_GetShows_EmptyResult() {
+        when(showHandler.getShows(any()))
+            .thenReturn(ServerResponse.ok().bodyValue("[]"));
+
+        webTestClient.get()
+            .uri("/movies/" + VALID_UUID + "/shows?city=UnknownCity")
+            .exchange()
+            .expectStatus().isOk();
+    }
+
+    @Test
+    @DisplayName("Should handle invalid movie ID in shows endpoint")
+    void route_GetShows_InvalidMovieId() {
+        when(showHandler.getShows(any()))
+            .thenReturn(ServerResponse.notFound().build());
+
+        webTestClient.get()
+            .uri("/movies/invalid-uuid/shows?city=Mumbai")
+            .exchange()
+            .expectStatus().isNotFound();
+    }
+
+    @Test
+    @DisplayName("Should handle shows endpoint with special characters in city")
+    void route_GetShows_SpecialCharactersInCity() {
+        when(showHandler.getShows(any()))
+            .thenReturn(ServerResponse.ok().bodyValue("[]"));
+
+        webTestClient.get()
+            .uri("/movies/" + VALID_UUID + "/shows?city=New+York")
+            .exchange()
+            .expectStatus().isOk();
+    }
+
+    @Test
+    @DisplayName("Should map GET /movies/{movieId}/shows with a time window and page")
+    void route_GetShows_TimeWindowAndPage() {
+        when(showHandler.getShows(any()))
+            .thenReturn(ServerResponse.ok().bodyValue("{}"));
+
+        webTestClient.get()
+            .uri("/movies/" + VALID_UUID
+                + "/shows?city=Mumbai&from=2026-01-01T18:00&to=2026-01-02T00:00&limit=20")
+            .exchange()
+            .expectStatus().isOk();
+    }
 
     // ============ POST /movies/admin Tests ============
 
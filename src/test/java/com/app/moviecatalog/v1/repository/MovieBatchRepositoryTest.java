@@ -0,0 +1,54 @@
+package com.app.moviecatalog.v1.repository;
+
+import com.app.moviecatalog.v1.config.TestConfig;
+import com.app.moviecatalog.v1.domain.Movie;
+import com.app.moviecatalog.v1.service.movie.MovieNaturalKeyIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.r2dbc.DataR2dbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@DataR2dbcTest
+@ActiveProfiles("test")
+@Import(TestConfig.class)
+@DisplayName("MovieBatchRepository Integration Tests")
+class MovieBatchRepositoryTest {
+
+    @Autowired
+    private MovieBatchRepository movieBatchRepository;
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @BeforeEach
+    void setUp() {
+        movieRepository.deleteAll().block();
+    }
+
+    @Test
+    void insertAll_ShouldWriteEveryRowInOneStatement() {
+        var movies = List.of(
+            new Movie(UUID.randomUUID(), "Avenger", "English", "Action", 120, LocalDate.of(2020, 11, 22), true),
+            new Movie(UUID.randomUUID(), "Sadak2", "Hindi", null, null, LocalDate.of(2023, 11, 22), true)
+        );
+        movies.forEach(movie -> movie.setNaturalKey(MovieNaturalKeyIndex.keyOf(movie)));
+
+        movieBatchRepository.insertAll(movies)
+            .as(StepVerifier::create)
+            .expectNext(2L)
+            .verifyComplete();
+
+        movieRepository.findByActiveTrue()
+            .as(StepVerifier::create)
+            .expectNextCount(2)
+            .verifyComplete();
+    }
+}
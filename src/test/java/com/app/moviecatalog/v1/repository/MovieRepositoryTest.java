@@ -10,6 +10,7 @@ import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.data.r2dbc.DataR2dbcTest;
 import org.springframework.context.annotation.Import;
@@ -63,4 +64,31 @@ class MovieRepositoryTest {
             .verifyComplete();
     }
 
+    @Test
+    void findActivePage_ShouldWalkActiveMoviesInKeyOrder() {
+        var first = movieRepository.findActivePage(1).collectList().block();
+
+        movieRepository.findActivePageAfter(first.get(0).getId(), 5)
+            .as(StepVerifier::create)
+            .expectNextMatches(movie -> movie.getActive()
+                && !movie.getId().equals(first.get(0).getId()))
+            .verifyComplete();
+    }
+
+    @Test
+    void save_ShouldRejectDuplicateNaturalKey() {
+        movieRepository.save(new Movie(UUID.randomUUID(), "Avenger", "English", "Action", 120, LocalDate.of(2020,11,22), true))
+            .as(StepVerifier::create)
+            .expectError(DuplicateKeyException.class)
+            .verify();
+    }
+
+    @Test
+    void save_ShouldRejectTheSameNaturalKeyAfterFolding() {
+        movieRepository.save(new Movie(UUID.randomUUID(), "A.VENGER", " english ", "Action", 120, LocalDate.of(2020,11,22), true))
+            .as(StepVerifier::create)
+            .expectError(DuplicateKeyException.class)
+            .verify();
+    }
+
 }
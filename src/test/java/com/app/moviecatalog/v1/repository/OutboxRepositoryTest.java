@@ -0,0 +1,298 @@
+package com.app.moviecatalog.v1.repository;
+
+import com.app.moviecatalog.v1.config.TestConfig;
+import com.app.moviecatalog.v1.domain.OutboxEvent;
+import com.app.moviecatalog.v1.domain.Screen;
+import com.app.moviecatalog.v1.domain.ScreenSeat;
+import com.app.moviecatalog.v1.domain.Show;
+import com.app.moviecatalog.v1.eventsream.dedup.EventDeduplicator;
+import com.app.moviecatalog.v1.eventsream.publisher.CatalogChangePublisher;
+import com.app.moviecatalog.v1.eventsream.model.ShowCreatedEvent;
+import com.app.moviecatalog.v1.eventsream.model.ShowsScheduledEvent;
+import com.app.moviecatalog.v1.eventsream.publisher.ShowEventPublisher;
+import com.app.moviecatalog.v1.service.screen.ScreenService;
+import com.app.moviecatalog.v1.service.screen_seat.ScreentSeatService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.r2dbc.DataR2dbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataR2dbcTest
+@ActiveProfiles("test")
+@Import(TestConfig.class)
+@DisplayName("OutboxRepository Integration Tests")
+class OutboxRepositoryTest {
+
+    private static final LocalDateTime NOON = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+
+    @Autowired
+    private ShowEventPublisher publisher;
+
+    @Autowired
+    private ShowRepository showRepository;
+
+    @Autowired
+    private TransactionalOperator transactions;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Autowired
+    private ScreenService screenService;
+
+    @Autowired
+    private ScreentSeatService seatService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        databaseClient.sql("DELETE FROM outbox_events").then().block();
+        showRepository.deleteAll().block();
+    }
+
+    @Test
+    void append_ShouldWriteEveryEventAcrossBatches() {
+        List<OutboxEvent> events = new ArrayList<>();
+        for (int i = 0; i < OutboxRepository.BATCH_SIZE + 3; i++) {
+            events.add(event("key-" + i));
+        }
+
+        outboxRepository.append(events)
+            .as(StepVerifier::create)
+            .expectNext((long) events.size())
+            .verifyComplete();
+
+        outboxRepository.backlog()
+            .as(StepVerifier::create)
+            .expectNext(new OutboxRepository.Backlog(events.size(), NOON))
+            .verifyComplete();
+    }
+
+    @Test
+    void append_ShouldKeepAPayloadOfAnyLength() {
+        String payload = "{\"shows\":\"" + "x".repeat(100_000) + "\"}";
+        OutboxEvent event = event("screen");
+        event.setPayload(payload);
+        outboxRepository.append(List.of(event)).block();
+
+        outboxRepository.findDue(NOON, 10)
+            .as(StepVerifier::create)
+            .expectNextMatches(stored -> stored.getPayload().equals(payload))
+            .verifyComplete();
+    }
+
+    @Test
+    void findDue_ShouldSkipEventsBackingOffAndKeepInsertionOrder() {
+        outboxRepository.append(List.of(event("a"), event("b"), event("c"))).block();
+        List<OutboxEvent> stored = outboxRepository.findDue(NOON, 10).collectList().block();
+
+        outboxRepository.retryLater(stored.get(0).getId(), 1, NOON.plusMinutes(1)).block();
+        outboxRepository.delete(List.of(stored.get(2).getId())).block();
+
+        outboxRepository.findDue(NOON, 10)
+            .map(OutboxEvent::getEventKey)
+            .as(StepVerifier::create)
+            .expectNext("b")
+            .verifyComplete();
+
+        outboxRepository.findDue(NOON.plusMinutes(1), 10)
+            .as(StepVerifier::create)
+            .expectNextMatches(event -> event.getEventKey().equals("a") && event.getAttempts() == 1)
+            .expectNextMatches(event -> event.getEventKey().equals("b"))
+            .verifyComplete();
+    }
+
+    @Test
+    void findDue_ShouldHoldBackLaterEventsOfAKeyBehindOneBackingOff() {
+        outboxRepository.append(List.of(event("a"), event("b"), event("a"), event("c"))).block();
+        List<OutboxEvent> stored = outboxRepository.findDue(NOON, 10).collectList().block();
+
+        outboxRepository.retryLater(stored.get(0).getId(), 1, NOON.plusMinutes(1)).block();
+
+        outboxRepository.findDue(NOON, 10)
+            .map(OutboxEvent::getEventKey)
+            .as(StepVerifier::create)
+            .expectNext("b", "c")
+            .verifyComplete();
+
+        outboxRepository.findDue(NOON.plusMinutes(1), 10)
+            .map(OutboxEvent::getEventKey)
+            .as(StepVerifier::create)
+            .expectNext("a", "b", "a", "c")
+            .verifyComplete();
+    }
+
+    @Test
+    void enqueue_ShouldRollBackWithTheShow() {
+        Show show = new Show(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+            NOON, BigDecimal.TEN);
+        ShowCreatedEvent event = ShowCreatedEvent.builder()
+            .showId(show.getId()).movieId(show.getMovieId())
+            .screenId(show.getScreenId()).showTime(show.getShowTime()).build();
+
+        showRepository.save(show)
+            .then(publisher.enqueue(List.of(event)))
+            .then(Mono.error(new IllegalStateException("boom")))
+            .as(transactions::transactional)
+            .as(StepVerifier::create)
+            .verifyErrorMessage("boom");
+
+        showRepository.count().as(StepVerifier::create).expectNext(0L).verifyComplete();
+        outboxRepository.backlog()
+            .as(StepVerifier::create)
+            .expectNext(new OutboxRepository.Backlog(0, null))
+            .verifyComplete();
+
+        showRepository.save(show)
+            .then(publisher.enqueue(List.of(event)))
+            .as(transactions::transactional)
+            .as(StepVerifier::create)
+            .verifyComplete();
+
+        outboxRepository.findDue(LocalDateTime.now(), 10)
+            .as(StepVerifier::create)
+            .expectNextMatches(stored -> stored.getTopic().equals(ShowEventPublisher.TOPIC)
+                && stored.getEventKey().equals(show.getId().toString())
+                && stored.getPayload().contains(show.getMovieId().toString())
+                && event.getEventId() != null && event.getSequence() > 0
+                && stored.getPayload().contains(event.getEventId().toString()))
+            .verifyComplete();
+    }
+
+    @Test
+    void catalogChanges_ShouldKeySeatsByTheirScreenWithIncreasingVersions() throws Exception {
+        Screen screen = new Screen();
+        screen.setTheatreId(UUID.randomUUID());
+        screen.setName("IMAX");
+        screen = screenService.create(screen).block();
+
+        for (String number : List.of("A1", "A2")) {
+            ScreenSeat seat = new ScreenSeat();
+            seat.setScreenId(screen.getId());
+            seat.setSeatNumber(number);
+            seatService.create(seat).block();
+        }
+
+        List<OutboxEvent> stored = outboxRepository.findDue(LocalDateTime.now(), 10)
+            .collectList().block();
+        assertEquals(3, stored.size());
+
+        long previous = 0;
+        for (OutboxEvent event : stored) {
+            JsonNode change = objectMapper.readTree(event.getPayload());
+            assertEquals(CatalogChangePublisher.SCREENS_TOPIC, event.getTopic());
+            assertEquals(screen.getId().toString(), event.getEventKey());
+            assertTrue(change.get("version").asLong() > previous);
+            previous = change.get("version").asLong();
+        }
+        assertEquals("SCREEN", objectMapper.readTree(stored.get(0).getPayload())
+            .get("aggregateType").asText());
+        assertEquals("A2", objectMapper.readTree(stored.get(2).getPayload())
+            .get("state").get("seatNumber").asText());
+    }
+
+    @Test
+    void enqueue_BatchedByScreenDay_ShouldWriteOneKeyedRecordPerScreenAndDay() throws Exception {
+        ShowEventPublisher batching = new ShowEventPublisher(outboxRepository, objectMapper, true);
+        UUID screenA = UUID.randomUUID();
+        UUID screenB = UUID.randomUUID();
+        List<ShowCreatedEvent> events = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            events.add(showCreated(screenA, NOON.plusMinutes(i)));
+        }
+        events.add(showCreated(screenB, NOON));
+        events.add(showCreated(screenA, NOON.plusDays(1)));
+        events.add(showCreated(screenB, NOON.plusHours(2)));
+
+        batching.enqueue(events).as(transactions::transactional).block();
+
+        List<OutboxEvent> stored = outboxRepository.findDue(LocalDateTime.now(), 10).collectList().block();
+        assertEquals(List.of(screenA, screenB, screenA).stream().map(UUID::toString).toList(),
+            stored.stream().map(OutboxEvent::getEventKey).toList());
+
+        List<ShowsScheduledEvent> scheduled = new ArrayList<>();
+        for (OutboxEvent event : stored) {
+            assertEquals(ShowEventPublisher.SCHEDULED_TOPIC, event.getTopic());
+            scheduled.add(objectMapper.readValue(event.getPayload(), ShowsScheduledEvent.class));
+        }
+        assertEquals(List.of(30, 2, 1), scheduled.stream().map(batch -> batch.getShows().size()).toList());
+        assertEquals(NOON.toLocalDate().plusDays(1), scheduled.get(2).getDate());
+        assertEquals(events.get(29).getShowId(), scheduled.get(0).getShows().get(29).getShowId());
+        // Both records of screen A, numbered on its own
+        assertEquals(scheduled.get(0).getSequence() + 1, scheduled.get(2).getSequence());
+    }
+
+    @Test
+    void nextSequences_ShouldNumberEachKeyOnItsOwn() {
+        String a = UUID.randomUUID().toString();
+        String b = UUID.randomUUID().toString();
+
+        assertEquals(List.of(1L, 1L, 2L), outboxRepository.nextSequences("show.created", List.of(a, b, a)).block());
+        assertEquals(List.of(3L, 2L), outboxRepository.nextSequences("show.created", List.of(a, b)).block());
+        assertEquals(List.of(1L), outboxRepository.nextSequences("show.scheduled", List.of(a)).block());
+    }
+
+    @Test
+    void nextSequences_ShouldLetConsumersCatchARedeliveryAfterOtherKeysDrewMany() {
+        String screen = UUID.randomUUID().toString();
+        EventDeduplicator dedup = new EventDeduplicator(1000, 64);
+
+        long first = outboxRepository.nextSequences("show.scheduled", List.of(screen)).block().get(0);
+        assertTrue(dedup.firstSeen(UUID.fromString(screen), first));
+        // Other screens draw far more than the span in between
+        for (int i = 0; i < 3; i++) {
+            List<String> others = new ArrayList<>();
+            for (int j = 0; j < 100; j++) {
+                others.add(UUID.randomUUID().toString());
+            }
+            List<Long> sequences = outboxRepository.nextSequences("show.scheduled", others).block();
+            for (int j = 0; j < others.size(); j++) {
+                assertTrue(dedup.firstSeen(UUID.fromString(others.get(j)), sequences.get(j)));
+            }
+        }
+        long second = outboxRepository.nextSequences("show.scheduled", List.of(screen)).block().get(0);
+
+        assertEquals(first + 1, second);
+        assertTrue(dedup.firstSeen(UUID.fromString(screen), second));
+        assertFalse(dedup.firstSeen(UUID.fromString(screen), first));
+    }
+
+    private static ShowCreatedEvent showCreated(UUID screenId, LocalDateTime showTime) {
+        return ShowCreatedEvent.builder()
+            .showId(UUID.randomUUID()).movieId(UUID.randomUUID())
+            .screenId(screenId).showTime(showTime).build();
+    }
+
+    private static OutboxEvent event(String key) {
+        return OutboxEvent.builder()
+            .topic("show.created")
+            .eventKey(key)
+            .payload("{}")
+            .createdAt(NOON)
+            .build();
+    }
+}
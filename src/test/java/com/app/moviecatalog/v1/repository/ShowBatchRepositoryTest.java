@@ -0,0 +1,77 @@
+package com.app.moviecatalog.v1.repository;
+
+import com.app.moviecatalog.v1.config.TestConfig;
+import com.app.moviecatalog.v1.domain.Show;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.r2dbc.DataR2dbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@DataR2dbcTest
+@ActiveProfiles("test")
+@Import(TestConfig.class)
+@DisplayName("ShowBatchRepository Integration Tests")
+class ShowBatchRepositoryTest {
+
+    @Autowired
+    private ShowBatchRepository showBatchRepository;
+
+    @Autowired
+    private ShowRepository showRepository;
+
+    @BeforeEach
+    void setUp() {
+        showRepository.deleteAll().block();
+    }
+
+    @Test
+    void insertAll_ShouldWriteEveryRowAcrossBatches() {
+        UUID movieId = UUID.randomUUID();
+        List<Show> shows = new ArrayList<>();
+        for (int i = 0; i < ShowBatchRepository.BATCH_SIZE + 3; i++) {
+            shows.add(new Show(UUID.randomUUID(), movieId, UUID.randomUUID(),
+                LocalDateTime.of(2026, 1, 1, 10, 0).plusMinutes(i), i % 2 == 0 ? BigDecimal.TEN : null));
+        }
+
+        showBatchRepository.insertAll(shows)
+            .as(StepVerifier::create)
+            .expectNext((long) shows.size())
+            .verifyComplete();
+
+        showRepository.findByMovieId(movieId)
+            .as(StepVerifier::create)
+            .expectNextCount(shows.size())
+            .verifyComplete();
+    }
+
+    @Test
+    void insertAll_ShouldRollBackEveryBatchWhenOneFails() {
+        UUID movieId = UUID.randomUUID();
+        List<Show> shows = new ArrayList<>();
+        for (int i = 0; i < ShowBatchRepository.BATCH_SIZE + 1; i++) {
+            shows.add(new Show(UUID.randomUUID(), movieId, UUID.randomUUID(),
+                LocalDateTime.of(2026, 1, 1, 10, 0), BigDecimal.TEN));
+        }
+        // Duplicate primary key in the second statement
+        shows.add(shows.get(ShowBatchRepository.BATCH_SIZE));
+
+        showBatchRepository.insertAll(shows)
+            .as(StepVerifier::create)
+            .expectError()
+            .verify();
+
+        showRepository.findByMovieId(movieId)
+            .as(StepVerifier::create)
+            .verifyComplete();
+    }
+}
@@ -1,7 +1,9 @@
 package com.app.moviecatalog.v1.repository;
 
 import com.app.moviecatalog.v1.config.TestConfig;
+import com.app.moviecatalog.v1.domain.Screen;
 import com.app.moviecatalog.v1.domain.Show;
+import com.app.moviecatalog.v1.domain.Theatre;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -11,6 +13,7 @@ import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 import reactor.test.StepVerifier;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
@@ -24,6 +27,12 @@ public class ShowRepositoryTest {
     @Autowired
     private ShowRepository showRepository;
 
+    @Autowired
+    private ScreenRepository screenRepository;
+
+    @Autowired
+    private TheatreRepository theatreRepository;
+
     private UUID movieId;
     private UUID screenId1;
     private UUID screenId2;
@@ -72,4 +81,65 @@ public class ShowRepositoryTest {
             .verifyComplete();
     }
 
+    @Test
+    void findShowsPage_ShouldWindowAndSeekInShowTimeOrder() {
+        Theatre theatre = new Theatre(UUID.randomUUID(), "Odeon", "London");
+        Screen screen = new Screen();
+        screen.setId(UUID.randomUUID());
+        screen.setTheatreId(theatre.getId());
+        UUID windowMovie = UUID.randomUUID();
+        LocalDateTime sixPm = LocalDateTime.of(2026, 1, 1, 18, 0);
+        Show early = Show.builder().id(UUID.randomUUID()).movieId(windowMovie)
+            .screenId(screen.getId()).showTime(sixPm.minusHours(8)).build();
+        Show first = Show.builder().id(UUID.randomUUID()).movieId(windowMovie)
+            .screenId(screen.getId()).showTime(sixPm).build();
+        Show second = Show.builder().id(UUID.randomUUID()).movieId(windowMovie)
+            .screenId(screen.getId()).showTime(sixPm.plusHours(3)).build();
+
+        theatreRepository.save(theatre)
+            .then(screenRepository.save(screen))
+            .thenMany(showRepository.saveAll(List.of(second, early, first)))
+            .blockLast();
+
+        showRepository.findShowsByMovieAndCityBetween(windowMovie, "LONDON", sixPm, sixPm.plusDays(1))
+            .map(Show::getId)
+            .as(StepVerifier::create)
+            .expectNext(first.getId(), second.getId())
+            .verifyComplete();
+
+        showRepository.findShowsPage(windowMovie, "london", sixPm, sixPm.plusDays(1),
+                first.getShowTime(), first.getId(), 10)
+            .map(Show::getId)
+            .as(StepVerifier::create)
+            .expectNext(second.getId())
+            .verifyComplete();
+    }
+
+    @Test
+    void searchSchedule_ShouldFilterCityTimeAndPrice() {
+        Theatre theatre = new Theatre(UUID.randomUUID(), "PVR", "Bangalore");
+        Screen screen = new Screen();
+        screen.setId(UUID.randomUUID());
+        screen.setTheatreId(theatre.getId());
+        LocalDateTime sixPm = LocalDateTime.of(2026, 1, 1, 18, 0);
+        Show cheap = Show.builder().id(UUID.randomUUID()).movieId(UUID.randomUUID())
+            .screenId(screen.getId()).showTime(sixPm.plusHours(1)).price(new BigDecimal("250.00")).build();
+        Show pricey = Show.builder().id(UUID.randomUUID()).movieId(UUID.randomUUID())
+            .screenId(screen.getId()).showTime(sixPm.plusHours(2)).price(new BigDecimal("450.00")).build();
+        Show later = Show.builder().id(UUID.randomUUID()).movieId(UUID.randomUUID())
+            .screenId(screen.getId()).showTime(sixPm.plusHours(5)).price(new BigDecimal("100.00")).build();
+
+        theatreRepository.save(theatre)
+            .then(screenRepository.save(screen))
+            .thenMany(showRepository.saveAll(List.of(later, pricey, cheap)))
+            .blockLast();
+
+        showRepository.searchSchedule("bangalore", sixPm, sixPm.plusHours(3),
+                BigDecimal.ZERO, new BigDecimal("300"), 10)
+            .map(Show::getId)
+            .as(StepVerifier::create)
+            .expectNext(cheap.getId())
+            .verifyComplete();
+    }
+
 }
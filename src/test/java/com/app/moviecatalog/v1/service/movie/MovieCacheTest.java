@@ -0,0 +1,86 @@
+package com.app.moviecatalog.v1.service.movie;
+
+import com.app.moviecatalog.v1.domain.Movie;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("MovieCache Unit Tests")
+class MovieCacheTest {
+
+    private MovieCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new MovieCache(100, Duration.ofMinutes(1), new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("Should load once for concurrent misses on the same id")
+    void get_ConcurrentMisses_SingleLoad() {
+        UUID id = UUID.randomUUID();
+        Movie movie = Movie.builder().id(id).title("KGF").active(true).build();
+        Sinks.One<Movie> pending = Sinks.one();
+        AtomicInteger loads = new AtomicInteger();
+
+        Mono<Movie> first = cache.get(id, key -> {
+            loads.incrementAndGet();
+            return pending.asMono();
+        });
+        Mono<Movie> second = cache.get(id, key -> {
+            loads.incrementAndGet();
+            return pending.asMono();
+        });
+
+        StepVerifier.create(first.zipWith(second))
+            .then(() -> pending.tryEmitValue(movie))
+            .expectNextMatches(pair -> pair.getT1() == movie && pair.getT2() == movie)
+            .verifyComplete();
+
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.missCount());
+        assertEquals(1, cache.hitCount());
+    }
+
+    @Test
+    @DisplayName("Should not cache empty results and reload after invalidation")
+    void get_EmptyAndInvalidate() {
+        UUID id = UUID.randomUUID();
+        Movie movie = Movie.builder().id(id).title("KGF").active(true).build();
+        AtomicInteger loads = new AtomicInteger();
+
+        StepVerifier.create(cache.get(id, key -> {
+                loads.incrementAndGet();
+                return Mono.empty();
+            }))
+            .verifyComplete();
+
+        StepVerifier.create(cache.get(id, key -> {
+                loads.incrementAndGet();
+                return Mono.just(movie);
+            }))
+            .expectNext(movie)
+            .verifyComplete();
+
+        cache.invalidate(id);
+
+        StepVerifier.create(cache.get(id, key -> {
+                loads.incrementAndGet();
+                return Mono.just(movie);
+            }))
+            .expectNext(movie)
+            .verifyComplete();
+
+        assertEquals(3, loads.get());
+    }
+}
@@ -0,0 +1,76 @@
+package com.app.moviecatalog.v1.service.movie;
+
+import com.app.moviecatalog.v1.common.facet.FacetResult;
+import com.app.moviecatalog.v1.domain.Movie;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("MovieFacetIndex Unit Tests")
+class MovieFacetIndexTest {
+
+    private MovieFacetIndex index;
+
+    private Movie avengers;
+    private Movie kgf;
+    private Movie kgf2;
+
+    @BeforeEach
+    void setUp() {
+        index = new MovieFacetIndex(null);
+
+        avengers = movie("Avengers", "Action", "English", 2019);
+        kgf = movie("KGF", "Action", "Kannada", 2018);
+        kgf2 = movie("KGF 2", "Action", "Kannada", 2022);
+        index.add(avengers);
+        index.add(kgf);
+        index.add(kgf2);
+        index.add(movie("Old Drama", "Drama", "Hindi", 2001));
+    }
+
+    @Test
+    @DisplayName("Should intersect filters case-insensitively")
+    void query_IntersectsFilters() {
+        FacetResult<Movie> result = index.query(Map.of("genre", "action", "language", "KANNADA"));
+
+        assertEquals(List.of(kgf, kgf2), result.getItems());
+        assertEquals(2, result.getTotal());
+    }
+
+    @Test
+    @DisplayName("Should count each facet without its own filter")
+    void query_CountsIgnoreOwnDimension() {
+        FacetResult<Movie> result = index.query(Map.of("genre", "Action", "year", "2022"));
+
+        assertEquals(List.of(kgf2), result.getItems());
+        // language counts apply genre and year
+        assertEquals(Map.of("Kannada", 1), result.getFacets().get("language"));
+        // year counts apply genre only
+        assertEquals(Map.of("2018", 1, "2019", 1, "2022", 1), result.getFacets().get("year"));
+        // genre counts apply year only
+        assertEquals(Map.of("Action", 1), result.getFacets().get("genre"));
+    }
+
+    @Test
+    @DisplayName("Should return nothing for an unknown value and forget removed movies")
+    void query_UnknownValueAndRemove() {
+        assertTrue(index.query(Map.of("genre", "Horror")).getItems().isEmpty());
+
+        index.remove(kgf.getId());
+
+        assertEquals(List.of(kgf2), index.query(Map.of("language", "Kannada")).getItems());
+    }
+
+    private Movie movie(String title, String genre, String language, int year) {
+        return new Movie(UUID.randomUUID(), title, language, genre, 120,
+            LocalDate.of(year, 1, 1), true);
+    }
+}
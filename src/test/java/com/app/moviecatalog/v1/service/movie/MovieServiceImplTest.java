@@ -1,8 +1,14 @@
 package com.app.moviecatalog.v1.service.movie;
 
+import com.app.moviecatalog.v1.common.coalesce.RequestCoalescer;
+import com.app.moviecatalog.v1.common.version.CatalogVersion;
 import com.app.moviecatalog.v1.domain.Movie;
+import com.app.moviecatalog.v1.eventsream.publisher.CatalogChangePublisher;
 import com.app.moviecatalog.v1.exception.MovieNotFoundException;
+import com.app.moviecatalog.v1.repository.MovieBatchRepository;
 import com.app.moviecatalog.v1.repository.MovieRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -10,6 +16,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.transaction.reactive.TransactionalOperator;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
@@ -21,11 +29,43 @@ class MovieServiceImplTest {
     @Mock
     private MovieRepository movieRepository;
 
+    @Mock
+    private MovieBatchRepository movieBatchRepository;
+
+    @Mock
+    private CatalogChangePublisher changes;
+
+    @Mock
+    private TransactionalOperator transactions;
+
+    private MovieTitleIndex titleIndex;
+
+    private MovieFacetIndex facetIndex;
+
+    private MovieJsonCache jsonCache;
+
     private MovieServiceImpl movieService;
 
     @BeforeEach
     void setUp() {
-        movieService = new MovieServiceImpl(movieRepository);
+        titleIndex = new MovieTitleIndex(movieRepository);
+        facetIndex = new MovieFacetIndex(movieRepository);
+        jsonCache = new MovieJsonCache(
+            org.springframework.http.converter.json.Jackson2ObjectMapperBuilder.json().build(),
+            100, new SimpleMeterRegistry());
+        CatalogVersion catalogVersion = new CatalogVersion();
+        movieService = new MovieServiceImpl(movieRepository, movieBatchRepository,
+            titleIndex, facetIndex, new MovieTitleSuggester(movieRepository),
+            new MovieNaturalKeyIndex(movieRepository), catalogVersion,
+            new MovieCache(100, Duration.ofMinutes(1), new SimpleMeterRegistry()),
+            jsonCache,
+            new RequestCoalescer(new SimpleMeterRegistry(), catalogVersion), changes, transactions);
+        org.mockito.Mockito.lenient()
+            .when(changes.moviesCreated(org.mockito.ArgumentMatchers.anyList()))
+            .thenReturn(Mono.empty());
+        org.mockito.Mockito.lenient()
+            .when(transactions.transactional(org.mockito.ArgumentMatchers.any(Mono.class)))
+            .thenAnswer(invocation -> invocation.getArgument(0));
     }
 
     // ============ getAllActiveMovies Tests ============
@@ -81,6 +121,105 @@ class MovieServiceImplTest {
         org.mockito.Mockito.verify(movieRepository).findByActiveTrue();
     }
 
+    @Test
+    @DisplayName("Should give every streaming caller its own query instead of a shared replay")
+    void testGetAllActiveMovies_NotCoalesced() {
+        // Arrange
+        org.mockito.Mockito
+            .when(movieRepository.findByActiveTrue())
+            .thenReturn(Flux.never());
+
+        // Act
+        reactor.core.Disposable first = movieService.getAllActiveMovies().subscribe();
+        reactor.core.Disposable second = movieService.getAllActiveMovies().subscribe();
+
+        // Assert
+        org.mockito.Mockito.verify(movieRepository, org.mockito.Mockito.times(2)).findByActiveTrue();
+        first.dispose();
+        second.dispose();
+    }
+
+    // ============ getActiveMoviesPage Tests ============
+
+    @Test
+    @DisplayName("Should return a page with a continuation cursor when more rows exist")
+    void testGetActiveMoviesPage_HasMore() {
+        // Arrange
+        Movie movie1 = createMovie("Inception", true);
+        Movie movie2 = createMovie("The Matrix", true);
+        Movie movie3 = createMovie("Tenet", true);
+
+        org.mockito.Mockito
+            .when(movieRepository.findActivePage(3))
+            .thenReturn(Flux.just(movie1, movie2, movie3));
+
+        // Act & Assert
+        StepVerifier.create(movieService.getActiveMoviesPage(null, 2))
+            .expectNextMatches(page ->
+                page.getItems().equals(java.util.List.of(movie1, movie2)) &&
+                page.getNextCursor().equals(
+                    com.app.moviecatalog.v1.common.page.Cursors.encode(movie2.getId().toString())))
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should continue after the cursor and end without a cursor")
+    void testGetActiveMoviesPage_LastPage() {
+        // Arrange
+        UUID after = UUID.randomUUID();
+        Movie movie = createMovie("Tenet", true);
+        String cursor = com.app.moviecatalog.v1.common.page.Cursors.encode(after.toString());
+
+        org.mockito.Mockito
+            .when(movieRepository.findActivePageAfter(after, 3))
+            .thenReturn(Flux.just(movie));
+
+        // Act & Assert
+        StepVerifier.create(movieService.getActiveMoviesPage(cursor, 2))
+            .expectNextMatches(page ->
+                page.getItems().equals(java.util.List.of(movie)) &&
+                page.getNextCursor() == null)
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should reject a malformed cursor")
+    void testGetActiveMoviesPage_InvalidCursor() {
+        StepVerifier.create(movieService.getActiveMoviesPage("not a cursor!", 2))
+            .expectError(IllegalArgumentException.class)
+            .verify();
+        StepVerifier.create(movieService.getActiveMoviesPage(
+                com.app.moviecatalog.v1.common.page.Cursors.encode("not-a-uuid"), 2))
+            .expectError(IllegalArgumentException.class)
+            .verify();
+    }
+
+    // ============ facetMovies Tests ============
+
+    @Test
+    @DisplayName("Should facet movies from the database while the facet index is warming")
+    void testFacetMovies_Warming() {
+        // Arrange
+        Movie kgf = createMovie("KGF", true);
+        kgf.setGenre("Action");
+        kgf.setLanguage("Kannada");
+        Movie avengers = createMovie("Avengers", true);
+        avengers.setGenre("Action");
+        avengers.setLanguage("English");
+
+        org.mockito.Mockito
+            .when(movieRepository.findByActiveTrue())
+            .thenReturn(Flux.just(kgf, avengers));
+
+        // Act & Assert
+        StepVerifier.create(movieService.facetMovies(java.util.Map.of("language", "kannada")))
+            .expectNextMatches(result ->
+                result.getItems().equals(java.util.List.of(kgf)) &&
+                result.getFacets().get("genre").get("Action") == 1 &&
+                result.getFacets().get("language").get("English") == 1)
+            .verifyComplete();
+    }
+
     // ============ searchMovies Tests ============
 
     @Test
@@ -162,6 +301,36 @@ class MovieServiceImplTest {
             .findByTitleContainingIgnoreCaseAndActiveTrue(searchTitle);
     }
 
+    @Test
+    @DisplayName("Should serve search from the title index once it is warm")
+    void testSearchMovies_ServedFromIndex() {
+        // Arrange
+        Movie movie = createMovie("Inception", true);
+
+        org.mockito.Mockito
+            .when(movieRepository.findByActiveTrue())
+            .thenReturn(Flux.just(movie));
+        titleIndex.warmUp();
+
+        // Act & Assert
+        StepVerifier.create(movieService.searchMovies("cept"))
+            .expectNext(movie)
+            .verifyComplete();
+
+        org.mockito.Mockito.verify(movieRepository, org.mockito.Mockito.never())
+            .findByTitleContainingIgnoreCaseAndActiveTrue(org.mockito.ArgumentMatchers.anyString());
+    }
+
+    @Test
+    @DisplayName("Should suggest nothing for an empty prefix while the suggester is warming")
+    void testSuggestTitles_EmptyPrefixWarming() {
+        StepVerifier.create(movieService.suggestTitles(" ", 10))
+            .verifyComplete();
+
+        org.mockito.Mockito.verify(movieRepository, org.mockito.Mockito.never())
+            .findByTitleContainingIgnoreCaseAndActiveTrue(org.mockito.ArgumentMatchers.anyString());
+    }
+
     // ============ getMovieById Tests ============
 
     @Test
@@ -183,6 +352,28 @@ class MovieServiceImplTest {
         org.mockito.Mockito.verify(movieRepository).findById(movieId);
     }
 
+    @Test
+    @DisplayName("Should serve repeated lookups from the movie cache")
+    void testGetMovieById_Cached() {
+        // Arrange
+        UUID movieId = UUID.randomUUID();
+        Movie movie = createMovieWithId(movieId, "Inception", true);
+
+        org.mockito.Mockito
+            .when(movieRepository.findById(movieId))
+            .thenReturn(Mono.just(movie));
+
+        // Act & Assert
+        StepVerifier.create(movieService.getMovieById(movieId))
+            .expectNext(movie)
+            .verifyComplete();
+        StepVerifier.create(movieService.getMovieById(movieId))
+            .expectNext(movie)
+            .verifyComplete();
+
+        org.mockito.Mockito.verify(movieRepository).findById(movieId);
+    }
+
     @Test
     @DisplayName("Should throw MovieNotFoundException when movie not found")
     void testGetMovieById_NotFound() {
@@ -265,6 +456,82 @@ class MovieServiceImplTest {
 
         org.mockito.Mockito.verify(movieRepository)
             .save(org.mockito.ArgumentMatchers.any(Movie.class));
+        org.mockito.Mockito.verify(changes).moviesCreated(java.util.List.of(movie));
+    }
+
+    @Test
+    @DisplayName("Should drop the encoded movie list when a movie is created or bulk loaded")
+    void testCreateMovie_InvalidatesJsonCache() {
+        // Arrange
+        Movie movie = createMovie("New Movie", true);
+        movie.setLanguage("English");
+        movie.setReleaseDate(java.time.LocalDate.of(2024, 1, 1));
+        java.util.concurrent.atomic.AtomicInteger loads = new java.util.concurrent.atomic.AtomicInteger();
+        java.util.function.Supplier<Flux<Movie>> loader = () -> {
+            loads.incrementAndGet();
+            return Flux.empty();
+        };
+
+        org.mockito.Mockito
+            .when(movieRepository.save(org.mockito.ArgumentMatchers.any(Movie.class)))
+            .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        org.mockito.Mockito
+            .when(movieBatchRepository.insertAll(org.mockito.ArgumentMatchers.anyList()))
+            .thenAnswer(invocation -> Mono.just((long) ((java.util.List<?>) invocation.getArgument(0)).size()));
+
+        // Act & Assert
+        jsonCache.activeMovies(loader).block();
+        jsonCache.activeMovies(loader).block();
+        movieService.createMovie(movie).block();
+        jsonCache.activeMovies(loader).block();
+
+        Movie bulk = createMovie("Bulk Movie", true);
+        bulk.setLanguage("English");
+        bulk.setReleaseDate(java.time.LocalDate.of(2024, 1, 1));
+        movieService.bulkCreateMovies(Flux.just(bulk)).block();
+        jsonCache.activeMovies(loader).block();
+
+        org.junit.jupiter.api.Assertions.assertEquals(3, loads.get());
+    }
+
+    @Test
+    @DisplayName("Should bump the catalog version only after the caches and indexes see the movie")
+    void testCreateMovie_BumpsVersionLast() {
+        // Arrange
+        java.util.List<Integer> indexedAtBump = new java.util.ArrayList<>();
+        CatalogVersion catalogVersion = new CatalogVersion() {
+            @Override
+            public long bump() {
+                indexedAtBump.add(titleIndex.size());
+                return super.bump();
+            }
+        };
+        MovieServiceImpl service = new MovieServiceImpl(movieRepository, movieBatchRepository,
+            titleIndex, facetIndex, new MovieTitleSuggester(movieRepository),
+            new MovieNaturalKeyIndex(movieRepository), catalogVersion,
+            new MovieCache(100, Duration.ofMinutes(1), new SimpleMeterRegistry()),
+            jsonCache,
+            new RequestCoalescer(new SimpleMeterRegistry(), catalogVersion), changes, transactions);
+        Movie movie = createMovie("New Movie", true);
+        movie.setLanguage("English");
+        movie.setReleaseDate(java.time.LocalDate.of(2024, 1, 1));
+        Movie bulk = createMovie("Bulk Movie", true);
+        bulk.setLanguage("English");
+        bulk.setReleaseDate(java.time.LocalDate.of(2024, 1, 1));
+
+        org.mockito.Mockito
+            .when(movieRepository.save(org.mockito.ArgumentMatchers.any(Movie.class)))
+            .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        org.mockito.Mockito
+            .when(movieBatchRepository.insertAll(org.mockito.ArgumentMatchers.anyList()))
+            .thenAnswer(invocation -> Mono.just((long) ((java.util.List<?>) invocation.getArgument(0)).size()));
+
+        // Act
+        service.createMovie(movie).block();
+        service.bulkCreateMovies(Flux.just(bulk)).block();
+
+        // Assert
+        org.junit.jupiter.api.Assertions.assertEquals(java.util.List.of(1, 2), indexedAtBump);
     }
 
     @Test
@@ -287,6 +554,53 @@ class MovieServiceImplTest {
             .verifyComplete();
     }
 
+    @Test
+    @DisplayName("Should reject a duplicate title, language and release date without a query")
+    void testCreateMovie_Duplicate() {
+        // Arrange
+        Movie first = createMovie("KGF", true);
+        first.setLanguage("Kannada");
+        first.setReleaseDate(java.time.LocalDate.of(2018, 12, 21));
+        Movie second = createMovie("K.G.F", true);
+        second.setLanguage("kannada");
+        second.setReleaseDate(java.time.LocalDate.of(2018, 12, 21));
+
+        org.mockito.Mockito
+            .when(movieRepository.save(org.mockito.ArgumentMatchers.any(Movie.class)))
+            .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        // Act & Assert
+        StepVerifier.create(movieService.createMovie(first))
+            .expectNextCount(1)
+            .verifyComplete();
+        StepVerifier.create(movieService.createMovie(second))
+            .expectError(com.app.moviecatalog.v1.exception.DuplicateMovieException.class)
+            .verify();
+
+        org.mockito.Mockito.verify(movieRepository, org.mockito.Mockito.times(1))
+            .save(org.mockito.ArgumentMatchers.any(Movie.class));
+    }
+
+    @Test
+    @DisplayName("Should map a unique constraint violation and free the key")
+    void testCreateMovie_ConstraintBackstop() {
+        // Arrange
+        Movie movie = createMovie("KGF", true);
+
+        org.mockito.Mockito
+            .when(movieRepository.save(org.mockito.ArgumentMatchers.any(Movie.class)))
+            .thenReturn(Mono.error(new org.springframework.dao.DuplicateKeyException("uk_movies_natural_key")))
+            .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        // Act & Assert
+        StepVerifier.create(movieService.createMovie(movie))
+            .expectError(com.app.moviecatalog.v1.exception.DuplicateMovieException.class)
+            .verify();
+        StepVerifier.create(movieService.createMovie(movie))
+            .expectNextCount(1)
+            .verifyComplete();
+    }
+
     @Test
     @DisplayName("Should handle repository error when creating movie")
     void testCreateMovie_RepositoryError() {
@@ -326,6 +640,106 @@ class MovieServiceImplTest {
             .verifyComplete();
     }
 
+    // ============ bulkCreateMovies Tests ============
+
+    @Test
+    @DisplayName("Should insert valid rows in batches and report rejected ones")
+    void testBulkCreateMovies_ValidAndRejected() {
+        // Arrange
+        Movie valid = createMovie("Inception", true);
+        valid.setLanguage("English");
+        valid.setReleaseDate(java.time.LocalDate.of(2010, 7, 16));
+        Movie invalid = createMovie(" ", true);
+
+        org.mockito.Mockito
+            .when(movieBatchRepository.insertAll(org.mockito.ArgumentMatchers.anyList()))
+            .thenAnswer(invocation -> Mono.just((long) ((java.util.List<?>) invocation.getArgument(0)).size()));
+
+        // Act & Assert
+        StepVerifier.create(movieService.bulkCreateMovies(Flux.just(valid, invalid)))
+            .expectNextMatches(report ->
+                report.getReceived() == 2 &&
+                report.getInserted() == 1 &&
+                report.getRejected() == 1 &&
+                report.getBatches().get(0).getRejected().get(0).getRow() == 1)
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should reject duplicates within and across bulk uploads")
+    void testBulkCreateMovies_Duplicates() {
+        // Arrange
+        Movie first = createMovie("Inception", true);
+        first.setLanguage("English");
+        first.setReleaseDate(java.time.LocalDate.of(2010, 7, 16));
+        Movie repeat = createMovie("INCEPTION", true);
+        repeat.setLanguage("English");
+        repeat.setReleaseDate(java.time.LocalDate.of(2010, 7, 16));
+
+        org.mockito.Mockito
+            .when(movieBatchRepository.insertAll(org.mockito.ArgumentMatchers.anyList()))
+            .thenAnswer(invocation -> Mono.just((long) ((java.util.List<?>) invocation.getArgument(0)).size()));
+
+        // Act & Assert
+        StepVerifier.create(movieService.bulkCreateMovies(Flux.just(first, repeat)))
+            .expectNextMatches(report ->
+                report.getInserted() == 1 &&
+                report.getRejected() == 1 &&
+                report.getBatches().get(0).getRejected().get(0).getReason().startsWith("duplicate"))
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should reject only the rows whose key the database already holds")
+    void testBulkCreateMovies_DuplicateKeyInDatabase() {
+        // Arrange: the second row was written by another instance
+        Movie fresh = createMovie("Inception", true);
+        fresh.setLanguage("English");
+        fresh.setReleaseDate(java.time.LocalDate.of(2010, 7, 16));
+        Movie taken = createMovie("K.G.F.", true);
+        taken.setLanguage("Kannada");
+        taken.setReleaseDate(java.time.LocalDate.of(2018, 12, 21));
+
+        org.mockito.Mockito
+            .when(movieBatchRepository.insertAll(org.mockito.ArgumentMatchers.anyList()))
+            .thenAnswer(invocation -> {
+                java.util.List<Movie> batch = invocation.getArgument(0);
+                return batch.stream().anyMatch(movie -> movie.getNaturalKey().startsWith("kgf|"))
+                    ? Mono.error(new DuplicateKeyException("uk_movies_natural_key"))
+                    : Mono.just((long) batch.size());
+            });
+
+        // Act & Assert
+        StepVerifier.create(movieService.bulkCreateMovies(Flux.just(fresh, taken)))
+            .expectNextMatches(report ->
+                report.getInserted() == 1 &&
+                report.getRejected() == 1 &&
+                report.getFailedBatches() == 0 &&
+                report.getBatches().get(0).getRejected().get(0).getRow() == 1)
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should report a failed batch without failing the upload")
+    void testBulkCreateMovies_BatchFailure() {
+        // Arrange
+        Movie valid = createMovie("Inception", true);
+        valid.setLanguage("English");
+        valid.setReleaseDate(java.time.LocalDate.of(2010, 7, 16));
+
+        org.mockito.Mockito
+            .when(movieBatchRepository.insertAll(org.mockito.ArgumentMatchers.anyList()))
+            .thenReturn(Mono.error(new RuntimeException("Database error")));
+
+        // Act & Assert
+        StepVerifier.create(movieService.bulkCreateMovies(Flux.just(valid)))
+            .expectNextMatches(report ->
+                report.getInserted() == 0 &&
+                report.getFailedBatches() == 1 &&
+                "Database error".equals(report.getBatches().get(0).getError()))
+            .verifyComplete();
+    }
+
     // ============ Helper Methods ============
 
     private Movie createMovie(String title, boolean active) {
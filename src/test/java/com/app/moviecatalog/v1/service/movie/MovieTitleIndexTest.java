@@ -0,0 +1,125 @@
+package com.app.moviecatalog.v1.service.movie;
+
+import com.app.moviecatalog.v1.domain.Movie;
+import com.app.moviecatalog.v1.repository.MovieRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MovieTitleIndex Unit Tests")
+class MovieTitleIndexTest {
+
+    @Mock
+    private MovieRepository movieRepository;
+
+    private MovieTitleIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new MovieTitleIndex(movieRepository);
+    }
+
+    @Test
+    @DisplayName("Should only become ready after warm-up completes")
+    void warmUp_MarksReady() {
+        when(movieRepository.findByActiveTrue())
+            .thenReturn(Flux.just(movie("Avengers", true), movie("KGF", true)));
+
+        assertFalse(index.isReady());
+        index.warmUp();
+
+        assertTrue(index.isReady());
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    @DisplayName("Should stay cold when warm-up fails")
+    void warmUp_Failure_StaysCold() {
+        when(movieRepository.findByActiveTrue())
+            .thenReturn(Flux.error(new RuntimeException("Database error")));
+
+        index.warmUp();
+
+        assertFalse(index.isReady());
+    }
+
+    @Test
+    @DisplayName("Should match substrings case-insensitively")
+    void search_MatchesSubstring() {
+        Movie avengers = movie("Avengers: Endgame", true);
+        index.add(avengers);
+        index.add(movie("The Matrix", true));
+
+        assertEquals(List.of(avengers), index.search("ENDGAME"));
+        assertEquals(List.of(avengers), index.search("rs: e"));
+        assertTrue(index.search("Inception").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should scan titles for queries shorter than a trigram")
+    void search_ShortQuery() {
+        index.add(movie("KGF", true));
+        index.add(movie("Avengers", true));
+
+        assertEquals(1, index.search("gf").size());
+        assertEquals(2, index.search("").size());
+    }
+
+    @Test
+    @DisplayName("Should skip inactive movies and drop removed ones")
+    void add_SkipsInactive_AndRemove() {
+        Movie active = movie("Sadak2", true);
+        index.add(active);
+        index.add(movie("Sadak", false));
+
+        assertEquals(List.of(active), index.search("sadak"));
+
+        index.remove(active.getId());
+        assertTrue(index.search("sadak").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should rank misspelled titles by similarity")
+    void fuzzySearch_RanksTypos() {
+        Movie avengers = movie("Avengers", true);
+        Movie avengersEndgame = movie("Avengers: Endgame", true);
+        index.add(avengers);
+        index.add(avengersEndgame);
+        index.add(movie("The Matrix", true));
+
+        assertEquals(List.of(avengers, avengersEndgame), index.fuzzySearch("Avengrs", 5));
+        assertEquals(List.of(avengers), index.fuzzySearch("Avengrs", 1));
+    }
+
+    @Test
+    @DisplayName("Should ignore punctuation when matching fuzzily")
+    void fuzzySearch_IgnoresPunctuation() {
+        Movie kgf = movie("KGF", true);
+        index.add(kgf);
+        index.add(movie("Sadak2", true));
+
+        assertEquals(List.of(kgf), index.fuzzySearch("K.G.F", 5));
+        assertTrue(index.fuzzySearch("...", 5).isEmpty());
+    }
+
+    private Movie movie(String title, boolean active) {
+        Movie movie = new Movie();
+        movie.setId(UUID.randomUUID());
+        movie.setTitle(title);
+        movie.setActive(active);
+        return movie;
+    }
+}
@@ -0,0 +1,115 @@
+package com.app.moviecatalog.v1.service.movie;
+
+import com.app.moviecatalog.v1.domain.Movie;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("MovieTitleSuggester Unit Tests")
+class MovieTitleSuggesterTest {
+
+    private MovieTitleSuggester suggester;
+
+    @BeforeEach
+    void setUp() {
+        suggester = new MovieTitleSuggester(null);
+    }
+
+    @Test
+    @DisplayName("Should rank completions by most recent release for short prefixes")
+    void suggest_ShortPrefix_ByRecency() {
+        suggester.add(movie("KGF", 2018));
+        suggester.add(movie("K.G.F: Chapter 2", 2022));
+        suggester.add(movie("Kantara", 2022));
+        suggester.add(movie("Avengers", 2019));
+
+        assertEquals(List.of("K.G.F: Chapter 2", "KGF"), titles(suggester.suggest("kg", 10)));
+        assertEquals(List.of("K.G.F: Chapter 2", "Kantara"), titles(suggester.suggest("K", 2)));
+    }
+
+    @Test
+    @DisplayName("Should scan the key range for longer prefixes")
+    void suggest_LongPrefix() {
+        suggester.add(movie("Avengers", 2012));
+        suggester.add(movie("Avengers: Endgame", 2019));
+        suggester.add(movie("Avatar", 2009));
+
+        assertEquals(List.of("Avengers: Endgame", "Avengers"), titles(suggester.suggest("aveng", 10)));
+        assertTrue(suggester.suggest("avengerz", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should bound the scan of a long prefix with a huge range")
+    void suggest_LongPrefix_BoundedScan() {
+        for (int i = 0; i < MovieTitleSuggester.MAX_SCAN + 100; i++) {
+            suggester.add(movie(String.format("The Film %04d", i), 2000));
+        }
+        suggester.add(movie("The Film Zero", 2024));
+
+        // The newest completion comes from the cached three-letter top list
+        assertEquals("The Film Zero", suggester.suggest("the film", 10).get(0).getTitle());
+
+        // Cached tops that do not match fall back to a capped scan
+        for (int i = 0; i < MovieTitleSuggester.MAX_SUGGESTIONS; i++) {
+            suggester.add(movie("Thesis " + i, 2030));
+        }
+        assertEquals(10, suggester.suggest("the film", 10).size());
+        assertEquals(List.of("Thesis 9"), titles(suggester.suggest("thesis 9", 10)));
+    }
+
+    @Test
+    @DisplayName("Should keep the cached best completions when the scan of a huge range stops short")
+    void suggest_LongPrefix_BoundedScanKeepsCachedBest() {
+        for (int i = 0; i < MovieTitleSuggester.MAX_SCAN + 100; i++) {
+            suggester.add(movie(String.format("The Film %04d", i), 2000));
+        }
+        // Newest, but sorted after every title the capped scan reaches
+        suggester.add(movie("The Film Zero", 2024));
+        for (int i = 0; i < MovieTitleSuggester.MAX_SUGGESTIONS - 1; i++) {
+            suggester.add(movie("Thesis " + i, 2030));
+        }
+
+        List<TitleSuggestion> suggestions = suggester.suggest("the film", 10);
+
+        assertEquals(10, suggestions.size());
+        assertEquals("The Film Zero", suggestions.get(0).getTitle());
+        assertEquals(1, suggestions.stream().filter(s -> s.getTitle().equals("The Film Zero")).count());
+    }
+
+    @Test
+    @DisplayName("Should return nothing for an empty prefix")
+    void suggest_EmptyPrefix() {
+        suggester.add(movie("Avengers", 2012));
+
+        assertTrue(suggester.suggest("", 10).isEmpty());
+        assertTrue(suggester.suggest(" .", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should move a retitled movie to its new prefix")
+    void add_Retitle() {
+        Movie movie = movie("Avengers", 2012);
+        suggester.add(movie);
+        suggester.add(new Movie(movie.getId(), "Marvel Avengers", "English", "Action",
+            120, movie.getReleaseDate(), true));
+
+        assertTrue(suggester.suggest("ave", 10).isEmpty());
+        assertEquals(List.of("Marvel Avengers"), titles(suggester.suggest("mar", 10)));
+    }
+
+    private static List<String> titles(List<TitleSuggestion> suggestions) {
+        return suggestions.stream().map(TitleSuggestion::getTitle).toList();
+    }
+
+    private Movie movie(String title, int year) {
+        return new Movie(UUID.randomUUID(), title, "English", "Action", 120,
+            LocalDate.of(year, 1, 1), true);
+    }
+}
@@ -0,0 +1,93 @@
+package com.app.moviecatalog.v1.service.screen;
+
+import com.app.moviecatalog.v1.common.version.CatalogVersion;
+import com.app.moviecatalog.v1.domain.Screen;
+import com.app.moviecatalog.v1.eventsream.publisher.CatalogChangePublisher;
+import com.app.moviecatalog.v1.repository.ScreenRepository;
+import com.app.moviecatalog.v1.service.show.ShowCityIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ScreenServiceImpl Unit Tests")
+class ScreenServiceImplTest {
+
+    @Mock
+    private ScreenRepository repository;
+
+    @Mock
+    private CatalogVersion catalogVersion;
+
+    @Mock
+    private ShowCityIndex showCityIndex;
+
+    @Mock
+    private CatalogChangePublisher changes;
+
+    @Mock
+    private TransactionalOperator transactions;
+
+    @InjectMocks
+    private ScreenServiceImpl screenService;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactions.transactional(any(Mono.class)))
+            .thenAnswer(invocation -> invocation.getArgument(0));
+        lenient().when(repository.save(any(Screen.class)))
+            .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+    }
+
+    @Test
+    @DisplayName("Should save the screen, publish its change and index its theatre")
+    void create_PublishesAndIndexes() {
+        Screen screen = screen();
+        when(changes.screenCreated(any(Screen.class))).thenReturn(Mono.empty());
+
+        StepVerifier.create(screenService.create(screen))
+            .expectNextMatches(saved -> saved.getId() != null)
+            .verifyComplete();
+
+        verify(changes).screenCreated(screen);
+        verify(transactions).transactional(any(Mono.class));
+        verify(catalogVersion).bump();
+        verify(showCityIndex).addScreen(screen);
+    }
+
+    @Test
+    @DisplayName("Should leave the version and index alone when the change cannot be written")
+    void create_PublishFails() {
+        when(changes.screenCreated(any(Screen.class)))
+            .thenReturn(Mono.error(new IllegalStateException("outbox down")));
+
+        StepVerifier.create(screenService.create(screen()))
+            .verifyErrorMessage("outbox down");
+
+        verify(catalogVersion, never()).bump();
+        verifyNoInteractions(showCityIndex);
+    }
+
+    private static Screen screen() {
+        Screen screen = new Screen();
+        screen.setTheatreId(UUID.randomUUID());
+        screen.setName("IMAX");
+        return screen;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,86 @@
+package com.app.moviecatalog.v1.service.screen_seat;
+
+import com.app.moviecatalog.v1.common.version.CatalogVersion;
+import com.app.moviecatalog.v1.domain.ScreenSeat;
+import com.app.moviecatalog.v1.eventsream.publisher.CatalogChangePublisher;
+import com.app.moviecatalog.v1.repository.ScreenSeatTemplateRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ScreentSeatServiceImpl Unit Tests")
+class ScreentSeatServiceImplTest {
+
+    @Mock
+    private ScreenSeatTemplateRepository repository;
+
+    @Mock
+    private CatalogVersion catalogVersion;
+
+    @Mock
+    private CatalogChangePublisher changes;
+
+    @Mock
+    private TransactionalOperator transactions;
+
+    @InjectMocks
+    private ScreentSeatServiceImpl seatService;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactions.transactional(any(Mono.class)))
+            .thenAnswer(invocation -> invocation.getArgument(0));
+        lenient().when(repository.save(any(ScreenSeat.class)))
+            .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+    }
+
+    @Test
+    @DisplayName("Should save the seat and publish its change")
+    void create_Publishes() {
+        ScreenSeat seat = seat();
+        when(changes.seatCreated(any(ScreenSeat.class))).thenReturn(Mono.empty());
+
+        StepVerifier.create(seatService.create(seat))
+            .expectNextMatches(saved -> saved.getId() != null)
+            .verifyComplete();
+
+        verify(changes).seatCreated(seat);
+        verify(transactions).transactional(any(Mono.class));
+        verify(catalogVersion).bump();
+    }
+
+    @Test
+    @DisplayName("Should not bump the version when the change cannot be written")
+    void create_PublishFails() {
+        when(changes.seatCreated(any(ScreenSeat.class)))
+            .thenReturn(Mono.error(new IllegalStateException("outbox down")));
+
+        StepVerifier.create(seatService.create(seat()))
+            .verifyErrorMessage("outbox down");
+
+        verify(catalogVersion, never()).bump();
+    }
+
+    private static ScreenSeat seat() {
+        ScreenSeat seat = new ScreenSeat();
+        seat.setScreenId(UUID.randomUUID());
+        seat.setSeatNumber("A1");
+        return seat;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,85 @@
+package com.app.moviecatalog.v1.service.show;
+
+import com.app.moviecatalog.v1.domain.Show;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("NowShowingIndex Unit Tests")
+class NowShowingIndexTest {
+
+    private static final LocalDateTime NOON = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    private final NowShowingIndex index = new NowShowingIndex();
+    private final UUID kgf = UUID.randomUUID();
+    private final UUID rrr = UUID.randomUUID();
+
+    @Test
+    @DisplayName("Should list movies by next show with their cheapest upcoming ticket")
+    void snapshot_NextShowAndMinPrice() {
+        index.add("london", show(kgf, 20, "300"), NOON);
+        index.add("london", show(kgf, 18, "450"), NOON);
+        index.add("london", show(rrr, 15, "250"), NOON);
+        index.add("paris", show(rrr, 16, "100"), NOON);
+
+        assertEquals(List.of(
+                new NowShowing(rrr, NOON.withHour(15), new BigDecimal("250"), 1),
+                new NowShowing(kgf, NOON.withHour(18), new BigDecimal("300"), 2)),
+            index.snapshot("london", NOON));
+        assertTrue(index.snapshot("berlin", NOON).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should drop started shows and movies with nothing left ahead")
+    void snapshot_ExpiresStartedShows() {
+        index.add("london", show(kgf, 18, "450"), NOON);
+        index.add("london", show(kgf, 20, "300"), NOON);
+        index.add("london", show(rrr, 15, "250"), NOON);
+        index.add("london", show(kgf, 10, "50"), NOON);
+
+        assertEquals(List.of(new NowShowing(kgf, NOON.withHour(20), new BigDecimal("300"), 1)),
+            index.snapshot("london", NOON.withHour(18)));
+        assertTrue(index.snapshot("london", NOON.withHour(21)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should keep the minimum price once a cheaper show has started")
+    void snapshot_MinPriceRisesAfterExpiry() {
+        index.add("london", show(kgf, 14, "100"), NOON);
+        index.add("london", show(kgf, 16, "200"), NOON);
+
+        assertEquals(new BigDecimal("100"), index.snapshot("london", NOON).get(0).getMinPrice());
+        assertEquals(new BigDecimal("200"),
+            index.snapshot("london", NOON.withHour(15)).get(0).getMinPrice());
+    }
+
+    @Test
+    @DisplayName("Should reuse the snapshot until a show is added or starts")
+    void snapshot_RebuiltOnlyOnChange() {
+        index.add("london", show(kgf, 18, "300"), NOON);
+
+        List<NowShowing> first = index.snapshot("london", NOON);
+        assertSame(first, index.snapshot("london", NOON.withHour(17)));
+
+        index.add("london", show(rrr, 19, "200"), NOON);
+        assertEquals(2, index.snapshot("london", NOON.withHour(17)).size());
+    }
+
+    private static Show show(UUID movieId, int hour, String price) {
+        return Show.builder()
+            .id(UUID.randomUUID())
+            .movieId(movieId)
+            .screenId(UUID.randomUUID())
+            .showTime(NOON.withHour(hour))
+            .price(new BigDecimal(price))
+            .build();
+    }
+}
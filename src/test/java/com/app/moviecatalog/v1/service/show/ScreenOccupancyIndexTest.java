@@ -0,0 +1,189 @@
+package com.app.moviecatalog.v1.service.show;
+
+import com.app.moviecatalog.v1.domain.Movie;
+import com.app.moviecatalog.v1.domain.Show;
+import com.app.moviecatalog.v1.repository.MovieRepository;
+import com.app.moviecatalog.v1.repository.ShowRepository;
+import com.app.moviecatalog.v1.service.show.ScreenOccupancyIndex.Booking;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ScreenOccupancyIndex Unit Tests")
+class ScreenOccupancyIndexTest {
+
+    @Mock
+    private ShowRepository showRepository;
+
+    @Mock
+    private MovieRepository movieRepository;
+
+    private ScreenOccupancyIndex index;
+
+    private final UUID screenId = UUID.randomUUID();
+    private final LocalDateTime sixPm = LocalDateTime.of(2026, 1, 1, 18, 0);
+
+    @BeforeEach
+    void setUp() {
+        index = new ScreenOccupancyIndex(showRepository, movieRepository,
+            Duration.ofMinutes(15), Duration.ofMinutes(180), Duration.ofMillis(1));
+    }
+
+    @Test
+    @DisplayName("Should treat the interval as half-open and padded by the cleanup gap")
+    void reserve_DetectsNeighbourOverlap() {
+        Booking first = index.booking(UUID.randomUUID(), sixPm, Duration.ofMinutes(120));
+        assertNull(index.reserve(screenId, first));
+
+        // Busy until 20:15
+        assertEquals(first, index.reserve(screenId,
+            index.booking(UUID.randomUUID(), sixPm.plusMinutes(134), Duration.ofMinutes(60))));
+        assertEquals(first, index.reserve(screenId,
+            index.booking(UUID.randomUUID(), sixPm.minusMinutes(60), Duration.ofMinutes(60))));
+        assertNull(index.reserve(screenId,
+            index.booking(UUID.randomUUID(), sixPm.plusMinutes(135), Duration.ofMinutes(60))));
+        assertNull(index.reserve(screenId,
+            index.booking(UUID.randomUUID(), sixPm.minusMinutes(75), Duration.ofMinutes(60))));
+    }
+
+    @Test
+    @DisplayName("Should reserve all bookings or none")
+    void reserveAll_IsAtomic() {
+        Booking morning = index.booking(UUID.randomUUID(), sixPm.minusHours(8), Duration.ofMinutes(90));
+        Booking evening = index.booking(UUID.randomUUID(), sixPm, Duration.ofMinutes(90));
+        Booking clash = index.booking(UUID.randomUUID(), sixPm.plusMinutes(30), Duration.ofMinutes(90));
+
+        assertEquals(evening, index.reserveAll(screenId, List.of(morning, evening, clash)));
+
+        assertNull(index.reserve(screenId, morning));
+        index.release(screenId, morning);
+        assertNull(index.reserveAll(screenId, List.of(morning, evening)));
+    }
+
+    @Test
+    @DisplayName("Should let exactly one of many concurrent writers take a slot")
+    void reserve_ConcurrentWriters_OneWins() throws InterruptedException {
+        int writers = 16;
+        ExecutorService pool = Executors.newFixedThreadPool(writers);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger winners = new AtomicInteger();
+
+        for (int i = 0; i < writers; i++) {
+            final int offset = i;
+            pool.execute(() -> {
+                try {
+                    start.await();
+                    if (index.reserve(screenId, index.booking(UUID.randomUUID(),
+                        sixPm.plusMinutes(offset), Duration.ofMinutes(120))) == null) {
+                        winners.incrementAndGet();
+                    }
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        start.countDown();
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(5, TimeUnit.SECONDS));
+
+        assertEquals(1, winners.get());
+    }
+
+    @Test
+    @DisplayName("Should load existing shows with their movie runtime before opening")
+    void warmUp_LoadsExistingShows() {
+        Movie movie = new Movie(UUID.randomUUID(), "KGF", "Kannada", "Action", 150,
+            LocalDate.of(2018, 12, 21), true);
+        Show show = Show.builder().id(UUID.randomUUID()).movieId(movie.getId())
+            .screenId(screenId).showTime(sixPm).build();
+
+        when(movieRepository.findAll()).thenReturn(Flux.just(movie));
+        when(showRepository.findAll()).thenReturn(Flux.just(show));
+
+        assertFalse(index.isReady());
+        index.warmUp();
+
+        assertTrue(index.isReady());
+        assertNotNull(index.reserve(screenId,
+            index.booking(UUID.randomUUID(), sixPm.plusMinutes(160), Duration.ofMinutes(60))));
+    }
+
+    @Test
+    @DisplayName("Should keep every slot of shows that already overlap in the database")
+    void warmUp_RecordsOverlappingShows() {
+        Movie movie = new Movie(UUID.randomUUID(), "KGF", "Kannada", "Action", 150,
+            LocalDate.of(2018, 12, 21), true);
+        Show first = Show.builder().id(UUID.randomUUID()).movieId(movie.getId())
+            .screenId(screenId).showTime(sixPm).build();
+        // Starts inside first and runs on until 22:45
+        Show second = Show.builder().id(UUID.randomUUID()).movieId(movie.getId())
+            .screenId(screenId).showTime(sixPm.plusHours(2)).build();
+        Show sameStart = Show.builder().id(UUID.randomUUID()).movieId(movie.getId())
+            .screenId(screenId).showTime(sixPm).build();
+
+        when(movieRepository.findAll()).thenReturn(Flux.just(movie));
+        when(showRepository.findAll()).thenReturn(Flux.just(first, second, sameStart));
+
+        index.warmUp();
+
+        assertTrue(index.isReady());
+        Booking afterFirst = index.booking(UUID.randomUUID(), sixPm.plusMinutes(170), Duration.ofMinutes(20));
+        assertEquals(second.getId(), index.reserve(screenId, afterFirst).showId());
+
+        // Once first is released, its same-start twin still holds the slot
+        index.release(screenId, index.booking(first.getId(), sixPm, Duration.ofMinutes(150)));
+        assertEquals(sameStart.getId(), index.reserve(screenId,
+            index.booking(UUID.randomUUID(), sixPm.plusMinutes(10), Duration.ofMinutes(20))).showId());
+    }
+
+    @Test
+    @DisplayName("Should retry a failed warm-up from an empty index")
+    void warmUp_RetriesAfterFailure() throws InterruptedException {
+        Movie movie = new Movie(UUID.randomUUID(), "KGF", "Kannada", "Action", 150,
+            LocalDate.of(2018, 12, 21), true);
+        Show ghost = Show.builder().id(UUID.randomUUID()).movieId(movie.getId())
+            .screenId(screenId).showTime(sixPm.minusHours(6)).build();
+        Show show = Show.builder().id(UUID.randomUUID()).movieId(movie.getId())
+            .screenId(screenId).showTime(sixPm).build();
+
+        when(movieRepository.findAll())
+            .thenReturn(Flux.error(new IllegalStateException("connection refused")), Flux.just(movie));
+        when(showRepository.findAll())
+            .thenReturn(Flux.just(ghost).concatWith(Flux.error(new IllegalStateException("reset"))),
+                Flux.just(show));
+
+        index.warmUp();
+        for (int i = 0; i < 500 && !index.isReady(); i++) {
+            Thread.sleep(10);
+        }
+
+        assertTrue(index.isReady());
+        assertNull(index.reserve(screenId,
+            index.booking(UUID.randomUUID(), ghost.getShowTime(), Duration.ofMinutes(60))));
+        assertNotNull(index.reserve(screenId,
+            index.booking(UUID.randomUUID(), sixPm.plusMinutes(160), Duration.ofMinutes(60))));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,198 @@
+package com.app.moviecatalog.v1.service.show;
+
+import com.app.moviecatalog.v1.domain.Screen;
+import com.app.moviecatalog.v1.domain.Show;
+import com.app.moviecatalog.v1.domain.Theatre;
+import com.app.moviecatalog.v1.repository.ScreenRepository;
+import com.app.moviecatalog.v1.repository.ShowRepository;
+import com.app.moviecatalog.v1.repository.TheatreRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ShowCityIndex Unit Tests")
+class ShowCityIndexTest {
+
+    @Mock
+    private ShowRepository showRepository;
+
+    @Mock
+    private ScreenRepository screenRepository;
+
+    @Mock
+    private TheatreRepository theatreRepository;
+
+    private ShowCityIndex index;
+
+    private final UUID movieId = UUID.randomUUID();
+    private Theatre london;
+    private Screen screen;
+
+    @BeforeEach
+    void setUp() {
+        index = new ShowCityIndex(showRepository, screenRepository, theatreRepository);
+        london = new Theatre(UUID.randomUUID(), "Odeon", "London");
+        screen = screen(london.getId());
+    }
+
+    @Test
+    @DisplayName("Should group warmed-up shows by movie and case-insensitive city, ordered by time")
+    void warmUp_GroupsByMovieAndCity() {
+        Theatre paris = new Theatre(UUID.randomUUID(), "Rex", "Paris");
+        Screen parisScreen = screen(paris.getId());
+        Show late = show(screen.getId(), 21);
+        Show early = show(screen.getId(), 18);
+        Show inParis = show(parisScreen.getId(), 20);
+
+        when(theatreRepository.findAll()).thenReturn(Flux.just(london, paris));
+        when(screenRepository.findAll()).thenReturn(Flux.just(screen, parisScreen));
+        when(showRepository.findAll()).thenReturn(Flux.just(late, inParis, early));
+
+        assertFalse(index.isReady());
+        index.warmUp();
+
+        assertTrue(index.isReady());
+        assertEquals(List.of(early, late), index.find(movieId, " LONDON "));
+        assertEquals(List.of(inParis), index.find(movieId, "paris"));
+        assertTrue(index.find(UUID.randomUUID(), "london").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should resolve an unseen screen from the repositories when adding a show")
+    void add_ResolvesUnknownScreen() {
+        Show show = show(screen.getId(), 19);
+
+        when(screenRepository.findById(screen.getId())).thenReturn(Mono.just(screen));
+        when(theatreRepository.findById(london.getId())).thenReturn(Mono.just(london));
+
+        StepVerifier.create(index.add(show)).verifyComplete();
+        StepVerifier.create(index.add(show)).verifyComplete();
+
+        assertEquals(List.of(show), index.find(movieId, "London"));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    @DisplayName("Should skip shows whose screen cannot be found")
+    void add_UnknownScreen_Skipped() {
+        Show show = show(UUID.randomUUID(), 19);
+
+        when(screenRepository.findById(show.getScreenId())).thenReturn(Mono.empty());
+
+        StepVerifier.create(index.add(show)).verifyComplete();
+
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    @DisplayName("Should page through a half-open time window in (showTime, id) order")
+    void window_KeysetPages() {
+        index.addTheatre(london);
+        index.addScreen(screen);
+        Show morning = show(screen.getId(), 10);
+        Show sixPm = show(screen.getId(), 18);
+        Show eightPm = show(screen.getId(), 20);
+        Show tenPm = show(screen.getId(), 22);
+        for (Show show : List.of(tenPm, morning, eightPm, sixPm)) {
+            index.add(show).block();
+        }
+        LocalDateTime from = LocalDateTime.of(2026, 1, 1, 18, 0);
+        LocalDateTime to = LocalDateTime.of(2026, 1, 1, 22, 0);
+
+        assertEquals(List.of(sixPm, eightPm),
+            index.window(movieId, "london", from, to, null, null, 10));
+        assertEquals(List.of(sixPm),
+            index.window(movieId, "london", from, to, null, null, 1));
+        assertEquals(List.of(eightPm),
+            index.window(movieId, "london", from, to, sixPm.getShowTime(), sixPm.getId(), 10));
+        assertTrue(index.window(movieId, "london", from, to,
+            eightPm.getShowTime(), eightPm.getId(), 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should keep a large bucket ordered when a schedule arrives out of order")
+    void add_LargeBucketOutOfOrder() {
+        index.addTheatre(london);
+        index.addScreen(screen);
+        List<Show> shows = new ArrayList<>();
+        LocalDateTime first = LocalDateTime.of(2026, 1, 1, 0, 0);
+        for (int i = 0; i < 5000; i++) {
+            shows.add(Show.builder().id(UUID.randomUUID()).movieId(movieId)
+                .screenId(screen.getId()).showTime(first.plusMinutes(i)).build());
+        }
+        List<Show> arrival = new ArrayList<>(shows);
+        Collections.shuffle(arrival, new Random(7));
+        arrival.forEach(show -> index.add(show).block());
+
+        assertEquals(shows, index.find(movieId, "london"));
+        assertEquals(shows.subList(60, 63), index.window(movieId, "london",
+            first.plusMinutes(60), first.plusMinutes(120), null, null, 3));
+    }
+
+    @Test
+    @DisplayName("Should search a city's schedule across movies by time and price")
+    void schedule_TimeAndPriceRange() {
+        index.addTheatre(london);
+        index.addScreen(screen);
+        Show cheap = show(screen.getId(), 19, "250");
+        Show pricey = show(screen.getId(), 20, "450");
+        Show otherMovie = Show.builder().id(UUID.randomUUID()).movieId(UUID.randomUUID())
+            .screenId(screen.getId()).showTime(LocalDateTime.of(2026, 1, 1, 21, 0))
+            .price(new BigDecimal("299.99")).build();
+        Show tooLate = show(screen.getId(), 23, "100");
+        for (Show show : List.of(tooLate, pricey, otherMovie, cheap)) {
+            index.add(show).block();
+        }
+        LocalDateTime from = LocalDateTime.of(2026, 1, 1, 19, 0);
+        LocalDateTime to = from.plusHours(3);
+
+        assertEquals(List.of(cheap, otherMovie),
+            index.schedule("LONDON", from, to, BigDecimal.ZERO, new BigDecimal("300"), 10));
+        assertEquals(List.of(cheap),
+            index.schedule("london", from, to, BigDecimal.ZERO, new BigDecimal("300"), 1));
+        assertTrue(index.schedule("paris", from, to, BigDecimal.ZERO, BigDecimal.TEN, 10).isEmpty());
+    }
+
+    private Screen screen(UUID theatreId) {
+        Screen screen = new Screen();
+        screen.setId(UUID.randomUUID());
+        screen.setTheatreId(theatreId);
+        screen.setName("Screen 1");
+        return screen;
+    }
+
+    private Show show(UUID screenId, int hour, String price) {
+        Show show = show(screenId, hour);
+        show.setPrice(new BigDecimal(price));
+        return show;
+    }
+
+    private Show show(UUID screenId, int hour) {
+        return Show.builder()
+            .id(UUID.randomUUID())
+            .movieId(movieId)
+            .screenId(screenId)
+            .showTime(LocalDateTime.of(2026, 1, 1, hour, 0))
+            .build();
+    }
+}
@@ -1,14 +1,24 @@
 package com.app.moviecatalog.v1.service.show;
 
+import com.app.moviecatalog.v1.common.coalesce.RequestCoalescer;
+import com.app.moviecatalog.v1.common.version.CatalogVersion;
+import com.app.moviecatalog.v1.domain.Movie;
 import com.app.moviecatalog.v1.domain.Show;
 import com.app.moviecatalog.v1.domain.Theatre;
-import com.app.moviecatalog.v1.eventsream.model.ShowCreatedEvent;
 import com.app.moviecatalog.v1.eventsream.publisher.ShowEventPublisher;
+import com.app.moviecatalog.v1.exception.SchedulesNotReadyException;
+import com.app.moviecatalog.v1.exception.ShowConflictException;
+import com.app.moviecatalog.v1.repository.ShowBatchRepository;
 import com.app.moviecatalog.v1.repository.ShowRepository;
 import com.app.moviecatalog.v1.repository.TheatreRepository;
+import com.app.moviecatalog.v1.service.movie.MovieService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
@@ -18,12 +28,18 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.reactive.TransactionalOperator;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 import reactor.test.StepVerifier;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -35,9 +51,43 @@ class ShowServiceImplTest {
     @Mock
     private ShowEventPublisher publisher;
 
+    @Mock
+    private CatalogVersion catalogVersion;
+
+    @Mock
+    private ShowCityIndex showCityIndex;
+
+    @Mock
+    private ShowBatchRepository showBatchRepository;
+
+    @Mock
+    private MovieService movieService;
+
+    @Spy
+    private ScreenOccupancyIndex occupancy =
+        new ScreenOccupancyIndex(null, null, Duration.ofMinutes(15), Duration.ofMinutes(180),
+            Duration.ofSeconds(1));
+
+    @Mock
+    private TransactionalOperator transactions;
+
+    @Spy
+    private RequestCoalescer coalescer = new RequestCoalescer(new SimpleMeterRegistry(), new CatalogVersion());
+
     @InjectMocks
     private ShowServiceImpl showService;
 
+    private final Movie movie = new Movie(UUID.randomUUID(), "KGF", "Kannada", "Action", 150,
+        LocalDate.of(2018, 12, 21), true);
+
+    @BeforeEach
+    void setUp() {
+        lenient().doReturn(true).when(occupancy).isReady();
+        lenient().when(publisher.enqueue(anyList())).thenReturn(Mono.empty());
+        lenient().when(transactions.transactional(any(Mono.class)))
+            .thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
     @Test
     void getShows_shouldReturnFluxOfShows() {
         // Arrange
@@ -56,19 +106,56 @@ class ShowServiceImplTest {
         verify(showRepository).findShowsByMovieAndCity(movieId, city);
     }
 
+    @Test
+    void getShows_concurrentIdenticalRequestsShareOneQuery() {
+        UUID movieId = UUID.randomUUID();
+        Show show = Show.builder().id(UUID.randomUUID()).movieId(movieId).build();
+        Sinks.Many<Show> rows = Sinks.many().unicast().onBackpressureBuffer();
+
+        when(showRepository.findShowsByMovieAndCity(movieId, "London")).thenReturn(rows.asFlux());
+
+        Mono<List<Show>> first = showService.getShows(movieId, "London").collectList().cache();
+        Mono<List<Show>> second = showService.getShows(movieId, "London").collectList().cache();
+        first.subscribe();
+        second.subscribe();
+        rows.tryEmitNext(show);
+        rows.tryEmitComplete();
+
+        assertEquals(List.of(show), first.block());
+        assertEquals(List.of(show), second.block());
+        verify(showRepository, times(1)).findShowsByMovieAndCity(movieId, "London");
+    }
+
+    @Test
+    void getShows_shouldUseReadModelOnceReady() {
+        UUID movieId = UUID.randomUUID();
+        Show show = Show.builder().id(UUID.randomUUID()).movieId(movieId).build();
+
+        when(showCityIndex.isReady()).thenReturn(true);
+        when(showCityIndex.find(movieId, "London")).thenReturn(List.of(show));
+
+        StepVerifier.create(showService.getShows(movieId, "London"))
+            .expectNext(show)
+            .verifyComplete();
+
+        verifyNoInteractions(showRepository);
+    }
+
     @Test
     void createShow_shouldSaveAndPublishEvent() {
         // Arrange
         Show inputShow = Show.builder()
-            .movieId(UUID.randomUUID())
+            .movieId(movie.getId())
             .screenId(UUID.randomUUID())
             .showTime(LocalDateTime.now())
             .price(BigDecimal.TEN)
             .build();
 
+        when(movieService.getMovieById(movie.getId())).thenReturn(Mono.just(movie));
         // Repository returns the show with the UUID set by service
         when(showRepository.save(any(Show.class)))
             .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        when(showCityIndex.add(any(Show.class))).thenReturn(Mono.empty());
 
         // Act & Assert
         StepVerifier.create(showService.createShow(inputShow))
@@ -80,6 +167,174 @@ class ShowServiceImplTest {
 
         // Verify interactions
         verify(showRepository, times(1)).save(any(Show.class));
-        verify(publisher, times(1)).publish(any(ShowCreatedEvent.class));
+        verify(publisher, times(1)).enqueue(argThat(events -> events.size() == 1
+            && events.get(0).getShowId().equals(inputShow.getId())));
+        verify(transactions).transactional(any(Mono.class));
+        verify(catalogVersion).bump();
+        verify(showCityIndex).add(any(Show.class));
+    }
+
+    @Test
+    void createShow_shouldRejectOverlapOnSameScreenIncludingCleanupGap() {
+        UUID screenId = UUID.randomUUID();
+        LocalDateTime sixPm = LocalDateTime.of(2026, 1, 1, 18, 0);
+
+        when(movieService.getMovieById(movie.getId())).thenReturn(Mono.just(movie));
+        when(showRepository.save(any(Show.class)))
+            .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        when(showCityIndex.add(any(Show.class))).thenReturn(Mono.empty());
+
+        StepVerifier.create(showService.createShow(show(screenId, sixPm)))
+            .expectNextCount(1)
+            .verifyComplete();
+
+        // 150 minute runtime + 15 minute gap: the screen is busy until 20:45
+        StepVerifier.create(showService.createShow(show(screenId, sixPm.plusMinutes(160))))
+            .expectError(ShowConflictException.class)
+            .verify();
+        StepVerifier.create(showService.createShow(show(screenId, sixPm.minusMinutes(30))))
+            .expectError(ShowConflictException.class)
+            .verify();
+        StepVerifier.create(showService.createShow(show(screenId, sixPm.plusMinutes(165))))
+            .expectNextCount(1)
+            .verifyComplete();
+        StepVerifier.create(showService.createShow(show(UUID.randomUUID(), sixPm)))
+            .expectNextCount(1)
+            .verifyComplete();
+
+        verify(showRepository, times(3)).save(any(Show.class));
+    }
+
+    @Test
+    void createShow_shouldFreeTheSlotWhenTheInsertFails() {
+        UUID screenId = UUID.randomUUID();
+        LocalDateTime sixPm = LocalDateTime.of(2026, 1, 1, 18, 0);
+
+        when(movieService.getMovieById(movie.getId())).thenReturn(Mono.just(movie));
+        when(showRepository.save(any(Show.class)))
+            .thenReturn(Mono.error(new RuntimeException("Database error")))
+            .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        when(showCityIndex.add(any(Show.class))).thenReturn(Mono.empty());
+
+        StepVerifier.create(showService.createShow(show(screenId, sixPm)))
+            .expectErrorMessage("Database error")
+            .verify();
+        StepVerifier.create(showService.createShow(show(screenId, sixPm)))
+            .expectNextCount(1)
+            .verifyComplete();
+    }
+
+    @Test
+    void createShow_shouldFailWithoutSideEffectsWhenTheEventCannotBeWritten() {
+        UUID screenId = UUID.randomUUID();
+        LocalDateTime sixPm = LocalDateTime.of(2026, 1, 1, 18, 0);
+
+        when(movieService.getMovieById(movie.getId())).thenReturn(Mono.just(movie));
+        when(showRepository.save(any(Show.class)))
+            .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        when(publisher.enqueue(anyList()))
+            .thenReturn(Mono.error(new RuntimeException("Outbox error")))
+            .thenReturn(Mono.empty());
+        when(showCityIndex.add(any(Show.class))).thenReturn(Mono.empty());
+
+        StepVerifier.create(showService.createShow(show(screenId, sixPm)))
+            .expectErrorMessage("Outbox error")
+            .verify();
+        StepVerifier.create(showService.createShow(show(screenId, sixPm)))
+            .expectNextCount(1)
+            .verifyComplete();
+
+        verify(showCityIndex, times(1)).add(any(Show.class));
+        verify(catalogVersion, times(1)).bump();
+    }
+
+    @Test
+    void createShow_shouldRefuseWhileScreenSchedulesLoad() {
+        doReturn(false).when(occupancy).isReady();
+
+        StepVerifier.create(showService.createShow(show(UUID.randomUUID(), LocalDateTime.now())))
+            .expectError(SchedulesNotReadyException.class)
+            .verify();
+
+        verifyNoInteractions(showRepository, movieService);
+    }
+
+    @Test
+    void scheduleShows_shouldExpandTemplateAndEnqueueEventsOnce() {
+        ShowScheduleTemplate template = ShowScheduleTemplate.builder()
+            .movieId(movie.getId())
+            .screenId(UUID.randomUUID())
+            .startDate(LocalDate.of(2026, 1, 1))
+            .endDate(LocalDate.of(2026, 1, 7))
+            .slots(List.of(LocalTime.of(21, 0), LocalTime.of(10, 0), LocalTime.of(21, 0)))
+            .price(BigDecimal.TEN)
+            .build();
+
+        when(movieService.getMovieById(movie.getId())).thenReturn(Mono.just(movie));
+        when(showBatchRepository.insertAll(anyList())).thenReturn(Mono.just(14L));
+        when(showCityIndex.add(any(Show.class))).thenReturn(Mono.empty());
+
+        StepVerifier.create(showService.scheduleShows(template))
+            .expectNextMatches(show -> show.getShowTime().equals(LocalDateTime.of(2026, 1, 1, 10, 0)))
+            .expectNextMatches(show -> show.getShowTime().equals(LocalDateTime.of(2026, 1, 1, 21, 0)))
+            .expectNextCount(12)
+            .verifyComplete();
+
+        verify(showBatchRepository, times(1)).insertAll(argThat(shows -> shows.size() == 14));
+        verify(publisher, times(1)).enqueue(argThat(events -> events.size() == 14));
+        verify(transactions, times(1)).transactional(any(Mono.class));
+        verify(catalogVersion, times(1)).bump();
+    }
+
+    @Test
+    void scheduleShows_shouldRejectInvalidTemplateWithoutWriting() {
+        ShowScheduleTemplate template = ShowScheduleTemplate.builder()
+            .movieId(UUID.randomUUID())
+            .screenId(UUID.randomUUID())
+            .startDate(LocalDate.of(2026, 1, 7))
+            .endDate(LocalDate.of(2026, 1, 1))
+            .slots(List.of(LocalTime.NOON))
+            .build();
+
+        StepVerifier.create(showService.scheduleShows(template))
+            .expectError(IllegalArgumentException.class)
+            .verify();
+
+        verifyNoInteractions(showBatchRepository, publisher);
+    }
+
+    @Test
+    void scheduleShows_shouldRejectSlotsCloserThanTheRuntime() {
+        ShowScheduleTemplate template = ShowScheduleTemplate.builder()
+            .movieId(movie.getId())
+            .screenId(UUID.randomUUID())
+            .startDate(LocalDate.of(2026, 1, 1))
+            .endDate(LocalDate.of(2026, 1, 2))
+            .slots(List.of(LocalTime.of(18, 0), LocalTime.of(20, 0)))
+            .build();
+
+        when(movieService.getMovieById(movie.getId())).thenReturn(Mono.just(movie));
+
+        StepVerifier.create(showService.scheduleShows(template))
+            .expectError(ShowConflictException.class)
+            .verify();
+
+        // Nothing from the rejected template stays reserved
+        template.setSlots(List.of(LocalTime.of(18, 0)));
+        when(showBatchRepository.insertAll(anyList())).thenReturn(Mono.just(2L));
+        when(showCityIndex.add(any(Show.class))).thenReturn(Mono.empty());
+
+        StepVerifier.create(showService.scheduleShows(template))
+            .expectNextCount(2)
+            .verifyComplete();
+    }
+
+    private Show show(UUID screenId, LocalDateTime showTime) {
+        return Show.builder()
+            .movieId(movie.getId())
+            .screenId(screenId)
+            .showTime(showTime)
+            .price(BigDecimal.TEN)
+            .build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,85 @@
+package com.app.moviecatalog.v1.service.theatre;
+
+import com.app.moviecatalog.v1.common.version.CatalogVersion;
+import com.app.moviecatalog.v1.domain.Theatre;
+import com.app.moviecatalog.v1.eventsream.publisher.CatalogChangePublisher;
+import com.app.moviecatalog.v1.repository.TheatreRepository;
+import com.app.moviecatalog.v1.service.show.ShowCityIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TheatreServiceImpl Unit Tests")
+class TheatreServiceImplTest {
+
+    @Mock
+    private TheatreRepository repository;
+
+    @Mock
+    private CatalogVersion catalogVersion;
+
+    @Mock
+    private ShowCityIndex showCityIndex;
+
+    @Mock
+    private CatalogChangePublisher changes;
+
+    @Mock
+    private TransactionalOperator transactions;
+
+    @InjectMocks
+    private TheatreServiceImpl theatreService;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactions.transactional(any(Mono.class)))
+            .thenAnswer(invocation -> invocation.getArgument(0));
+        lenient().when(repository.save(any(Theatre.class)))
+            .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+    }
+
+    @Test
+    @DisplayName("Should save the theatre, publish its change and index its city")
+    void create_PublishesAndIndexes() {
+        Theatre theatre = Theatre.builder().name("PVR Forum").city("Bengaluru").build();
+        when(changes.theatreCreated(any(Theatre.class))).thenReturn(Mono.empty());
+
+        StepVerifier.create(theatreService.create(theatre))
+            .expectNextMatches(saved -> saved.getId() != null && saved.getCity().equals("Bengaluru"))
+            .verifyComplete();
+
+        verify(changes).theatreCreated(theatre);
+        verify(transactions).transactional(any(Mono.class));
+        verify(catalogVersion).bump();
+        verify(showCityIndex).addTheatre(theatre);
+    }
+
+    @Test
+    @DisplayName("Should leave the version and index alone when the change cannot be written")
+    void create_PublishFails() {
+        Theatre theatre = Theatre.builder().name("PVR Forum").city("Bengaluru").build();
+        when(changes.theatreCreated(any(Theatre.class)))
+            .thenReturn(Mono.error(new IllegalStateException("outbox down")));
+
+        StepVerifier.create(theatreService.create(theatre))
+            .verifyErrorMessage("outbox down");
+
+        verify(catalogVersion, never()).bump();
+        verifyNoInteractions(showCityIndex);
+    }
+}
\ No newline at end of file